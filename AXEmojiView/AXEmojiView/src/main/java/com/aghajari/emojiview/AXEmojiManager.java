@@ -2,6 +2,8 @@ package com.aghajari.emojiview;
 
 import android.content.Context;
 import android.graphics.Paint;
+import android.os.Handler;
+import android.os.Looper;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.appcompat.widget.AppCompatImageView;
@@ -15,20 +17,28 @@ import com.aghajari.emojiview.emoji.AXEmojiLoader;
 import com.aghajari.emojiview.emoji.Emoji;
 import com.aghajari.emojiview.emoji.EmojiCategory;
 import com.aghajari.emojiview.emoji.EmojiProvider;
+import com.aghajari.emojiview.emoji.EmojiRegistry;
 import com.aghajari.emojiview.listener.EditTextInputListener;
 import com.aghajari.emojiview.listener.EmojiVariantCreatorListener;
+import com.aghajari.emojiview.listener.OnEmojiInstalledListener;
 import com.aghajari.emojiview.listener.OnEmojiActions;
 import com.aghajari.emojiview.listener.StickerViewCreatorListener;
 import com.aghajari.emojiview.shared.RecentEmoji;
 import com.aghajari.emojiview.shared.RecentEmojiManager;
 import com.aghajari.emojiview.shared.VariantEmoji;
+import com.aghajari.emojiview.shared.VariantEmojiManager;
 import com.aghajari.emojiview.sticker.RecentSticker;
 import com.aghajari.emojiview.sticker.RecentStickerManager;
 import com.aghajari.emojiview.sticker.Sticker;
 import com.aghajari.emojiview.sticker.StickerCategory;
 import com.aghajari.emojiview.utils.EmojiRange;
+import com.aghajari.emojiview.utils.EmojiRangeReplacer;
 import com.aghajari.emojiview.utils.EmojiReplacer;
+import com.aghajari.emojiview.utils.EmojiMatcher;
 import com.aghajari.emojiview.utils.EmojiSpan;
+import com.aghajari.emojiview.utils.EmojiSpanReplacer;
+import com.aghajari.emojiview.utils.EmojiTextCache;
+import com.aghajari.emojiview.utils.SpanStartIndex;
 import com.aghajari.emojiview.utils.Utils;
 import com.aghajari.emojiview.variant.AXEmojiVariantPopup;
 import com.aghajari.emojiview.variant.AXSimpleEmojiVariantPopup;
@@ -42,12 +52,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class AXEmojiManager {
 
@@ -92,57 +104,108 @@ public class AXEmojiManager {
 	private static StickerViewCreatorListener stickerViewCreatorListener;
 	private static EmojiVariantCreatorListener emojiVariantCreatorListener;
 
-    private AXEmojiManager(){}
-
-    private static final Comparator<String> STRING_LENGTH_COMPARATOR = new Comparator<String>() {
-        @Override public int compare(final String first, final String second) {
-            final int firstLength = first.length();
-            final int secondLength = second.length();
-
-            return firstLength < secondLength ? 1 : firstLength == secondLength ? 0 : -1;
-        }
-    };
-
         private static final int GUESSED_UNICODE_AMOUNT = 3000;
-        private static final int GUESSED_TOTAL_PATTERN_LENGTH = GUESSED_UNICODE_AMOUNT * 4;
+        private static final int GUESSED_EMOJI_RANGES = 64;
 
 
-        private static final EmojiReplacer DEFAULT_EMOJI_REPLACER = new EmojiReplacer() {
+        private static final EmojiSpanReplacer DEFAULT_EMOJI_REPLACER = new EmojiSpanReplacer() {
+            private final ThreadLocal<int[]> emojiRanges = new ThreadLocal<>();
+
             @Override
             public void replaceWithImages(final Context context, final Spannable text, final float emojiSize, final Paint.FontMetrics fontMetrics, final float defaultEmojiSize, final EmojiReplacer fallback) {
                 if (text.length()==0) return;
+                final int found = findAll(AXEmojiManager.getInstance(), text, 0, text.length());
+                setEmojiSpans(context, text, emojiRanges.get(), 0, found, emojiSize, fontMetrics, defaultEmojiSize);
+            }
+
+            @Override
+            public int findEmojis(final CharSequence text, final int start, final int end, final int[] ranges) {
                 final AXEmojiManager emojiManager = AXEmojiManager.getInstance();
-                final EmojiSpan[] existingSpans = text.getSpans(0, text.length(), EmojiSpan.class);
-                final List<Integer> existingSpanPositions = new ArrayList<>(existingSpans.length);
+                return emojiManager == null ? 0 : emojiManager.findAllEmojis(text, start, end, ranges);
+            }
 
-                final int size = existingSpans.length;
-                //noinspection ForLoopReplaceableByForEach
-                for (int i = 0; i < size; i++) {
-                    existingSpanPositions.add(text.getSpanStart(existingSpans[i]));
+            @Override
+            public void setEmojiSpans(final Context context, final Spannable text, final int[] ranges, final int from, final int count, final float emojiSize, final Paint.FontMetrics fontMetrics, final float defaultEmojiSize) {
+                if (count <= 0) return;
+                final AXEmojiManager emojiManager = AXEmojiManager.getInstance();
+                final int end = (from + count) * 3;
+                final SpanStartIndex existingSpans = SpanStartIndex.of(text, text.getSpans(ranges[from * 3], ranges[end - 2], EmojiSpan.class));
+
+                // the ranges are in text order, so this is a single merge with the existing spans
+                for (int i = from * 3; i < end; i += 3) {
+                    final int start = ranges[i];
+
+                    if (!existingSpans.containsNext(start)) {
+                        text.setSpan(new EmojiSpan(context, emojiManager.getEmoji(ranges[i + 2]), emojiSize),
+                                start, ranges[i + 1], Spannable.SPAN_EXCLUSIVE_EXCLUSIVE);
+                    }
                 }
+            }
 
-                final List<EmojiRange> findAllEmojis = emojiManager.findAllEmojis(text);
+            @Override
+            public void replaceWithImages(final Context context, final Spannable text, int start, int end, final float emojiSize, final Paint.FontMetrics fontMetrics, final float defaultEmojiSize) {
+                final AXEmojiManager emojiManager = AXEmojiManager.getInstance();
 
+                // spans touching the window are rebuilt, so the window has to cover them completely
+                final EmojiSpan[] existingSpans = text.getSpans(start, end, EmojiSpan.class);
                 //noinspection ForLoopReplaceableByForEach
-                for (int i = 0; i < findAllEmojis.size(); i++) {
-                    final EmojiRange location = findAllEmojis.get(i);
+                for (int i = 0; i < existingSpans.length; i++) {
+                    start = Math.min(start, text.getSpanStart(existingSpans[i]));
+                    end = Math.max(end, text.getSpanEnd(existingSpans[i]));
+                    text.removeSpan(existingSpans[i]);
+                }
+                if (start >= end) return;
 
-                    if (!existingSpanPositions.contains(location.start)) {
-                        text.setSpan(new EmojiSpan(context, location.emoji, emojiSize),
-                                location.start, location.end, Spannable.SPAN_EXCLUSIVE_EXCLUSIVE);
-                    }
+                final int found = findAll(emojiManager, text, start, end);
+                final int[] ranges = emojiRanges.get();
+
+                for (int i = 0; i < found * 3; i += 3) {
+                    text.setSpan(new EmojiSpan(context, emojiManager.getEmoji(ranges[i + 2]), emojiSize),
+                            ranges[i], ranges[i + 1], Spannable.SPAN_EXCLUSIVE_EXCLUSIVE);
                 }
             }
+
+            private int findAll(final AXEmojiManager emojiManager, final CharSequence text, final int start, final int end) {
+                int[] ranges = emojiRanges.get();
+                if (ranges == null) ranges = new int[GUESSED_EMOJI_RANGES * 3];
+                int found = emojiManager.findAllEmojis(text, start, end, ranges);
+                if (found * 3 > ranges.length) {
+                    ranges = new int[found * 3];
+                    found = emojiManager.findAllEmojis(text, start, end, ranges);
+                }
+                emojiRanges.set(ranges);
+                return found;
+            }
         };
 
-        final Map<String, Emoji> emojiMap = new LinkedHashMap<>(GUESSED_UNICODE_AMOUNT);
-        private EmojiCategory[] categories;
-        private Pattern emojiPattern;
-        private Pattern emojiRepetitivePattern;
+        private final EmojiCategory[] categories;
+        private final EmojiMatcher emojiMatcher;
+        private final EmojiRegistry registry;
+        private final EmojiReplacer providerReplacer;
         static EmojiReplacer emojiReplacer;
+        /* the install during which setEmojiReplacer was called, publishing that install keeps the replacer */
+        private static int emojiReplacerGeneration = -1;
+
+        /* published once the whole instance is built, readers on any thread see a complete registry */
+        private static volatile AXEmojiManager INSTANCE = null;
+        private static volatile boolean installing = false;
+        private static final AtomicInteger installGeneration = new AtomicInteger();
+        private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+        /* main thread only */
+        private static final List<OnEmojiInstalledListener> installedListeners = new ArrayList<>();
+        private static final Map<View, Boolean> waitingViews = new WeakHashMap<>();
+
+        private AXEmojiManager(final EmojiProvider provider) {
+            categories = provider.getCategories();
+            providerReplacer = provider instanceof EmojiReplacer ? (EmojiReplacer) provider : DEFAULT_EMOJI_REPLACER;
+
+            registry = EmojiRegistry.create(categories, GUESSED_UNICODE_AMOUNT);
+            if (registry.isEmpty()) {
+                throw new IllegalArgumentException("Your EmojiProvider must at least have one category with at least one emoji.");
+            }
+            emojiMatcher = registry.getUnicodeRegistry().getMatcher();
+        }
 
-
-        static AXEmojiManager INSTANCE = null;
         public static AXEmojiManager getInstance() {
             return INSTANCE;
         }
@@ -151,13 +214,90 @@ public class AXEmojiManager {
             return INSTANCE!=null;
         }
 
+        /**
+         * @return true while an {@link #installAsync} is building the emojis.
+         */
+        public static boolean isInstalling() {
+            return installing;
+        }
+
         /**
          * Installs the given EmojiProvider.
          *
          * @param provider the provider that should be installed.
          */
         public static void install(Context context,final EmojiProvider provider) {
-            INSTANCE = new AXEmojiManager();
+            final int generation = installGeneration.incrementAndGet();
+            resetSettings(context);
+            publish(context, new AXEmojiManager(provider), generation);
+            // an installAsync in progress is dropped, its listeners get this install
+            installing = false;
+            notifyInstalled();
+        }
+
+        /**
+         * Same as {@link #install(Context, EmojiProvider)}, but creates the provider and the registry on a background thread.
+         * The views show plain text meanwhile and render their emojis once it's published, then the listener is called.
+         * Settings must be changed after this call (or in the listener), installing resets them.
+         *
+         * @param provider creates the provider, on the background thread.
+         * @param listener called on the main thread once the emojis are installed, may be null.
+         * @return the installed manager, once it's published.
+         */
+        public static Future<AXEmojiManager> installAsync(final Context context, final Callable<? extends EmojiProvider> provider, @Nullable final OnEmojiInstalledListener listener) {
+            final int generation = installGeneration.incrementAndGet();
+            final Context appContext = context.getApplicationContext();
+            resetSettings(context);
+            installing = true;
+            if (listener != null) installedListeners.add(listener);
+
+            final FutureTask<AXEmojiManager> task = new FutureTask<>(new Callable<AXEmojiManager>() {
+                @Override
+                public AXEmojiManager call() throws Exception {
+                    try {
+                        final AXEmojiManager manager = new AXEmojiManager(provider.call());
+                        if (!publish(appContext, manager, generation)) {
+                            throw new CancellationException("installed again");
+                        }
+                        return manager;
+                    } catch (CancellationException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        // the views keep showing plain text
+                        e.printStackTrace();
+                        throw e;
+                    } finally {
+                        mainHandler.post(new Runnable() {
+                            @Override
+                            public void run() {
+                                if (generation != installGeneration.get()) return;
+                                installing = false;
+                                if (isInstalled()) notifyInstalled();
+                            }
+                        });
+                    }
+                }
+            });
+
+            final Thread thread = new Thread(task, "emojiInstaller");
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            thread.start();
+            return task;
+        }
+
+        /**
+         * @see #installAsync(Context, Callable, OnEmojiInstalledListener)
+         */
+        public static Future<AXEmojiManager> installAsync(final Context context, final EmojiProvider provider, @Nullable final OnEmojiInstalledListener listener) {
+            return installAsync(context, new Callable<EmojiProvider>() {
+                @Override
+                public EmojiProvider call() {
+                    return provider;
+                }
+            }, listener);
+        }
+
+        private static void resetSettings(Context context) {
             mEmojiTheme = new AXEmojiTheme();
             mStickerTheme = new AXEmojiTheme();
             recentEmoji=null;
@@ -167,105 +307,219 @@ public class AXEmojiManager {
 
             setMaxRecentSize(48);
             setMaxStickerRecentSize(Utils.getStickerGridCount(context)*3);
-            INSTANCE.categories = provider.getCategories();
-            INSTANCE.emojiMap.clear();
-            emojiReplacer = provider instanceof EmojiReplacer ? (EmojiReplacer) provider : DEFAULT_EMOJI_REPLACER;
             inputListener = defaultInputListener;
             stickerViewCreatorListener = defaultStickerCreator;
             emojiVariantCreatorListener = defaultVariantCreatorListener;
+        }
 
-            final List<String> unicodesForPattern = new ArrayList<>(GUESSED_UNICODE_AMOUNT);
-
-            final int categoriesSize = INSTANCE.categories.length;
-            //noinspection ForLoopReplaceableByForEach
-            for (int i = 0; i < categoriesSize; i++) {
-                final Emoji[] emojis = INSTANCE.categories[i].getEmojis();
-
-                final int emojisSize = emojis.length;
-                //noinspection ForLoopReplaceableByForEach
-                for (int j = 0; j < emojisSize; j++) {
-                    final Emoji emoji = emojis[j];
-                    final String unicode = emoji.getUnicode();
-                    final List<Emoji> variants = emoji.getVariants();
-
-                    INSTANCE.emojiMap.put(unicode, emoji);
-                    unicodesForPattern.add(unicode);
-
-                    //noinspection ForLoopReplaceableByForEach
-                    for (int k = 0; k < variants.size(); k++) {
-                        final Emoji variant = variants.get(k);
-                        final String variantUnicode = variant.getUnicode();
+        /**
+         * @return false if another install started meanwhile, this one is dropped then.
+         */
+        private static synchronized boolean publish(Context context, AXEmojiManager manager, int generation) {
+            if (generation != installGeneration.get()) return false;
+            if (emojiReplacerGeneration != generation) emojiReplacer = manager.providerReplacer;
+            INSTANCE = manager;
+            // the cached ranges have the ids of the previous instance
+            final EmojiTextCache cache = emojiTextCache;
+            if (cache != null) cache.evictAll();
+
+            // reads the recents and variants on a background thread, the emoji view doesn't have to wait for the disk
+            RecentEmojiManager.preload(context);
+            VariantEmojiManager.preload(context);
+            return true;
+        }
 
-                        INSTANCE.emojiMap.put(variantUnicode, variant);
-                        unicodesForPattern.add(variantUnicode);
-                    }
+        private static void notifyInstalled() {
+            if (!installedListeners.isEmpty()) {
+                final OnEmojiInstalledListener[] listeners = installedListeners.toArray(new OnEmojiInstalledListener[0]);
+                installedListeners.clear();
+                for (OnEmojiInstalledListener listener : listeners) {
+                    listener.onEmojiInstalled();
                 }
             }
-
-            if (unicodesForPattern.isEmpty()) {
-                throw new IllegalArgumentException("Your EmojiProvider must at least have one category with at least one emoji.");
+            if (!waitingViews.isEmpty()) {
+                final View[] views = waitingViews.keySet().toArray(new View[0]);
+                waitingViews.clear();
+                for (View view : views) {
+                    if (view != null) ((OnEmojiInstalledListener) view).onEmojiInstalled();
+                }
             }
+        }
 
-            // We need to sort the unicodes by length so the longest one gets matched first.
-            Collections.sort(unicodesForPattern, STRING_LENGTH_COMPARATOR);
-
-            final StringBuilder patternBuilder = new StringBuilder(GUESSED_TOTAL_PATTERN_LENGTH);
-
-            final int unicodesForPatternSize = unicodesForPattern.size();
-            for (int i = 0; i < unicodesForPatternSize; i++) {
-                patternBuilder.append(Pattern.quote(unicodesForPattern.get(i))).append('|');
+        /**
+         * Calls the listener on the main thread once the emojis are installed, right away if they already are.
+         * Must be called on the main thread.
+         */
+        public static void addOnInstalledListener(@NonNull OnEmojiInstalledListener listener) {
+            if (isInstalled() && !installing) {
+                listener.onEmojiInstalled();
+            } else {
+                installedListeners.add(listener);
             }
+        }
 
-            final String regex = patternBuilder.deleteCharAt(patternBuilder.length() - 1).toString();
-            INSTANCE.emojiPattern = Pattern.compile(regex);
-            INSTANCE.emojiRepetitivePattern = Pattern.compile('(' + regex + ")+");
+        public static void removeOnInstalledListener(@NonNull OnEmojiInstalledListener listener) {
+            installedListeners.remove(listener);
+        }
+
+        /**
+         * A view which had to show plain text during {@link #installAsync} renders its emojis once they're installed.
+         * The view is held weakly and does nothing if no install is in progress. Must be called on the main thread.
+         */
+        public static <V extends View & OnEmojiInstalledListener> void renderWhenInstalled(@NonNull V view) {
+            if (installing) waitingViews.put(view, Boolean.TRUE);
         }
 
         public static void destroy() {
-            if (isInstalled()) {
-                INSTANCE.emojiMap.clear();
-                INSTANCE.categories = null;
-                INSTANCE.emojiPattern = null;
-                INSTANCE.emojiRepetitivePattern = null;
+            installGeneration.incrementAndGet();
+            installing = false;
+            final AXEmojiManager instance = INSTANCE;
+            if (instance != null) {
                 INSTANCE = null;
+                for (int i = 0; i < instance.registry.size(); i++) {
+                    instance.registry.getEmoji(i).destroy();
+                }
             }
+            final EmojiTextCache cache = emojiTextCache;
+            if (cache != null) cache.evictAll();
         }
 
         public void replaceWithImages(final Context context, final Spannable text, final float emojiSize, final Paint.FontMetrics fontMetrics, final float defaultEmojiSize) {
             if (INSTANCE==null) return;
+            final EmojiTextCache cache = emojiTextCache;
+            if (cache != null && emojiReplacer instanceof EmojiSpanReplacer) {
+                cache.replaceWithImages(context, text, emojiSize, fontMetrics, defaultEmojiSize, (EmojiSpanReplacer) emojiReplacer);
+                return;
+            }
             emojiReplacer.replaceWithImages(context, text, emojiSize, fontMetrics,defaultEmojiSize, DEFAULT_EMOJI_REPLACER);
         }
 
+    /**
+     * Replaces the emojis of an edited region only, [start, end) is the text which has been inserted
+     * (start == end for a deletion). The region is widened to the whole emoji sequences around it,
+     * so joining a ZWJ, a skin tone or a variation selector to an emoji re-renders the entire sequence.
+     * Falls back to a full replace if the current replacer doesn't support ranges.
+     */
+    public void replaceWithImages(final Context context, final Spannable text, final float emojiSize, final Paint.FontMetrics fontMetrics, final float defaultEmojiSize, final int start, final int end) {
+            if (INSTANCE==null) return;
+            if (!(emojiReplacer instanceof EmojiRangeReplacer)) {
+                replaceWithImages(context, text, emojiSize, fontMetrics, defaultEmojiSize);
+                return;
+            }
+
+            final int length = text.length();
+            final int rangeStart = findSequenceStart(text, Math.max(0, Math.min(start, length)));
+            final int rangeEnd = findSequenceEnd(text, Math.max(rangeStart, Math.min(end, length)));
+            ((EmojiRangeReplacer) emojiReplacer).replaceWithImages(context, text, rangeStart, rangeEnd, emojiSize, fontMetrics, defaultEmojiSize);
+        }
+
+    private int findSequenceStart(final CharSequence text, int index) {
+            // the emoji before the edit may continue into it, step back over the whole sequence
+            final int limit = Math.max(0, index - emojiMatcher.getMaxLength());
+            while (index > limit && isSequenceContinuation(text, index)) index--;
+            if (index > 0) index--;
+            while (index > limit && isSequenceContinuation(text, index)) index--;
+            return index;
+        }
+
+    /**
+     * @return the first index from index on which doesn't continue the emoji sequence before it,
+     * so a range which ends there doesn't cut a sequence.
+     */
+    public int findSequenceEnd(final CharSequence text, int index) {
+            final int length = text.length();
+            final int limit = Math.min(length, index + emojiMatcher.getMaxLength());
+            while (index < limit && isSequenceContinuation(text, index)) index++;
+            return index;
+        }
+
+    /**
+     * @return true if the char at index can't start an emoji by itself and belongs to the sequence before it:
+     * low surrogates, ZWJ, variation selectors, keycaps, skin tones, regional indicators, tags and anything after a ZWJ.
+     */
+    private static boolean isSequenceContinuation(final CharSequence text, final int index) {
+            if (index <= 0 || index >= text.length()) return false;
+            final char c = text.charAt(index);
+            if (Character.isLowSurrogate(c)) return true;
+            if (c == '\u200D' || c == '\uFE0F' || c == '\uFE0E' || c == '\u20E3') return true;
+            if (text.charAt(index - 1) == '\u200D') return true;
+            if (c == '\uDB40') return true;
+            if (c == '\uD83C' && index + 1 < text.length()) {
+                final char next = text.charAt(index + 1);
+                return (next >= '\uDFFB' && next <= '\uDFFF') || (next >= '\uDDE6' && next <= '\uDDFF');
+            }
+            return false;
+        }
+
     public EmojiCategory[] getCategories() {
             return categories;
     }
 
-        Pattern getEmojiRepetitivePattern() {
-            return emojiRepetitivePattern;
+        EmojiMatcher getEmojiMatcher() {
+            return emojiMatcher;
         }
 
     public List<EmojiRange> findAllEmojis(final CharSequence text) {
             final List<EmojiRange> result = new ArrayList<>();
 
-            if (!TextUtils.isEmpty(text)) {
-                final Matcher matcher = emojiPattern.matcher(text);
+            findAllEmojis(text, new EmojiMatcher.Callback() {
+                @Override
+                public void onEmojiFound(int start, int end, int id) {
+                    result.add(new EmojiRange(start, end, registry.getEmoji(id)));
+                }
+            });
 
-                while (matcher.find()) {
-                    final Emoji found = findEmoji(text.subSequence(matcher.start(), matcher.end()));
+            return result;
+        }
 
-                    if (found != null) {
-                        result.add(new EmojiRange(matcher.start(), matcher.end(), found));
-                    }
-                }
+    /**
+     * Reports every emoji of the text to the callback, without allocating anything.
+     * Use {@link #getEmoji(int)} to get the emoji of an id.
+     */
+    public void findAllEmojis(final CharSequence text, final EmojiMatcher.Callback callback) {
+            if (!TextUtils.isEmpty(text)) {
+                emojiMatcher.scan(text, 0, text.length(), callback);
             }
+        }
 
-            return result;
+    /**
+     * Fills the caller-owned ranges with (start, end, emoji id) triples, without allocating anything.
+     * Only {@code ranges.length / 3} emojis are written, the result is the number of all emojis found,
+     * so the caller can grow the buffer and call it again when it wasn't big enough.
+     *
+     * @return the number of emojis found in the text.
+     */
+    public int findAllEmojis(final CharSequence text, final int[] ranges) {
+            if (TextUtils.isEmpty(text)) return 0;
+            return emojiMatcher.find(text, 0, text.length(), ranges);
+        }
+
+    /**
+     * Same as {@link #findAllEmojis(CharSequence, int[])}, only scans the text between start and end.
+     */
+    public int findAllEmojis(final CharSequence text, final int start, final int end, final int[] ranges) {
+            if (TextUtils.isEmpty(text) || start >= end) return 0;
+            return emojiMatcher.find(text, start, end, ranges);
+        }
+
+    /**
+     * @return the emoji of an id reported by {@link #findAllEmojis(CharSequence, int[])}.
+     */
+    public Emoji getEmoji(final int id) {
+            return registry.getEmoji(id);
+        }
+
+    /**
+     * @return the ids of the installed emojis, ids of {@link #findAllEmojis(CharSequence, int[])} are the same.
+     */
+    public EmojiRegistry getRegistry() {
+            return registry;
         }
 
         public Emoji findEmoji(final CharSequence candidate) {
-            // We need to call toString on the candidate, since the emojiMap may not find the requested entry otherwise, because
-            // the type is different.
-            return emojiMap.get(candidate.toString());
+            // The matcher walks the chars directly, so the candidate doesn't need to be a String.
+            final int id = emojiMatcher.indexOf(candidate);
+            return id < 0 ? null : registry.getEmoji(id);
         }
 
         static AXEmojiTheme mEmojiTheme;
@@ -409,6 +663,51 @@ public class AXEmojiManager {
         AXEmojiManager.asyncLoad = asyncLoad;
     }
 
+    static boolean gridRenderer = false;
+
+    public static boolean isGridRendererEnabled() {
+        return gridRenderer;
+    }
+
+    /**
+     * draw each row of the emoji pages on a single view instead of creating a view for every emoji,
+     * ignored while a custom {@link AXEmojiLoader} is set
+     * default is false;
+     */
+    public static void setGridRendererEnabled(boolean gridRenderer) {
+        AXEmojiManager.gridRenderer = gridRenderer;
+    }
+
+    static boolean timeSlicedSpans = true;
+
+    public static boolean isTimeSlicedSpansEnabled() {
+        return timeSlicedSpans;
+    }
+
+    /**
+     * render the first screen of a long text right away and the rest of its emojis on the next frames,
+     * instead of stopping after 50 emojis on the platforms where many emoji spans are slow to lay out
+     * default is true;
+     */
+    public static void setTimeSlicedSpansEnabled(boolean timeSlicedSpans) {
+        AXEmojiManager.timeSlicedSpans = timeSlicedSpans;
+    }
+
+    static volatile EmojiTextCache emojiTextCache = null;
+
+    @Nullable
+    public static EmojiTextCache getEmojiTextCache() {
+        return emojiTextCache;
+    }
+
+    /**
+     * cache the emojis found in the texts which are rendered again and again, null to disable it
+     * default is null;
+     */
+    public static void setEmojiTextCache(@Nullable EmojiTextCache cache) {
+        AXEmojiManager.emojiTextCache = cache;
+    }
+
     static RecentEmoji recentEmoji;
     static RecentSticker recentSticker;
     static VariantEmoji variantEmoji;
@@ -473,11 +772,15 @@ public class AXEmojiManager {
     /**
      * set Emoji replacer
      */
-    public static void setEmojiReplacer(EmojiReplacer emojiReplacer) {
+    public static synchronized void setEmojiReplacer(EmojiReplacer emojiReplacer) {
         AXEmojiManager.emojiReplacer = emojiReplacer;
+        emojiReplacerGeneration = installGeneration.get();
         if (emojiReplacer==null) {
         	AXEmojiManager.emojiReplacer = AXEmojiManager.DEFAULT_EMOJI_REPLACER;
         }
+        // the cached ranges were found by the previous replacer
+        final EmojiTextCache cache = emojiTextCache;
+        if (cache != null) cache.evictAll();
     }
     
     public static void setEditTextInputListener(EditTextInputListener listener) {
@@ -517,6 +820,10 @@ public class AXEmojiManager {
         return emojiLoader;
     }
 
+    public EmojiReplacer getEmojiReplacer() {
+        return emojiReplacer;
+    }
+
     public static void disableRecentManagers(){
         recentSticker =  new RecentSticker() {
             @SuppressWarnings("rawtypes")
@@ -541,6 +848,11 @@ public class AXEmojiManager {
             public Collection<Emoji> getRecentEmojis() {
                 return Arrays.asList(new Emoji[0]);
             }
+            @NonNull
+            @Override
+            public List<Emoji> getRecentEmojisSnapshot() {
+                return Collections.emptyList();
+            }
             @Override
             public void addEmoji(@NonNull Emoji emoji) { }
             @Override
@@ -4,6 +4,7 @@ import android.content.Context;
 import android.graphics.Paint;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.core.text.PrecomputedTextCompat;
 import android.text.SpannableStringBuilder;
 import android.text.TextUtils;
 import android.view.KeyEvent;
@@ -11,27 +12,21 @@ import android.widget.EditText;
 
 import com.aghajari.emojiview.emoji.Emoji;
 import com.aghajari.emojiview.utils.EmojiRange;
+import com.aghajari.emojiview.utils.PreparedEmojiText;
 import com.aghajari.emojiview.utils.Utils;
 
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 public final class AXEmojiUtils {
-  private static final Pattern SPACE_REMOVAL = Pattern.compile("[\\s]");
 
   /** returns true when the string contains only emojis. Note that whitespace will be filtered out. */
   public static boolean isOnlyEmojis(@Nullable final CharSequence text) {
-    if (!TextUtils.isEmpty(text)) {
-      final String inputWithoutSpaces = SPACE_REMOVAL.matcher(text).replaceAll(Matcher.quoteReplacement(""));
-
-      return AXEmojiManager.getInstance()
-            .getEmojiRepetitivePattern()
-            .matcher(inputWithoutSpaces)
-            .matches();
-    }
-
-    return false;
+    if (TextUtils.isEmpty(text)) return false;
+    return AXEmojiManager.getInstance().getRegistry().getUnicodeRegistry().isOnlyEmojis(text);
   }
 
   /** returns the emojis that were found in the given text */
@@ -41,7 +36,8 @@ public final class AXEmojiUtils {
 
   /** returns the number of all emojis that were found in the given text */
   public static int getEmojisCount(@Nullable final CharSequence text) {
-    return getEmojis(text).size();
+    if (TextUtils.isEmpty(text)) return 0;
+    return AXEmojiManager.getInstance().getEmojiMatcher().count(text);
   }
 
   public static SpannableStringBuilder replaceWithEmojis(Context context,Paint.FontMetrics fontMetrics, final CharSequence rawText,float emojiSize) {
@@ -73,6 +69,37 @@ public final class AXEmojiUtils {
     return spannableStringBuilder;
   }
 
+  /**
+   * Replaces the emojis of the text and measures it on the executor, so a list can prepare its texts ahead of binding
+   * (e.g. during RecyclerView prefetch) and bind them with {@link com.aghajari.emojiview.view.AXEmojiTextView#setPreparedText}.
+   * The emoji size is the height of the font of the params.
+   *
+   * @param textParams the params of the TextView the text is shown in, {@code TextViewCompat.getTextMetricsParams(textView)}
+   */
+  @NonNull public static Future<PreparedEmojiText> prepareAsync(@NonNull final Context context, @Nullable final CharSequence text,
+                                                                @NonNull final PrecomputedTextCompat.Params textParams, @NonNull final Executor executor) {
+    final Paint.FontMetrics fontMetrics = textParams.getTextPaint().getFontMetrics();
+    return prepareAsync(context, text, textParams, fontMetrics.descent - fontMetrics.ascent, executor);
+  }
+
+  /**
+   * Same as {@link #prepareAsync(Context, CharSequence, PrecomputedTextCompat.Params, Executor)} with an emoji size in pixels.
+   */
+  @NonNull public static Future<PreparedEmojiText> prepareAsync(@NonNull final Context context, @Nullable final CharSequence text,
+                                                                @NonNull final PrecomputedTextCompat.Params textParams, final float emojiSize,
+                                                                @NonNull final Executor executor) {
+    // the spans outlive the caller, they shouldn't keep an activity
+    final Context appContext = context.getApplicationContext() != null ? context.getApplicationContext() : context;
+    final FutureTask<PreparedEmojiText> task = new FutureTask<>(new Callable<PreparedEmojiText>() {
+      @Override
+      public PreparedEmojiText call() {
+        return PreparedEmojiText.create(appContext, text, textParams, emojiSize);
+      }
+    });
+    executor.execute(task);
+    return task;
+  }
+
   public static String getEmojiUnicode(@NonNull final int[] codePoints){
     return new Emoji(codePoints,-1).getUnicode();
   }
@@ -94,6 +121,6 @@ public final class AXEmojiUtils {
   }
 
   public static Emoji getEmojiFromUnicode (String unicode){
-    return AXEmojiManager.getInstance().emojiMap.get(unicode);
+    return AXEmojiManager.getInstance().findEmoji(unicode);
   }
 }
@@ -0,0 +1,151 @@
+package com.aghajari.emojiview.adapters;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.GridLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.aghajari.emojiview.AXEmojiManager;
+import com.aghajari.emojiview.emoji.Emoji;
+import com.aghajari.emojiview.listener.OnEmojiActions;
+import com.aghajari.emojiview.shared.RecentEmoji;
+import com.aghajari.emojiview.shared.VariantEmoji;
+import com.aghajari.emojiview.view.AXEmojiGridRowView;
+
+import java.util.List;
+
+/**
+ * Binds a page of emojis row by row to {@link AXEmojiGridRowView}s,
+ * used instead of {@link AXEmojiRecyclerAdapter} and {@link AXRecentEmojiRecyclerAdapter}
+ * when the grid renderer is enabled.
+ */
+public class AXEmojiGridRecyclerAdapter extends RecyclerView.Adapter<AXEmojiGridRecyclerAdapter.ViewHolder> {
+    Emoji[] emojis;
+    RecentEmoji recentEmoji;
+    List<Emoji> recentEmojis;
+    int columns;
+    OnEmojiActions events;
+    VariantEmoji variantEmoji;
+
+    /**
+     * Makes every row take the full width of the {@link GridLayoutManager}.
+     */
+    public static GridLayoutManager.SpanSizeLookup createFullSpanSizeLookup(final GridLayoutManager layoutManager) {
+        return new GridLayoutManager.SpanSizeLookup() {
+            @Override
+            public int getSpanSize(int position) {
+                return layoutManager.getSpanCount();
+            }
+        };
+    }
+
+    public AXEmojiGridRecyclerAdapter(Emoji[] emojis, int columns, OnEmojiActions events, VariantEmoji variantEmoji) {
+        this.emojis = emojis;
+        this.columns = columns;
+        this.events = events;
+        this.variantEmoji = variantEmoji;
+    }
+
+    public AXEmojiGridRecyclerAdapter(RecentEmoji recentEmoji, int columns, OnEmojiActions events, VariantEmoji variantEmoji) {
+        this.recentEmoji = recentEmoji;
+        this.recentEmojis = recentEmoji.getRecentEmojisSnapshot();
+        this.emojis = recentEmojis.toArray(new Emoji[0]);
+        this.columns = columns;
+        this.events = events;
+        this.variantEmoji = variantEmoji;
+    }
+
+    public boolean isRecent() {
+        return recentEmoji != null;
+    }
+
+    /**
+     * Updates the recent page to the current recent emojis, only the rows which changed are rebound.
+     */
+    public void refresh() {
+        if (recentEmoji == null) return;
+        final List<Emoji> newEmojis = recentEmoji.getRecentEmojisSnapshot();
+        if (newEmojis == recentEmojis) return;
+
+        final Emoji[] oldRows = emojis;
+        final Emoji[] newRows = newEmojis.toArray(new Emoji[0]);
+        DiffUtil.DiffResult result = DiffUtil.calculateDiff(new DiffUtil.Callback() {
+            @Override
+            public int getOldListSize() {
+                return getRowsCount(oldRows.length);
+            }
+
+            @Override
+            public int getNewListSize() {
+                return getRowsCount(newRows.length);
+            }
+
+            @Override
+            public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+                // a row is the same while it shows the same emojis, like the items of AXRecentEmojiRecyclerAdapter
+                return rowEquals(oldRows, oldItemPosition, newRows, newItemPosition);
+            }
+
+            @Override
+            public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+                return true;
+            }
+        }, true);
+        recentEmojis = newEmojis;
+        emojis = newRows;
+        result.dispatchUpdatesTo(this);
+    }
+
+    private boolean rowEquals(Emoji[] oldEmojis, int oldRow, Emoji[] newEmojis, int newRow) {
+        final int oldStart = oldRow * columns, newStart = newRow * columns;
+        final int count = Math.min(columns, oldEmojis.length - oldStart);
+        if (count != Math.min(columns, newEmojis.length - newStart)) return false;
+        for (int i = 0; i < count; i++) {
+            if (!oldEmojis[oldStart + i].equals(newEmojis[newStart + i])) return false;
+        }
+        return true;
+    }
+
+    @NonNull
+    @Override
+    public ViewHolder onCreateViewHolder(@NonNull ViewGroup viewGroup, int i) {
+        AXEmojiGridRowView rowView = new AXEmojiGridRowView(viewGroup.getContext(), columns);
+        rowView.setLayoutParams(new RecyclerView.LayoutParams(-1, -2));
+        return new ViewHolder(rowView);
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull ViewHolder viewHolder, int i) {
+        AXEmojiGridRowView rowView = (AXEmojiGridRowView) viewHolder.itemView;
+        int start = i * columns;
+        rowView.setEmojis(emojis, start, Math.min(columns, emojis.length - start), variantEmoji);
+
+        if (recentEmoji != null) {
+            rowView.setOnEmojiActions(events, true);
+            if (!AXEmojiManager.getInstance().isRecentVariantEnabled()) {
+                rowView.showVariants = false;
+            } else {
+                rowView.showVariants = AXEmojiManager.getTheme().isVariantDividerEnabled();
+            }
+        } else {
+            rowView.setOnEmojiActions(events, false);
+        }
+    }
+
+    @Override
+    public int getItemCount() {
+        return getRowsCount(emojis.length);
+    }
+
+    private int getRowsCount(int count) {
+        return (count + columns - 1) / columns;
+    }
+
+    public class ViewHolder extends RecyclerView.ViewHolder {
+        public ViewHolder(@NonNull View itemView) {
+            super(itemView);
+        }
+    }
+}
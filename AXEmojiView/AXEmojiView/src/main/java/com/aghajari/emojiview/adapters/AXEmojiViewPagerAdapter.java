@@ -2,6 +2,7 @@ package com.aghajari.emojiview.adapters;
 
 import androidx.annotation.NonNull;
 import androidx.viewpager.widget.PagerAdapter;
+import androidx.recyclerview.widget.GridLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 import android.view.View;
 import android.view.ViewGroup;
@@ -52,12 +53,24 @@ public class AXEmojiViewPagerAdapter extends PagerAdapter {
         if (recycler==null) recycler = new AXEmojiRecyclerView(collection.getContext(),findVariantListener);
         collection.addView(recycler);
 
+        GridLayoutManager lm = (GridLayoutManager) recycler.getLayoutManager();
+        if (AXEmojiManager.isGridRendererEnabled() && AXEmojiManager.getInstance().getEmojiLoader() == null) {
+            lm.setSpanSizeLookup(AXEmojiGridRecyclerAdapter.createFullSpanSizeLookup(lm));
+            if (position == 0 && add == 1) {
+                recycler.setAdapter(new AXEmojiGridRecyclerAdapter(recentEmoji, lm.getSpanCount(), events, variantEmoji));
+            } else {
+                recycler.setAdapter(new AXEmojiGridRecyclerAdapter(AXEmojiManager.getInstance().getCategories()[position - add].getEmojis(),
+                        lm.getSpanCount(), events, variantEmoji));
+            }
+        } else {
+            lm.setSpanSizeLookup(new GridLayoutManager.DefaultSpanSizeLookup());
             if (position == 0 && add == 1) {
                 recycler.setAdapter(new AXRecentEmojiRecyclerAdapter(recentEmoji, events, variantEmoji));
             } else {
                 recycler.setAdapter(new AXEmojiRecyclerAdapter(AXEmojiManager.getInstance().getCategories()[position - add].getEmojis(),
                         events, variantEmoji));
             }
+        }
 
         recyclerViews.add(recycler);
         if (itemDecoration!=null){
@@ -71,6 +84,20 @@ public class AXEmojiViewPagerAdapter extends PagerAdapter {
         return  recycler;
     }
 
+    /**
+     * Applies the changes of the recent emojis to the recent page, if it's instantiated.
+     */
+    public void refreshRecentPage() {
+        for (AXEmojiRecyclerView recyclerView : recyclerViews) {
+            RecyclerView.Adapter adapter = recyclerView.getAdapter();
+            if (adapter instanceof AXRecentEmojiRecyclerAdapter) {
+                ((AXRecentEmojiRecyclerAdapter) adapter).refresh();
+            } else if (adapter instanceof AXEmojiGridRecyclerAdapter && ((AXEmojiGridRecyclerAdapter) adapter).isRecent()) {
+                ((AXEmojiGridRecyclerAdapter) adapter).refresh();
+            }
+        }
+    }
+
     @Override
     public int getCount() {
         if (!recentEmoji.isEmpty()) {add = 1;}else{add=0;}
@@ -1,6 +1,7 @@
 package com.aghajari.emojiview.adapters;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 import android.view.View;
 import android.view.ViewGroup;
@@ -14,15 +15,52 @@ import com.aghajari.emojiview.shared.VariantEmoji;
 import com.aghajari.emojiview.utils.Utils;
 import com.aghajari.emojiview.view.AXEmojiImageView;
 
+import java.util.List;
+
 public class AXRecentEmojiRecyclerAdapter extends RecyclerView.Adapter<AXRecentEmojiRecyclerAdapter.ViewHolder> {
     RecentEmoji recentEmoji;
     OnEmojiActions events;
     VariantEmoji variantEmoji;
+    List<Emoji> emojis;
 
     public AXRecentEmojiRecyclerAdapter(RecentEmoji recentEmoji, OnEmojiActions events, VariantEmoji variantEmoji){
         this.recentEmoji = recentEmoji;
         this.events = events;
         this.variantEmoji =variantEmoji;
+        this.emojis = recentEmoji.getRecentEmojisSnapshot();
+    }
+
+    /**
+     * Updates the page to the current recent emojis, only the inserted, moved and removed ones are rebound.
+     */
+    public void refresh() {
+        final List<Emoji> oldEmojis = emojis;
+        final List<Emoji> newEmojis = recentEmoji.getRecentEmojisSnapshot();
+        if (oldEmojis == newEmojis) return;
+
+        DiffUtil.DiffResult result = DiffUtil.calculateDiff(new DiffUtil.Callback() {
+            @Override
+            public int getOldListSize() {
+                return oldEmojis.size();
+            }
+
+            @Override
+            public int getNewListSize() {
+                return newEmojis.size();
+            }
+
+            @Override
+            public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+                return oldEmojis.get(oldItemPosition).equals(newEmojis.get(newItemPosition));
+            }
+
+            @Override
+            public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+                return true;
+            }
+        }, true);
+        emojis = newEmojis;
+        result.dispatchUpdatesTo(this);
     }
 
     @NonNull
@@ -45,7 +83,7 @@ public class AXRecentEmojiRecyclerAdapter extends RecyclerView.Adapter<AXRecentE
         FrameLayout frameLayout = (FrameLayout) viewHolder.itemView;
         final AXEmojiImageView emojiView = (AXEmojiImageView) frameLayout.getChildAt(0);
 
-        Emoji emoji = variantEmoji.getVariant((Emoji) recentEmoji.getRecentEmojis().toArray()[i]);
+        Emoji emoji = variantEmoji.getVariant(emojis.get(i));
         emojiView.setEmoji(emoji);
         emojiView.setOnEmojiActions(events,true);
 
@@ -59,7 +97,7 @@ public class AXRecentEmojiRecyclerAdapter extends RecyclerView.Adapter<AXRecentE
 
     @Override
     public int getItemCount() {
-        return recentEmoji.getRecentEmojis().size();
+        return emojis.size();
     }
 
     public class ViewHolder extends RecyclerView.ViewHolder{
@@ -15,6 +15,7 @@ import com.aghajari.emojiview.listener.OnEmojiActions;
 import com.aghajari.emojiview.shared.RecentEmoji;
 import com.aghajari.emojiview.shared.VariantEmoji;
 import com.aghajari.emojiview.utils.Utils;
+import com.aghajari.emojiview.view.AXEmojiGridRowView;
 import com.aghajari.emojiview.view.AXEmojiImageView;
 
 import java.util.ArrayList;
@@ -30,6 +31,15 @@ public class AXSingleEmojiPageAdapter extends RecyclerView.Adapter<RecyclerView.
     public  List<Integer> titlesPosition = new ArrayList<Integer>();
     List<Emoji> emojis = new ArrayList<Emoji>();
 
+    /* grid renderer: the emojis of each item are rowSources[i][rowStarts[i], rowStarts[i] + rowCounts[i]) */
+    int recentsCount;
+    int columns;
+    int itemsCount;
+    int recentRowsCount;
+    Emoji[][] rowSources;
+    int[] rowStarts;
+    int[] rowCounts;
+
     public int getLastEmojiCategoryCount(){
         return categories[categories.length-1].getEmojis().length;
     }
@@ -39,6 +49,15 @@ public class AXSingleEmojiPageAdapter extends RecyclerView.Adapter<RecyclerView.
     }
 
     public AXSingleEmojiPageAdapter (EmojiCategory[] categories, OnEmojiActions events, RecentEmoji recentEmoji, VariantEmoji variantEmoji){
+        this(categories, events, recentEmoji, variantEmoji, 0);
+    }
+
+    /**
+     * @param columns draws the emojis row by row with {@link AXEmojiGridRowView}s of this many columns,
+     *                or one view per emoji if it's 0.
+     */
+    public AXSingleEmojiPageAdapter (EmojiCategory[] categories, OnEmojiActions events, RecentEmoji recentEmoji, VariantEmoji variantEmoji, int columns){
+        this.columns = columns;
         this.categories =categories;
         this.recentEmoji = recentEmoji;
         this.variantEmoji =variantEmoji;
@@ -77,6 +96,12 @@ public class AXSingleEmojiPageAdapter extends RecyclerView.Adapter<RecyclerView.
            lm.setFullSpan(true);
            frameLayout.setLayoutParams(lm);
            return new SpaceHolder(frameLayout);
+       }else if (columns > 0){
+           AXEmojiGridRowView rowView = new AXEmojiGridRowView(viewGroup.getContext(), columns);
+           StaggeredGridLayoutManager.LayoutParams lm = new StaggeredGridLayoutManager.LayoutParams(-1, -2);
+           lm.setFullSpan(true);
+           rowView.setLayoutParams(lm);
+           return new RowHolder(rowView);
        }else{
            FrameLayout frameLayout = new FrameLayout(viewGroup.getContext());
            AXEmojiImageView emojiView = new AXEmojiImageView(viewGroup.getContext());
@@ -96,6 +121,10 @@ public class AXSingleEmojiPageAdapter extends RecyclerView.Adapter<RecyclerView.
         if (viewHolder instanceof TitleHolder){
             EmojiCategory category = categories[titlesPosition.indexOf(i)];
             ((TextView)((FrameLayout) viewHolder.itemView).getChildAt(0)).setText(category.getTitle());
+        }else if (viewHolder instanceof RowHolder){
+            AXEmojiGridRowView rowView = (AXEmojiGridRowView) viewHolder.itemView;
+            rowView.setEmojis(rowSources[i], rowStarts[i], rowCounts[i], variantEmoji);
+            rowView.setOnEmojiActions(events, i <= recentRowsCount);
         }else if (viewHolder instanceof EmojiHolder){
             FrameLayout frameLayout = (FrameLayout) viewHolder.itemView;
             final AXEmojiImageView emojiView = (AXEmojiImageView) frameLayout.getChildAt(0);
@@ -107,13 +136,14 @@ public class AXSingleEmojiPageAdapter extends RecyclerView.Adapter<RecyclerView.
             //currentTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, emoji, null, null);
 
             boolean fromRecent = false;
-            if (i<recentEmoji.getRecentEmojis().size()) fromRecent = true;
+            if (i<=recentsCount) fromRecent = true;
             emojiView.setOnEmojiActions(events,fromRecent);
         }
     }
 
     @Override
     public int getItemCount() {
+        if (columns > 0) return itemsCount;
         return emojis.size();
     }
 
@@ -125,10 +155,11 @@ public class AXSingleEmojiPageAdapter extends RecyclerView.Adapter<RecyclerView.
     }
 
     int calItemsCount(){
+        if (columns > 0) return calRowsCount();
         emojis.add(null);
         int number = 0;
-        Emoji[] recents = new Emoji[recentEmoji.getRecentEmojis().size()];
-        recents = recentEmoji.getRecentEmojis().toArray(recents);
+        Emoji[] recents = recentEmoji.getRecentEmojisSnapshot().toArray(new Emoji[0]);
+        recentsCount = recents.length;
         number = number + recents.length;
         emojis.addAll(Arrays.asList(recents));
         for (int i = 0; i <categories.length;i++){
@@ -141,6 +172,49 @@ public class AXSingleEmojiPageAdapter extends RecyclerView.Adapter<RecyclerView.
      return emojis.size();
     }
 
+    int calRowsCount(){
+        Emoji[] recents = recentEmoji.getRecentEmojisSnapshot().toArray(new Emoji[0]);
+        recentsCount = recents.length;
+
+        recentRowsCount = getRowsCount(recents.length);
+        int count = 1 + recentRowsCount;
+        for (EmojiCategory category : categories) {
+            count += 1 + getRowsCount(category.getEmojis().length);
+        }
+        rowSources = new Emoji[count][];
+        rowStarts = new int[count];
+        rowCounts = new int[count];
+
+        int number = 1;
+        number = addRows(recents, number);
+        for (EmojiCategory category : categories) {
+            titlesPosition.add(number);
+            number = addRows(category.getEmojis(), number + 1);
+        }
+        itemsCount = number;
+        return itemsCount;
+    }
+
+    private int getRowsCount(int emojisCount){
+        return (emojisCount + columns - 1) / columns;
+    }
+
+    private int addRows(Emoji[] source, int position){
+        for (int start = 0; start < source.length; start += columns) {
+            rowSources[position] = source;
+            rowStarts[position] = start;
+            rowCounts[position] = Math.min(columns, source.length - start);
+            position++;
+        }
+        return position;
+    }
+
+    public class RowHolder extends RecyclerView.ViewHolder{
+        public RowHolder(@NonNull View itemView) {
+            super(itemView);
+        }
+    }
+
     public class TitleHolder extends RecyclerView.ViewHolder{
         TextView tv;
         public TitleHolder(@NonNull View itemView, TextView tv) {
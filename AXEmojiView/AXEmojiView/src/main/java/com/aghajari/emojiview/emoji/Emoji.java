@@ -9,6 +9,11 @@ import androidx.annotation.DrawableRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.appcompat.content.res.AppCompatResources;
+
+import com.aghajari.emojiview.utils.EmojiLoadNotifier;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
@@ -24,6 +29,7 @@ public class Emoji implements Serializable {
   @DrawableRes private final int resource;
   @NonNull private List<Emoji> variants;
   @Nullable private Emoji base;
+  private transient int id = -1;
 
   public Emoji(@NonNull final int[] codePoints, @DrawableRes final int resource) {
     this(codePoints, resource, new Emoji[0]);
@@ -69,6 +75,17 @@ public class Emoji implements Serializable {
     }
   }
 
+  /**
+   * @return the dense id of the emoji in the installed {@link EmojiRegistry}, -1 if it isn't installed.
+   */
+  public int getId() {
+    return id;
+  }
+
+  void setId(int id) {
+    this.id = id;
+  }
+
   @NonNull public String getUnicode() {
     return unicode;
   }
@@ -123,6 +140,12 @@ public class Emoji implements Serializable {
   }
 
 
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    // ids belong to the install which gave them
+    id = -1;
+  }
+
   @Override public boolean equals(final Object o) {
     if (this == o) {
       return true;
@@ -137,10 +160,8 @@ public class Emoji implements Serializable {
   }
 
   @Override public int hashCode() {
-    int result = unicode.hashCode();
-    result = 31 * result + resource;
-    result = 31 * result + variants.hashCode();
-    return result;
+    // only the unicode, like equals(); the variants may be set after the emoji is put in a map
+    return unicode.hashCode();
   }
 
   @Override
@@ -152,9 +173,22 @@ public class Emoji implements Serializable {
     return null;
   }
 
+  /**
+   * @return true while the image of the emoji isn't ready to be drawn, the views showing it are redrawn once it's loaded.
+   * A loader should publish its loaded emojis with {@link EmojiLoadNotifier#notifyEmojiLoaded} and override
+   * {@link #isLoadPublished()}, the views waiting for the other emojis poll this method.
+   */
   public boolean isLoading(){
     return false;
   }
 
+  /**
+   * @return true if the loader of the emoji calls {@link EmojiLoadNotifier#notifyEmojiLoaded} once it's loaded,
+   * so the views waiting for it don't have to poll {@link #isLoading()}.
+   */
+  public boolean isLoadPublished(){
+    return false;
+  }
+
 
 }
@@ -0,0 +1,114 @@
+package com.aghajari.emojiview.emoji;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Every emoji and variant of the installed provider, by a dense int id given at install time.
+ * Ids are the indexes of the arrays, so id to emoji, id to base and emoji to id are O(1) without hashing,
+ * tables of the emojis can be plain arrays indexed by {@link Emoji#getId()}.
+ *
+ * A base emoji is followed by its variants, in the order of the categories. The registry doesn't change
+ * after it's created, a new install creates another one and gives the emojis new ids.
+ */
+public final class EmojiRegistry {
+    private final Emoji[] emojis;
+    private final EmojiUnicodeRegistry unicodes;
+
+    private EmojiRegistry(Emoji[] emojis, EmojiUnicodeRegistry unicodes) {
+        this.emojis = emojis;
+        this.unicodes = unicodes;
+    }
+
+    @NonNull
+    public static EmojiRegistry create(@NonNull EmojiCategory[] categories, int guessedSize) {
+        final List<Emoji> emojis = new ArrayList<>(guessedSize);
+        final List<String> unicodes = new ArrayList<>(guessedSize);
+        int[] baseIds = new int[guessedSize];
+
+        //noinspection ForLoopReplaceableByForEach
+        for (int i = 0; i < categories.length; i++) {
+            final Emoji[] categoryEmojis = categories[i].getEmojis();
+
+            //noinspection ForLoopReplaceableByForEach
+            for (int j = 0; j < categoryEmojis.length; j++) {
+                final Emoji emoji = categoryEmojis[j];
+                final List<Emoji> variants = emoji.getVariants();
+                if (emojis.size() + variants.size() + 1 > baseIds.length) {
+                    int[] grown = new int[Math.max(baseIds.length * 2, emojis.size() + variants.size() + 1)];
+                    System.arraycopy(baseIds, 0, grown, 0, emojis.size());
+                    baseIds = grown;
+                }
+
+                final int baseId = emojis.size();
+                emoji.setId(baseId);
+                baseIds[baseId] = baseId;
+                emojis.add(emoji);
+                unicodes.add(emoji.getUnicode());
+
+                //noinspection ForLoopReplaceableByForEach
+                for (int k = 0; k < variants.size(); k++) {
+                    final Emoji variant = variants.get(k);
+                    final int id = emojis.size();
+                    variant.setId(id);
+                    baseIds[id] = baseId;
+                    emojis.add(variant);
+                    unicodes.add(variant.getUnicode());
+                }
+            }
+        }
+
+        final int[] trimmedBaseIds = new int[emojis.size()];
+        System.arraycopy(baseIds, 0, trimmedBaseIds, 0, trimmedBaseIds.length);
+        return new EmojiRegistry(emojis.toArray(new Emoji[0]), new EmojiUnicodeRegistry(unicodes, trimmedBaseIds));
+    }
+
+    /**
+     * @return the number of the emojis, ids are in [0, size).
+     */
+    public int size() {
+        return emojis.length;
+    }
+
+    public boolean isEmpty() {
+        return emojis.length == 0;
+    }
+
+    @NonNull
+    public Emoji getEmoji(int id) {
+        return emojis[id];
+    }
+
+    /**
+     * @return the id of the base emoji of the id, the id itself if it's a base emoji.
+     */
+    public int getBaseId(int id) {
+        return unicodes.getBaseId(id);
+    }
+
+    /**
+     * @return true if the emoji is the one registered for its id, false for the emojis of another install.
+     */
+    public boolean contains(@NonNull Emoji emoji) {
+        final int id = emoji.getId();
+        return id >= 0 && id < emojis.length && emojis[id] == emoji;
+    }
+
+    /**
+     * @return the unicodes of the emojis, the index of each one is its id.
+     */
+    @NonNull
+    public List<String> getUnicodes() {
+        return unicodes.getUnicodes();
+    }
+
+    /**
+     * @return the unicodes and the matcher of the emojis, with the same ids.
+     */
+    @NonNull
+    public EmojiUnicodeRegistry getUnicodeRegistry() {
+        return unicodes;
+    }
+}
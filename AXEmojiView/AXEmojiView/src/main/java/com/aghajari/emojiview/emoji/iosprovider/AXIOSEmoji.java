@@ -8,46 +8,29 @@ import android.view.View;
 import androidx.annotation.NonNull;
 
 import com.aghajari.emojiview.emoji.Emoji;
-import com.aghajari.emojiview.emoji.EmojiData;
+import com.aghajari.emojiview.emoji.EmojiDataIndex;
+import com.aghajari.emojiview.emoji.EmojiNormalizer;
 
 
 @SuppressWarnings("serial")
 public class AXIOSEmoji extends Emoji {
 
+  /* the variants of every colored emoji, in the order of the variant popups */
+  private static final String[] SKIN_TONES = {
+          "\uD83C\uDFFB", "\uD83C\uDFFC", "\uD83C\uDFFD", "\uD83C\uDFFE", "\uD83C\uDFFF"
+  };
+
   public AXIOSEmoji(final String code) {
     super(code,-1);
 
-    boolean isVariants = EmojiData.isColoredEmoji(code);
-    if (isVariants) {
-      DispatchQueue run = new DispatchQueue("emoji");
-      run.postRunnable(new Runnable() {
-        @Override
-        public void run() {
-          AXIOSEmoji[] variants = new AXIOSEmoji[5];
-          for (int i=0;i<5;i++) {
-            String color="";
-            switch (i) {
-              case 0:
-                color = "\uD83C\uDFFB";
-                break;
-              case 1:
-                color = "\uD83C\uDFFC";
-                break;
-              case 2:
-                color = "\uD83C\uDFFD";
-                break;
-              case 3:
-                color = "\uD83C\uDFFE";
-                break;
-              case 4:
-                color = "\uD83C\uDFFF";
-                break;
-            }
-            variants[i] = new AXIOSEmoji(EmojiData.addColorToCode(code,color),-1,0);
-          }
-          setVariants(variants);
-        }
-      });
+    // Variants are just 5 more objects, create them right away so they are ready for
+    // the emoji map and the first long-press, without any extra thread.
+    if (EmojiDataIndex.isColoredEmoji(code)) {
+      AXIOSEmoji[] variants = new AXIOSEmoji[SKIN_TONES.length];
+      for (int i = 0; i < SKIN_TONES.length; i++) {
+        variants[i] = new AXIOSEmoji(EmojiNormalizer.setSkinTone(code, SKIN_TONES[i]), -1, 0);
+      }
+      setVariants(variants);
     }
   }
 
@@ -58,30 +41,41 @@ public class AXIOSEmoji extends Emoji {
   @NonNull
   @Override
   public Drawable getDrawable(final View view) {
-    return AXIOSEmojiLoader.getEmojiBigDrawable(getUnicode());
+    return AXIOSEmojiLoader.getEmojiBigDrawable(this);
   }
 
   @NonNull
   @Override
   public Drawable getDrawable(final Context context) {
-    return AXIOSEmojiLoader.getEmojiBigDrawable(getUnicode());
+    return AXIOSEmojiLoader.getEmojiBigDrawable(this);
   }
 
   public Drawable getDrawable() {
-    return AXIOSEmojiLoader.getEmojiBigDrawable(getUnicode());
+    return AXIOSEmojiLoader.getEmojiBigDrawable(this);
   }
 
   public Drawable getDrawable(int size,boolean fullSize) {
-    return AXIOSEmojiLoader.getEmojiDrawable(getUnicode(),size,fullSize);
+    return AXIOSEmojiLoader.getEmojiDrawable(this,size,fullSize);
   }
 
   @Override
   public Bitmap getEmojiBitmap() {
-    return AXIOSEmojiLoader.getEmojiBitmap(getUnicode());
+    return AXIOSEmojiLoader.getEmojiBitmap(this);
+  }
+
+  @Override
+  public void destroy() {
+    AXIOSEmojiLoader.releaseEmojiBitmap(this);
   }
 
   @Override
   public boolean isLoading() {
-    return getEmojiBitmap()==null;
+    return !AXIOSEmojiLoader.isEmojiLoaded(this);
+  }
+
+  @Override
+  public boolean isLoadPublished() {
+    // AXIOSEmojiLoader publishes the emojis it decodes for the drawables and the listeners
+    return true;
   }
 }
@@ -1,12 +1,18 @@
 package com.aghajari.emojiview.emoji.iosprovider;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Executor;
 
+import android.content.ComponentCallbacks2;
 import android.content.Context;
+import android.content.res.Configuration;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
 import android.graphics.Canvas;
@@ -23,42 +29,115 @@ import android.text.Spanned;
 import android.text.style.DynamicDrawableSpan;
 import android.text.style.ImageSpan;
 
-import com.aghajari.emojiview.emoji.EmojiData;
+import androidx.annotation.NonNull;
+
+import com.aghajari.emojiview.AXEmojiManager;
+import com.aghajari.emojiview.emoji.Emoji;
+import com.aghajari.emojiview.emoji.EmojiDataIndex;
+import com.aghajari.emojiview.emoji.EmojiDataTable;
+import com.aghajari.emojiview.emoji.EmojiNormalizer;
+import com.aghajari.emojiview.emoji.EmojiSequenceScanner;
+import com.aghajari.emojiview.emoji.EmojiTable;
+import com.aghajari.emojiview.utils.EmojiLoadNotifier;
 import com.aghajari.emojiview.utils.Utils;
 
 public class AXIOSEmojiLoader {
     private static final String emojiFolderName = "emoji";
-    private static HashMap<CharSequence, DrawableInfo> rects = new HashMap<>();
+    private static final String emojiTableName = "emoji.tbl";
+    /* perfect hash table of the unicodes generated at build time, null before init or if the asset is missing */
+    private static volatile EmojiTable emojiTable;
+    /* info of each slot of the table, created on the first lookup of the slot */
+    private static volatile DrawableInfo[] tableInfos;
+    private static boolean emojiTableLoaded = false;
+    /* used instead of the table if it couldn't be loaded, info of each item of the emoji data, created on the first lookup of the item */
+    private static DrawableInfo[] dataInfos;
+    /* info of each emoji id, filled on the first lookup of the id so the hot paths don't hash the unicodes */
+    private static volatile EmojiSlot[] slots = new EmojiSlot[0];
     private static int drawImgSize;
     private static int bigImgSize;
     private static Paint placeholderPaint;
-    private static int[] emojiCounts = new int[]{1620, 184, 115, 328, 125, 207, 288, 258};
-    private static Bitmap[][] emojiBmp = new Bitmap[8][];
-    private static boolean[][] loadingEmoji = new boolean[8][];
+    private static final String atlasIndexName = "atlas.idx";
+    private static final String atlasFolderName = "atlas";
+    private static final int ATLAS_MAGIC = 0x41584541;
+    private static final int ATLAS_VERSION = 1;
+    /* rects of the emojis in the atlas pages, 5 shorts per emoji: page, x, y, width, height. null if the atlas is missing */
+    private static short[][] atlasRects;
+    /* cache key of an emoji which can't be loaded, there's no atlas */
+    private static final int NO_KEY = -1;
+    private static boolean atlasIndexLoaded = false;
+    private static int imageResize = 1;
+    private static final EmojiBitmapCache bitmapCache = new EmojiBitmapCache((int) Math.min(Integer.MAX_VALUE, Runtime.getRuntime().maxMemory() / 16));
+    private static boolean componentCallbacksRegistered = false;
+    private static final EmojiDecodeScheduler decodeScheduler = new EmojiDecodeScheduler(EmojiDecodeScheduler.getDefaultWorkerCount(),
+            new EmojiDecodeScheduler.Decoder() {
+                @Override
+                public void decode(int key) {
+                    loadEmojiInternal(key);
+                }
+            }, new Executor() {
+                @Override
+                public void execute(Runnable command) {
+                    uiThread.post(command);
+                }
+            });
 
     private static Context context;
     private static boolean isTablet = false;
-    public static volatile DispatchQueue globalQueue = new DispatchQueue("globalQueue");
     private static Handler uiThread;
 
     static void init(Context context){
         AXIOSEmojiLoader.context = context;
         drawImgSize = Utils.dp(context,20);
         bigImgSize = Utils.dp(context,isTablet ? 40 : 34);
-    }
+        imageResize = context.getResources().getDisplayMetrics().density <= 1.0f ? 2 : 1;
 
-    static {
-        uiThread = new Handler(Looper.getMainLooper());
-        for (int a = 0; a < emojiBmp.length; a++) {
-            emojiBmp[a] = new Bitmap[emojiCounts[a]];
-            loadingEmoji[a] = new boolean[emojiCounts[a]];
+        if (!emojiTableLoaded) {
+            emojiTableLoaded = true;
+            loadEmojiTable();
         }
 
-        for (int j = 0; j < EmojiData.data.length; j++) {
-            for (int i = 0; i < EmojiData.data[j].length; i++) {
-                rects.put(EmojiData.data[j][i], new DrawableInfo((byte) j, (short) i, i));
-            }
+        if (!atlasIndexLoaded) {
+            atlasIndexLoaded = true;
+            loadAtlasIndex();
         }
+
+        if (!componentCallbacksRegistered) {
+            componentCallbacksRegistered = true;
+            context.getApplicationContext().registerComponentCallbacks(new ComponentCallbacks2() {
+                @Override
+                public void onTrimMemory(int level) {
+                    bitmapCache.onTrimMemory(level);
+                }
+
+                @Override
+                public void onConfigurationChanged(Configuration newConfig) {
+                }
+
+                @Override
+                public void onLowMemory() {
+                    bitmapCache.onLowMemory();
+                }
+            });
+        }
+    }
+
+    /**
+     * @return the cache of the loaded emoji bitmaps, to change its max size or read its stats.
+     * It's trimmed automatically on onTrimMemory and onLowMemory.
+     */
+    public static EmojiBitmapCache getBitmapCache() {
+        return bitmapCache;
+    }
+
+    /**
+     * @return the scheduler of the emoji decodes, to change its number of threads or its order.
+     */
+    public static EmojiDecodeScheduler getDecodeScheduler() {
+        return decodeScheduler;
+    }
+
+    static {
+        uiThread = new Handler(Looper.getMainLooper());
         placeholderPaint = new Paint();
         placeholderPaint.setColor(0x00000000);
     }
@@ -83,98 +162,133 @@ public class AXIOSEmojiLoader {
         }
     }
 
-    private static void loadEmoji(final byte page, final short page2,final EmojiDrawable drawable) {
-        if (emojiBmp[page][page2] == null) {
-            if (loadingEmoji[page][page2]) {
-                return;
+    /**
+     * try to load all emojis of a category before showing it,
+     * with the atlas this only decodes a few pages.
+     */
+    public static void preloadCategory(int category) {
+        if (atlasRects == null || category < 0 || category >= atlasRects.length) return;
+        // the first emoji of each page
+        for (short page2 = 0; page2 < atlasRects[category].length / 5; page2++) {
+            if (page2 == 0 || atlasRects[category][page2 * 5] != atlasRects[category][(page2 - 1) * 5]) {
+                loadEmoji((byte) category, page2, null);
             }
-            loadingEmoji[page][page2] = true;
-            globalQueue.postRunnable(new Runnable() {
-                @Override
-                public void run() {
-                    loadEmojiInternal(page, page2);
-                    loadingEmoji[page][page2] = false;
-                    uiThread.post(new Runnable() {
-                        @Override
-                        public void run() {
-                            if (drawable!=null) drawable.invalidateSelf();
-                        }
-                    });
-                }
-            });
         }
     }
 
-    public interface EmojiLoaderListener {
-        void onEmojiLoaded(AXIOSEmoji emoji);
-    }
+    private static EmojiDecodeScheduler.Request loadEmoji(final byte page, final short page2,final EmojiDrawable drawable) {
+        final int key = getCacheKey(page, page2);
+        if (key == NO_KEY || bitmapCache.contains(key)) return null;
 
-    private static class ListenerData{
-        EmojiLoaderListener listener;
-        String code;
-        ListenerData(EmojiLoaderListener listener,String code){
-            this.listener = listener;
-            this.code = code;
+        if (drawable == null) {
+            return decodeScheduler.schedule(key, EmojiDecodeScheduler.PRIORITY_PRELOAD, null);
         }
+        return decodeScheduler.schedule(key, EmojiDecodeScheduler.PRIORITY_VISIBLE, new Runnable() {
+            @Override
+            public void run() {
+                drawable.onLoaded();
+            }
+        });
     }
 
-    private static List<ListenerData> loadingListeners = null;
+    public interface EmojiLoaderListener {
+        void onEmojiLoaded(AXIOSEmoji emoji);
+    }
 
     private static void loadEmoji(final String code,final byte page, final short page2,final EmojiLoaderListener listener) {
-        if (emojiBmp[page][page2] == null) {
-            if (loadingEmoji[page][page2]) {
-                if (listener==null) return;
-                if (loadingListeners==null) loadingListeners = new ArrayList<>();
-                loadingListeners.add(new ListenerData(listener,code));
-                return;
-            }
-            loadingEmoji[page][page2] = true;
-            globalQueue.postRunnable(new Runnable() {
+        final int key = getCacheKey(page, page2);
+        if (key == NO_KEY) return;
+        if (!bitmapCache.contains(key)) {
+            decodeScheduler.schedule(key, EmojiDecodeScheduler.PRIORITY_VISIBLE, listener == null ? null : new Runnable() {
                 @Override
                 public void run() {
-                    loadEmojiInternal(page, page2);
-                    loadingEmoji[page][page2] = false;
-                    uiThread.post(new Runnable() {
-                        @Override
-                        public void run() {
-                            callListeners(code,listener);
-                            if (listener!=null) listener.onEmojiLoaded(new AXIOSEmoji(code));
-                        }
-                    });
+                    EmojiLoadNotifier.notifyEmojiLoaded(code);
+                    listener.onEmojiLoaded(getEmoji(code));
                 }
             });
         }else{
-            if (listener!=null) listener.onEmojiLoaded(new AXIOSEmoji(code));
+            if (listener!=null) listener.onEmojiLoaded(getEmoji(code));
         }
     }
 
-    private static void callListeners(String code,EmojiLoaderListener listener){
-        if (loadingListeners!=null && loadingListeners.size()>0){
-            List<ListenerData> remove = new ArrayList<>();
-            for (ListenerData data : loadingListeners){
-                if (data.code.equals(code) && data.listener!=null &&data.listener!=listener){
-                    data.listener.onEmojiLoaded(new AXIOSEmoji(code));
-                    remove.add(data);
-                }
-            }
-            if (remove.size()>0){
-                for (ListenerData removeData : remove){
-                    loadingListeners.remove(removeData);
+    /**
+     * @return the installed instance of the emoji, creating a new one only if the emoji isn't installed.
+     */
+    private static AXIOSEmoji getEmoji(String code) {
+        if (AXEmojiManager.isInstalled()) {
+            Emoji emoji = AXEmojiManager.getInstance().findEmoji(code);
+            if (emoji instanceof AXIOSEmoji) return (AXIOSEmoji) emoji;
+        }
+        return new AXIOSEmoji(code);
+    }
+
+    private static void loadEmojiTable() {
+        InputStream in = null;
+        try {
+            in = context.getAssets().open(emojiFolderName + "/" + emojiTableName);
+            EmojiTable table = EmojiTable.read(in);
+            tableInfos = new DrawableInfo[table.size()];
+            emojiTable = table;
+        } catch (IOException e) {
+            // no table, the lookups search the emoji data
+            emojiTable = null;
+        } finally {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException ignore) {
                 }
             }
         }
     }
 
-    private static void loadEmojiInternal(final byte page, final short page2) {
+    private static void loadAtlasIndex() {
+        DataInputStream in = null;
         try {
-            int imageResize = 1;
-            if (context.getResources().getDisplayMetrics().density <= 1.0f) {
-                imageResize = 2;
+            in = new DataInputStream(new BufferedInputStream(context.getAssets().open(emojiFolderName + "/" + atlasIndexName)));
+            if (in.readInt() != ATLAS_MAGIC || in.readShort() != ATLAS_VERSION) {
+                throw new IOException("Unsupported emoji atlas index");
             }
 
+            int categories = in.readByte();
+            short[][] rects = new short[categories][];
+            for (int c = 0; c < categories; c++) {
+                in.readShort(); // pages
+                rects[c] = new short[in.readShort() * 5];
+                for (int i = 0; i < rects[c].length; i += 5) {
+                    rects[c][i] = in.readByte();
+                    rects[c][i + 1] = in.readShort();
+                    rects[c][i + 2] = in.readShort();
+                    rects[c][i + 3] = in.readShort();
+                    rects[c][i + 4] = in.readShort();
+                }
+            }
+            atlasRects = rects;
+        } catch (IOException e) {
+            // the atlas is generated by the packEmojiAtlas task, without it there's no image to draw
+            e.printStackTrace();
+            atlasRects = null;
+        } finally {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException ignore) {
+                }
+            }
+        }
+    }
+
+    private static String getAssetName(final int key) {
+        // see getCacheKey
+        return emojiFolderName + "/" + atlasFolderName + "/" + String.format(Locale.US, "%d_%d.png", key >>> 16, key & 0xFFFF);
+    }
+
+    private static void loadEmojiInternal(final int key) {
+        if (bitmapCache.contains(key)) return;
+        try {
             Bitmap bitmap = null;
             try {
-                InputStream is = context.getAssets().open(emojiFolderName+ "/" + String.format(Locale.US, "%d_%d.png", page, page2));
+                InputStream is = context.getAssets().open(getAssetName(key));
                 BitmapFactory.Options opts = new BitmapFactory.Options();
                 opts.inJustDecodeBounds = false;
                 opts.inSampleSize = imageResize;
@@ -184,42 +298,16 @@ public class AXIOSEmojiLoader {
                 e.printStackTrace();
             }
 
-            final Bitmap finalBitmap = bitmap;
-            emojiBmp[page][page2] = finalBitmap;
+            if (bitmap != null) {
+                bitmapCache.put(key, bitmap);
+            }
         } catch (Throwable x) {
             x.printStackTrace();
         }
     }
 
     public static String fixEmoji(String emoji) {
-        char ch;
-        int length = emoji.length();
-        for (int a = 0; a < length; a++) {
-            ch = emoji.charAt(a);
-            if (ch >= 0xD83C && ch <= 0xD83E) {
-                if (ch == 0xD83C && a < length - 1) {
-                    ch = emoji.charAt(a + 1);
-                    if (ch == 0xDE2F || ch == 0xDC04 || ch == 0xDE1A || ch == 0xDD7F) {
-                        emoji = emoji.substring(0, a + 2) + "\uFE0F" + emoji.substring(a + 2);
-                        length++;
-                        a += 2;
-                    } else {
-                        a++;
-                    }
-                } else {
-                    a++;
-                }
-            } else if (ch == 0x20E3) {
-                return emoji;
-            } else if (ch >= 0x203C && ch <= 0x3299) {
-                if (EmojiData.emojiToFE0FMap.containsKey(ch)) {
-                    emoji = emoji.substring(0, a + 1) + "\uFE0F" + emoji.substring(a + 1);
-                    length++;
-                    a++;
-                }
-            }
-        }
-        return emoji;
+        return EmojiNormalizer.fixEmoji(emoji);
     }
 
     /**
@@ -240,18 +328,152 @@ public class AXIOSEmojiLoader {
      * @return emoji bitmap or null if emoji hasn't loaded yet (or it's invalid).
      */
     public static Bitmap getEmojiBitmap(CharSequence code){
-        DrawableInfo info = getDrawableInfo(code);
-        if (info==null) return null;
-        return emojiBmp[info.page][info.page2];
+        return getEmojiBitmap(getDrawableInfo(code));
+    }
+
+    /**
+     * Same as {@link #getEmojiBitmap(CharSequence)}, finds the emoji by its id.
+     */
+    public static Bitmap getEmojiBitmap(Emoji emoji){
+        return getEmojiBitmap(getDrawableInfo(emoji));
+    }
+
+    private static Bitmap getEmojiBitmap(DrawableInfo info){
+        if (info == null || atlasRects == null) return null;
+        // the emoji is copied out of its page once, the copy is cached with the pages
+        final int sliceKey = getSliceKey(info);
+        Bitmap slice = bitmapCache.get(sliceKey);
+        if (slice != null) return slice;
+
+        Bitmap page = bitmapCache.get(getCacheKey(info.page, info.page2));
+        if (page == null) return null;
+        Rect src = getSourceRect(info, new Rect());
+        slice = Bitmap.createBitmap(page, src.left, src.top, src.width(), src.height());
+        bitmapCache.put(sliceKey, slice);
+        return slice;
+    }
+
+    /**
+     * @return false if the emoji hasn't loaded yet (or it's invalid).
+     */
+    public static boolean isEmojiLoaded(CharSequence code){
+        return isEmojiLoaded(getDrawableInfo(code));
+    }
+
+    /**
+     * Same as {@link #isEmojiLoaded(CharSequence)}, finds the emoji by its id.
+     */
+    public static boolean isEmojiLoaded(Emoji emoji){
+        return isEmojiLoaded(getDrawableInfo(emoji));
+    }
+
+    private static boolean isEmojiLoaded(DrawableInfo info){
+        return info != null && bitmapCache.contains(getCacheKey(info.page, info.page2));
+    }
+
+    /**
+     * Removes the bitmap of the emoji from the cache, it will be loaded again next time it's drawn.
+     */
+    static void releaseEmojiBitmap(Emoji emoji) {
+        DrawableInfo info = getDrawableInfo(emoji);
+        if (info != null) {
+            bitmapCache.remove(getCacheKey(info.page, info.page2));
+            bitmapCache.remove(getSliceKey(info));
+        }
+    }
+
+    private static int getCacheKey(byte page, short page2) {
+        // emojis of the same atlas page share a bitmap
+        if (atlasRects == null) return NO_KEY;
+        return (page << 16) | atlasRects[page][page2 * 5];
+    }
+
+    /**
+     * @return the cache key of the bitmap of the emoji alone, see {@link #getEmojiBitmap(Emoji)}.
+     * The sign bit keeps it apart from the keys of the pages.
+     */
+    private static int getSliceKey(DrawableInfo info) {
+        return Integer.MIN_VALUE | (info.page << 16) | (info.page2 & 0xFFFF);
+    }
+
+    /**
+     * @return the rect of the emoji in its atlas page.
+     */
+    private static Rect getSourceRect(DrawableInfo info, Rect rect) {
+        short[] rects = atlasRects[info.page];
+        int i = info.page2 * 5;
+        rect.set(rects[i + 1] / imageResize, rects[i + 2] / imageResize,
+                (rects[i + 1] + rects[i + 3]) / imageResize, (rects[i + 2] + rects[i + 4]) / imageResize);
+        return rect;
+    }
+
+    private static DrawableInfo getDrawableInfo(Emoji emoji) {
+        final int id = emoji.getId();
+        final EmojiSlot[] table = slots;
+        if (id >= 0 && id < table.length) {
+            final EmojiSlot slot = table[id];
+            // the emoji check skips the slots of a previous install
+            if (slot != null && slot.emoji == emoji) return slot.info;
+        }
+
+        final DrawableInfo info = getDrawableInfo(emoji.getUnicode());
+        if (info != null && id >= 0) putSlot(id, new EmojiSlot(emoji, info));
+        return info;
+    }
+
+    private static synchronized void putSlot(int id, EmojiSlot slot) {
+        EmojiSlot[] table = slots;
+        if (id >= table.length) {
+            int registrySize = AXEmojiManager.isInstalled() ? AXEmojiManager.getInstance().getRegistry().size() : 0;
+            table = Arrays.copyOf(table, Math.max(id + 1, registrySize));
+        }
+        table[id] = slot;
+        slots = table;
     }
 
     private static DrawableInfo getDrawableInfo(CharSequence code) {
-        DrawableInfo info = rects.get(code);
+        // the keys have no variation selectors, this only allocates if the code has some
+        code = EmojiNormalizer.toKey(code);
+        final EmojiTable table = emojiTable;
+        if (table == null) return getDrawableInfoFromData(code);
+
+        // the table has the aliases too, it's a single probe without allocations
+        final int slot = table.getSlot(code);
+        if (slot < 0) return null;
+        return getDrawableInfo(table, slot);
+    }
+
+    private static DrawableInfo getDrawableInfo(EmojiTable table, int slot) {
+        final DrawableInfo[] infos = tableInfos;
+        DrawableInfo info = infos[slot];
         if (info == null) {
-            CharSequence newCode = EmojiData.emojiAliasMap.get(code);
-            if (newCode != null) {
-                info = AXIOSEmojiLoader.rects.get(newCode);
-            }
+            final int value = table.getValue(slot);
+            info = new DrawableInfo((byte) (value >>> 16), (short) value, value & 0xFFFF);
+            infos[slot] = info;
+        }
+        return info;
+    }
+
+    private static DrawableInfo getDrawableInfoFromData(CharSequence code) {
+        final EmojiDataTable data = EmojiDataTable.getData();
+        int item = data.indexOf(code);
+        if (item < 0) {
+            CharSequence newCode = EmojiDataIndex.getAlias(code.toString());
+            if (newCode == null) return null;
+            item = data.indexOf(newCode);
+            if (item < 0) return null;
+        }
+        return getDrawableInfo(data, item);
+    }
+
+    private static synchronized DrawableInfo getDrawableInfo(EmojiDataTable data, int item) {
+        if (dataInfos == null) dataInfos = new DrawableInfo[data.getItems().size()];
+        DrawableInfo info = dataInfos[item];
+        if (info == null) {
+            final int category = data.getCategory(item);
+            final int index = item - data.getItemIndex(category, 0);
+            info = new DrawableInfo((byte) category, (short) index, index);
+            dataInfos[item] = info;
         }
         return info;
     }
@@ -260,27 +482,15 @@ public class AXIOSEmojiLoader {
      * @return false if there is no emoji for this code
      */
     public static boolean isValidEmoji(CharSequence code) {
-        DrawableInfo info = rects.get(code);
-        if (info == null) {
-            CharSequence newCode = EmojiData.emojiAliasMap.get(code);
-            if (newCode != null) {
-                info = AXIOSEmojiLoader.rects.get(newCode);
-            }
-        }
-        return info != null;
+        return getDrawableInfo(code) != null;
     }
 
     /**
      * @return fullSize emoji drawable
      */
     public static Drawable getEmojiBigDrawable(String code) {
+        // the aliases are found by the same lookup
         EmojiDrawable ed = getEmojiDrawable(code);
-        if (ed == null) {
-            CharSequence newCode = EmojiData.emojiAliasMap.get(code);
-            if (newCode != null) {
-                ed = AXIOSEmojiLoader.getEmojiDrawable(newCode);
-            }
-        }
         if (ed == null) {
             return null;
         }
@@ -289,17 +499,33 @@ public class AXIOSEmojiLoader {
         return ed;
     }
 
+    /**
+     * Same as {@link #getEmojiBigDrawable(String)}, finds the emoji by its id.
+     */
+    public static Drawable getEmojiBigDrawable(Emoji emoji) {
+        return getEmojiDrawable(emoji, bigImgSize, true);
+    }
+
+    /**
+     * Same as {@link #getEmojiDrawable(String, int, boolean)}, finds the emoji by its id.
+     */
+    public static Drawable getEmojiDrawable(Emoji emoji,int size,boolean fullSize) {
+        DrawableInfo info = getDrawableInfo(emoji);
+        if (info == null) {
+            return null;
+        }
+        EmojiDrawable ed = new EmojiDrawable(info);
+        ed.setBounds(0, 0, size, size);
+        ed.fullSize = fullSize;
+        return ed;
+    }
+
     /**
      * @return emoji drawable with custom bounds
      */
     public static Drawable getEmojiDrawable(String code,int size,boolean fullSize) {
+        // the aliases are found by the same lookup
         EmojiDrawable ed = getEmojiDrawable(code);
-        if (ed == null) {
-            CharSequence newCode = EmojiData.emojiAliasMap.get(code);
-            if (newCode != null) {
-                ed = AXIOSEmojiLoader.getEmojiDrawable(newCode);
-            }
-        }
         if (ed == null) {
             return null;
         }
@@ -326,8 +552,11 @@ public class AXIOSEmojiLoader {
     private static class EmojiDrawable extends Drawable {
         private DrawableInfo info;
         private boolean fullSize = false;
+        private boolean pinned = false;
+        private EmojiDecodeScheduler.Request loadRequest;
         private static Paint paint = new Paint(Paint.FILTER_BITMAP_FLAG);
         private static Rect rect = new Rect();
+        private static Rect srcRect = new Rect();
 
         public EmojiDrawable(DrawableInfo i) {
             info = i;
@@ -355,11 +584,12 @@ public class AXIOSEmojiLoader {
         public void draw(Canvas canvas) {
             /*if (MessagesController.getInstance().useSystemEmoji) {
                 //textPaint.setTextSize(getBounds().width());
-                canvas.drawText(EmojiData.data[info.page][info.emojiIndex], getBounds().left, getBounds().bottom, textPaint);
+                canvas.drawText(EmojiDataTable.getData().get(info.page, info.emojiIndex), getBounds().left, getBounds().bottom, textPaint);
                 return;
             }*/
-            if (emojiBmp[info.page][info.page2] == null) {
-                loadEmoji(info.page, info.page2,this);
+            Bitmap bitmap = bitmapCache.get(getCacheKey(info.page, info.page2));
+            if (bitmap == null) {
+                if (loadRequest == null) loadRequest = loadEmoji(info.page, info.page2,this);
                 canvas.drawRect(getBounds(), placeholderPaint);
                 return;
             }
@@ -372,10 +602,38 @@ public class AXIOSEmojiLoader {
             }
 
             //if (!canvas.quickReject(b.left, b.top, b.right, b.bottom, Canvas.EdgeType.AA)) {
-            canvas.drawBitmap(emojiBmp[info.page][info.page2], null, b, paint);
+            canvas.drawBitmap(bitmap, getSourceRect(info, srcRect), b, paint);
             //}
         }
 
+        private void onLoaded() {
+            loadRequest = null;
+            // don't ask again for a bitmap which couldn't be decoded
+            if (bitmapCache.contains(getCacheKey(info.page, info.page2))) {
+                invalidateSelf();
+                EmojiLoadNotifier.notifyEmojiLoaded(EmojiDataTable.getData().get(info.page, info.page2));
+            }
+        }
+
+        @Override
+        public boolean setVisible(boolean visible, boolean restart) {
+            // views call this when the drawable gets on or off the screen, keep it in the cache meanwhile
+            if (visible != pinned) {
+                pinned = visible;
+                if (visible) {
+                    bitmapCache.pin(getCacheKey(info.page, info.page2));
+                } else {
+                    bitmapCache.unpin(getCacheKey(info.page, info.page2));
+                    // the view is detached or shows another emoji now, it doesn't need this one anymore
+                    if (loadRequest != null) {
+                        decodeScheduler.cancel(loadRequest);
+                        loadRequest = null;
+                    }
+                }
+            }
+            return super.setVisible(visible, restart);
+        }
+
         @Override
         public int getOpacity() {
             return PixelFormat.TRANSPARENT;
@@ -392,10 +650,20 @@ public class AXIOSEmojiLoader {
         }
     }
 
+    private static final class EmojiSlot {
+        final Emoji emoji;
+        final DrawableInfo info;
+
+        EmojiSlot(Emoji emoji, DrawableInfo info) {
+            this.emoji = emoji;
+            this.info = info;
+        }
+    }
+
     private static class DrawableInfo {
-        public byte page;
-        public short page2;
-        public int emojiIndex;
+        public final byte page;
+        public final short page2;
+        public final int emojiIndex;
 
         public DrawableInfo(byte p, short p2, int index) {
             page = p;
@@ -421,320 +689,190 @@ public class AXIOSEmojiLoader {
         if (cs == null || cs.length() == 0) {
             return cs;
         }
-        Spannable s;
+        return replaceEmoji(cs, fontMetrics, size, createNew, emojiOnly, 0, cs.length());
+    }
+
+    /**
+     * Replaces the emojis between start and end only, start and end must be on emoji sequence boundaries.
+     */
+    static CharSequence replaceEmoji(CharSequence cs, final Paint.FontMetrics fontMetrics, final int size, boolean createNew, int[] emojiOnly, int start, int end) {
+        final Spannable s;
         if (!createNew && cs instanceof Spannable) {
             s = (Spannable) cs;
         } else {
             s = Spannable.Factory.getInstance().newSpannable(cs.toString());
         }
-        long buf = 0;
-        int emojiCount = 0;
-        char c;
-        int startIndex = -1;
-        int startLength = 0;
-        int previousGoodIndex = 0;
-        StringBuilder emojiCode = new StringBuilder(16);
-        StringBuilder addionalCode = new StringBuilder(2);
-        boolean nextIsSkinTone;
-        EmojiDrawable drawable;
-        EmojiSpan span;
-        int length = cs.length();
-        boolean doneEmoji = false;
-        int nextValidLength;
-        boolean nextValid;
-        //s.setSpansCount(emojiCount);
 
         try {
-            for (int i = 0; i < length; i++) {
-                c = cs.charAt(i);
-                if (c >= 0xD83C && c <= 0xD83E || (buf != 0 && (buf & 0xFFFFFFFF00000000L) == 0 && (buf & 0xFFFF) == 0xD83C && (c >= 0xDDE6 && c <= 0xDDFF))) {
-                    if (startIndex == -1) {
-                        startIndex = i;
-                    }
-                    emojiCode.append(c);
-                    startLength++;
-                    buf <<= 16;
-                    buf |= c;
-                } else if (emojiCode.length() > 0 && (c == 0x2640 || c == 0x2642 || c == 0x2695)) {
-                    emojiCode.append(c);
-                    startLength++;
-                    buf = 0;
-                    doneEmoji = true;
-                } else if (buf > 0 && (c & 0xF000) == 0xD000) {
-                    emojiCode.append(c);
-                    startLength++;
-                    buf = 0;
-                    doneEmoji = true;
-                } else if (c == 0x20E3) {
-                    if (i > 0) {
-                        char c2 = cs.charAt(previousGoodIndex);
-                        if ((c2 >= '0' && c2 <= '9') || c2 == '#' || c2 == '*') {
-                            startIndex = previousGoodIndex;
-                            startLength = i - previousGoodIndex + 1;
-                            emojiCode.append(c2);
-                            emojiCode.append(c);
-                            doneEmoji = true;
-                        }
-                    }
-                } else if ((c == 0x00A9 || c == 0x00AE || c >= 0x203C && c <= 0x3299) && EmojiData.dataCharsMap.containsKey(c)) {
-                    if (startIndex == -1) {
-                        startIndex = i;
-                    }
-                    startLength++;
-                    emojiCode.append(c);
-                    doneEmoji = true;
-                } else if (startIndex != -1) {
-                    emojiCode.setLength(0);
-                    startIndex = -1;
-                    startLength = 0;
-                    doneEmoji = false;
-                } else if (c != 0xfe0f) {
-                    if (emojiOnly != null) {
-                        emojiOnly[0] = 0;
-                        emojiOnly = null;
-                    }
-                }
-                if (doneEmoji && i + 2 < length) {
-                    char next = cs.charAt(i + 1);
-                    if (next == 0xD83C) {
-                        next = cs.charAt(i + 2);
-                        if (next >= 0xDFFB && next <= 0xDFFF) {
-                            emojiCode.append(cs.subSequence(i + 1, i + 3));
-                            startLength += 2;
-                            i += 2;
-                        }
-                    } else if (emojiCode.length() >= 2 && emojiCode.charAt(0) == 0xD83C && emojiCode.charAt(1) == 0xDFF4 && next == 0xDB40) {
-                        i++;
-                        while (true) {
-                            emojiCode.append(cs.subSequence(i, i + 2));
-                            startLength += 2;
-                            i += 2;
-                            if (i >= cs.length() || cs.charAt(i) != 0xDB40) {
-                                i--;
-                                break;
-                            }
-                        }
+            scanEmojis(cs, start, end, emojiOnly, new OnEmojiFound() {
+                int emojiCount = 0;
 
-                    }
-                }
-                previousGoodIndex = i;
-                char prevCh = c;
-                for (int a = 0; a < 3; a++) {
-                    if (i + 1 < length) {
-                        c = cs.charAt(i + 1);
-                        if (a == 1) {
-                            if (c == 0x200D && emojiCode.length() > 0) {
-                                emojiCode.append(c);
-                                i++;
-                                startLength++;
-                                doneEmoji = false;
-                            }
-                        } else if (startIndex != -1 || prevCh == '*' || prevCh >= '1' && prevCh <= '9') {
-                            if (c >= 0xFE00 && c <= 0xFE0F) {
-                                i++;
-                                startLength++;
-                            }
-                        }
-                    }
-                }
-                if (doneEmoji && i + 2 < length && cs.charAt(i + 1) == 0xD83C) {
-                    char next = cs.charAt(i + 2);
-                    if (next >= 0xDFFB && next <= 0xDFFF) {
-                        emojiCode.append(cs.subSequence(i + 1, i + 3));
-                        startLength += 2;
-                        i += 2;
-                    }
-                }
-                if (doneEmoji) {
-                    if (emojiOnly != null) {
-                        emojiOnly[0]++;
-                    }
-                    CharSequence code = emojiCode.subSequence(0, emojiCode.length());
-                    drawable = AXIOSEmojiLoader.getEmojiDrawable(code);
-                    if (drawable != null) {
-                        span = new EmojiSpan(drawable, DynamicDrawableSpan.ALIGN_BOTTOM, size, fontMetrics);
-                        s.setSpan(span, startIndex, startIndex + startLength, Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
-                        emojiCount++;
-                    }
-                    startLength = 0;
-                    startIndex = -1;
-                    emojiCode.setLength(0);
-                    doneEmoji = false;
-                }
-                if ((Build.VERSION.SDK_INT < 23 || Build.VERSION.SDK_INT >= 29) && emojiCount >= 50) {
-                    break;
+                @Override
+                public boolean onEmojiFound(int start, int end, DrawableInfo info) {
+                    s.setSpan(createSpan(info, size, fontMetrics), start, end, Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
+                    return hasSpanRoom(++emojiCount);
                 }
-            }
+            });
         } catch (Exception e) {
             e.printStackTrace();
             return cs;
         }
-        if (emojiOnly != null && emojiCode.length() != 0) {
-            emojiOnly[0] = 0;
-        }
         return s;
     }
 
-    public static List<SpanLocation> replaceEmoji2(CharSequence cs, Paint.FontMetrics fontMetrics, int size, boolean createNew, int[] emojiOnly) {
+    /**
+     * Same as {@link #replaceEmoji(CharSequence, Paint.FontMetrics, int, boolean, int[])},
+     * but returns the spans with their locations instead of setting them. The text isn't copied or changed,
+     * createNew is ignored.
+     */
+    public static List<SpanLocation> replaceEmoji2(CharSequence cs, final Paint.FontMetrics fontMetrics, final int size, boolean createNew, int[] emojiOnly) {
+        final List<SpanLocation> spans = new ArrayList<>();
         if (cs == null || cs.length() == 0) {
-            return new ArrayList<>();
-        }
-        Spannable s;
-        if (!createNew && cs instanceof Spannable) {
-            s = (Spannable) cs;
-        } else {
-            s = Spannable.Factory.getInstance().newSpannable(cs.toString());
+            return spans;
         }
-        long buf = 0;
-        int emojiCount = 0;
-        char c;
-        int startIndex = -1;
-        int startLength = 0;
-        int previousGoodIndex = 0;
-        StringBuilder emojiCode = new StringBuilder(16);
-        StringBuilder addionalCode = new StringBuilder(2);
-        boolean nextIsSkinTone;
-        EmojiDrawable drawable;
-        EmojiSpan span;
-        int length = cs.length();
-        boolean doneEmoji = false;
-        int nextValidLength;
-        boolean nextValid;
-        List<SpanLocation> spans = new ArrayList<>();
-        //s.setSpansCount(emojiCount);
 
         try {
-            for (int i = 0; i < length; i++) {
-                c = cs.charAt(i);
-                if (c >= 0xD83C && c <= 0xD83E || (buf != 0 && (buf & 0xFFFFFFFF00000000L) == 0 && (buf & 0xFFFF) == 0xD83C && (c >= 0xDDE6 && c <= 0xDDFF))) {
-                    if (startIndex == -1) {
-                        startIndex = i;
-                    }
-                    emojiCode.append(c);
-                    startLength++;
-                    buf <<= 16;
-                    buf |= c;
-                } else if (emojiCode.length() > 0 && (c == 0x2640 || c == 0x2642 || c == 0x2695)) {
-                    emojiCode.append(c);
-                    startLength++;
-                    buf = 0;
-                    doneEmoji = true;
-                } else if (buf > 0 && (c & 0xF000) == 0xD000) {
-                    emojiCode.append(c);
-                    startLength++;
-                    buf = 0;
-                    doneEmoji = true;
-                } else if (c == 0x20E3) {
-                    if (i > 0) {
-                        char c2 = cs.charAt(previousGoodIndex);
-                        if ((c2 >= '0' && c2 <= '9') || c2 == '#' || c2 == '*') {
-                            startIndex = previousGoodIndex;
-                            startLength = i - previousGoodIndex + 1;
-                            emojiCode.append(c2);
-                            emojiCode.append(c);
-                            doneEmoji = true;
-                        }
-                    }
-                } else if ((c == 0x00A9 || c == 0x00AE || c >= 0x203C && c <= 0x3299) && EmojiData.dataCharsMap.containsKey(c)) {
-                    if (startIndex == -1) {
-                        startIndex = i;
-                    }
-                    startLength++;
-                    emojiCode.append(c);
-                    doneEmoji = true;
-                } else if (startIndex != -1) {
-                    emojiCode.setLength(0);
-                    startIndex = -1;
-                    startLength = 0;
-                    doneEmoji = false;
-                } else if (c != 0xfe0f) {
-                    if (emojiOnly != null) {
-                        emojiOnly[0] = 0;
-                        emojiOnly = null;
-                    }
-                }
-                if (doneEmoji && i + 2 < length) {
-                    char next = cs.charAt(i + 1);
-                    if (next == 0xD83C) {
-                        next = cs.charAt(i + 2);
-                        if (next >= 0xDFFB && next <= 0xDFFF) {
-                            emojiCode.append(cs.subSequence(i + 1, i + 3));
-                            startLength += 2;
-                            i += 2;
-                        }
-                    } else if (emojiCode.length() >= 2 && emojiCode.charAt(0) == 0xD83C && emojiCode.charAt(1) == 0xDFF4 && next == 0xDB40) {
-                        i++;
-                        while (true) {
-                            emojiCode.append(cs.subSequence(i, i + 2));
-                            startLength += 2;
-                            i += 2;
-                            if (i >= cs.length() || cs.charAt(i) != 0xDB40) {
-                                i--;
-                                break;
-                            }
-                        }
-
-                    }
-                }
-                previousGoodIndex = i;
-                char prevCh = c;
-                for (int a = 0; a < 3; a++) {
-                    if (i + 1 < length) {
-                        c = cs.charAt(i + 1);
-                        if (a == 1) {
-                            if (c == 0x200D && emojiCode.length() > 0) {
-                                emojiCode.append(c);
-                                i++;
-                                startLength++;
-                                doneEmoji = false;
-                            }
-                        } else if (startIndex != -1 || prevCh == '*' || prevCh >= '1' && prevCh <= '9') {
-                            if (c >= 0xFE00 && c <= 0xFE0F) {
-                                i++;
-                                startLength++;
-                            }
-                        }
-                    }
-                }
-                if (doneEmoji && i + 2 < length && cs.charAt(i + 1) == 0xD83C) {
-                    char next = cs.charAt(i + 2);
-                    if (next >= 0xDFFB && next <= 0xDFFF) {
-                        emojiCode.append(cs.subSequence(i + 1, i + 3));
-                        startLength += 2;
-                        i += 2;
-                    }
-                }
-                if (doneEmoji) {
-                    if (emojiOnly != null) {
-                        emojiOnly[0]++;
-                    }
-                    CharSequence code = emojiCode.subSequence(0, emojiCode.length());
-                    drawable = AXIOSEmojiLoader.getEmojiDrawable(code);
-                    if (drawable != null) {
-                        span = new EmojiSpan(drawable, DynamicDrawableSpan.ALIGN_BOTTOM, size, fontMetrics);
-                        //s.setSpan(span, startIndex, startIndex + startLength, Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
-                        spans.add(new SpanLocation(span, startIndex, startIndex + startLength));
-                        emojiCount++;
-                    }
-                    startLength = 0;
-                    startIndex = -1;
-                    emojiCode.setLength(0);
-                    doneEmoji = false;
-                }
-                if ((Build.VERSION.SDK_INT < 23 || Build.VERSION.SDK_INT >= 29) && emojiCount >= 50) {
-                    break;
+            scanEmojis(cs, 0, cs.length(), emojiOnly, new OnEmojiFound() {
+                @Override
+                public boolean onEmojiFound(int start, int end, DrawableInfo info) {
+                    spans.add(new SpanLocation(createSpan(info, size, fontMetrics), start, end));
+                    return hasSpanRoom(spans.size());
                 }
-            }
+            });
         } catch (Exception e) {
             e.printStackTrace();
             return new ArrayList<>();
         }
-        if (emojiOnly != null && emojiCode.length() != 0) {
-            emojiOnly[0] = 0;
-        }
         return spans;
     }
 
+    /**
+     * Fills the ranges with (start, end, value) triples of the emojis found by the scan of the replace methods,
+     * the value is the category and the index of the emoji image ({@link #createSpan(int, int, Paint.FontMetrics)}).
+     * Only {@code ranges.length / 3} emojis are written, but all of them are counted.
+     *
+     * @return the number of emojis found.
+     */
+    static int findEmojis(CharSequence cs, int start, int end, int[] ranges) {
+        final EmojiScan scan = EmojiScan.obtain();
+        try {
+            scan.ranges = ranges;
+            scan.run(cs, start, end, null);
+            return scan.count;
+        } finally {
+            scan.release();
+        }
+    }
+
+    private interface OnEmojiFound {
+        /**
+         * @return false to stop scanning.
+         */
+        boolean onEmojiFound(int start, int end, DrawableInfo info);
+    }
+
+    /**
+     * The single scan behind the replace methods: reports each emoji of the text which has a drawable.
+     * With the emoji table the sequences are resolved by their slot, nothing is allocated for the lookup.
+     */
+    private static void scanEmojis(CharSequence cs, int start, int end, int[] emojiOnly, OnEmojiFound callback) {
+        final EmojiScan scan = EmojiScan.obtain();
+        try {
+            scan.callback = callback;
+            scan.run(cs, start, end, emojiOnly);
+        } finally {
+            scan.release();
+        }
+    }
+
+    /**
+     * The state of a scan of {@link #scanEmojis} or {@link #findEmojis}, reused by the scans of its thread
+     * like the ranges of {@link AXIOSEmojiReplacer}, so a scan doesn't allocate its callbacks.
+     */
+    private static final class EmojiScan implements EmojiSequenceScanner.SlotCallback, EmojiSequenceScanner.Callback {
+        private static final ThreadLocal<EmojiScan> scans = new ThreadLocal<>();
+
+        boolean busy;
+        EmojiTable table;
+        /* null for findEmojis, which fills the ranges instead */
+        OnEmojiFound callback;
+        int[] ranges;
+        int count;
+
+        static EmojiScan obtain() {
+            EmojiScan scan = scans.get();
+            if (scan == null) {
+                scan = new EmojiScan();
+                scans.set(scan);
+            }
+            // a callback which scans another text gets its own state
+            if (scan.busy) return new EmojiScan();
+            scan.busy = true;
+            return scan;
+        }
+
+        void run(CharSequence cs, int start, int end, int[] emojiOnly) {
+            table = emojiTable;
+            if (table != null) {
+                EmojiSequenceScanner.scan(cs, start, end, emojiOnly, table, (EmojiSequenceScanner.SlotCallback) this);
+            } else {
+                EmojiSequenceScanner.scan(cs, start, end, emojiOnly, (EmojiSequenceScanner.Callback) this);
+            }
+        }
+
+        void release() {
+            table = null;
+            callback = null;
+            ranges = null;
+            count = 0;
+            busy = false;
+        }
+
+        @Override
+        public boolean onEmojiFound(int start, int end, int slot) {
+            return onEmojiFound(start, end, getDrawableInfo(table, slot));
+        }
+
+        @Override
+        public boolean onSequenceFound(int start, int end, @NonNull CharSequence code) {
+            final DrawableInfo info = getDrawableInfoFromData(code);
+            return info == null || onEmojiFound(start, end, info);
+        }
+
+        private boolean onEmojiFound(int start, int end, DrawableInfo info) {
+            if (callback != null) return callback.onEmojiFound(start, end, info);
+
+            final int index = count * 3;
+            if (index + 2 < ranges.length) {
+                ranges[index] = start;
+                ranges[index + 1] = end;
+                ranges[index + 2] = (info.page << 16) | (info.page2 & 0xFFFF);
+            }
+            count++;
+            return true;
+        }
+    }
+
+    /**
+     * @return the span of an emoji found by {@link #findEmojis(CharSequence, int, int, int[])}.
+     */
+    static EmojiSpan createSpan(int value, int size, Paint.FontMetrics fontMetrics) {
+        return createSpan(new DrawableInfo((byte) (value >>> 16), (short) value, value & 0xFFFF), size, fontMetrics);
+    }
+
+    private static EmojiSpan createSpan(DrawableInfo info, int size, Paint.FontMetrics fontMetrics) {
+        final EmojiDrawable drawable = new EmojiDrawable(info);
+        drawable.setBounds(0, 0, drawImgSize, drawImgSize);
+        return new EmojiSpan(drawable, DynamicDrawableSpan.ALIGN_BOTTOM, size, fontMetrics);
+    }
+
+    /**
+     * @return false once a text has as many emoji spans as the platform lays out smoothly.
+     */
+    static boolean hasSpanRoom(int emojiCount) {
+        return (Build.VERSION.SDK_INT >= 23 && Build.VERSION.SDK_INT < 29) || emojiCount < 50;
+    }
+
     static class SpanLocation{
         public EmojiSpan span;
         public int start;
@@ -9,7 +9,7 @@ import androidx.annotation.NonNull;
 import com.aghajari.emojiview.R;
 import com.aghajari.emojiview.emoji.Emoji;
 import com.aghajari.emojiview.emoji.EmojiCategory;
-import com.aghajari.emojiview.emoji.EmojiData;
+import com.aghajari.emojiview.emoji.EmojiDataTable;
 import com.aghajari.emojiview.emoji.EmojiProvider;
 import com.aghajari.emojiview.utils.EmojiReplacer;
 
@@ -32,8 +32,8 @@ public final class AXIOSEmojiProvider extends AXIOSEmojiReplacer implements Emoj
               R.drawable.emoji_ios_category_flags
       };
 
-      emojiCategories = new EmojiCategory[EmojiData.titles.length];
-      for (int c = 0; c < EmojiData.titles.length; c++) {
+      emojiCategories = new EmojiCategory[EmojiDataTable.getReleaseData().getCategoryCount()];
+      for (int c = 0; c < emojiCategories.length; c++) {
         emojiCategories[c] = new AXIOSEmojiCategoty(c, icons[c]);
       }
     }
@@ -43,8 +43,8 @@ public final class AXIOSEmojiProvider extends AXIOSEmojiReplacer implements Emoj
     AXIOSEmojiLoader.init(context);
 
     if (emojiCategories == null) {
-      emojiCategories = new EmojiCategory[EmojiData.titles.length];
-      for (int c = 0; c < EmojiData.titles.length; c++) {
+      emojiCategories = new EmojiCategory[EmojiDataTable.getReleaseData().getCategoryCount()];
+      for (int c = 0; c < emojiCategories.length; c++) {
         emojiCategories[c] = new AXIOSEmojiCategoty(c, icons[c]);
       }
     }
@@ -60,11 +60,12 @@ public final class AXIOSEmojiProvider extends AXIOSEmojiReplacer implements Emoj
      int icon;
 
     public AXIOSEmojiCategoty (int i,int icon){
-      DATA = new Emoji[EmojiData.releaseData[i].length];
-      for (int j = 0 ; j < EmojiData.releaseData[i].length;j++){
-        DATA[j] = new AXIOSEmoji(EmojiData.releaseData[i][j]);
+      final EmojiDataTable releaseData = EmojiDataTable.getReleaseData();
+      DATA = new Emoji[releaseData.size(i)];
+      for (int j = 0 ; j < DATA.length;j++){
+        DATA[j] = new AXIOSEmoji(releaseData.get(i, j));
       }
-      title = EmojiData.titles[i];
+      title = EmojiDataTable.getCategoryTitle(i);
       this.icon = icon;
     }
 
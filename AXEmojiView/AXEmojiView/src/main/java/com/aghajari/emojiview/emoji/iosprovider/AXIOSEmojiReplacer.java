@@ -1,54 +1,76 @@
 package com.aghajari.emojiview.emoji.iosprovider;
 
-import java.util.ArrayList;
-import java.util.List;
-
-import com.aghajari.emojiview.AXEmojiManager;
-import com.aghajari.emojiview.utils.EmojiRange;
+import com.aghajari.emojiview.utils.EmojiSpanReplacer;
 import com.aghajari.emojiview.utils.EmojiReplacer;
+import com.aghajari.emojiview.utils.SpanStartIndex;
 import com.aghajari.emojiview.emoji.iosprovider.AXIOSEmojiLoader.EmojiSpan;
-import com.aghajari.emojiview.emoji.iosprovider.AXIOSEmojiLoader.SpanLocation;
 
 import android.content.Context;
 import android.graphics.Paint;
 import android.text.Spannable;
 
 
-public abstract class AXIOSEmojiReplacer implements EmojiReplacer {
+public abstract class AXIOSEmojiReplacer implements EmojiSpanReplacer {
+    private static final int GUESSED_EMOJI_RANGES = 64;
+    private final ThreadLocal<int[]> emojiRanges = new ThreadLocal<>();
+
     @Override
     public void replaceWithImages(Context context, Spannable text, float emojiSize, Paint.FontMetrics fontMetrics, float defaultEmojiSize, EmojiReplacer fallback) {
        //AXEmojiLoader.replaceEmoji(text,fontMetrics,(int) emojiSize,false);
         if (text.length()==0) return;
 
-       final AXEmojiManager emojiManager = AXEmojiManager.getInstance();
-       final EmojiSpan[] existingSpans = text.getSpans(0, text.length(), EmojiSpan.class);
-       final List<Integer> existingSpanPositions = new ArrayList<>(existingSpans.length);
-       final int size = existingSpans.length;
-       //noinspection ForLoopReplaceableByForEach
-       for (int i = 0; i < size; i++) {
-           existingSpanPositions.add(text.getSpanStart(existingSpans[i]));
-       }
-       if (existingSpanPositions.size()==0) {
+       final SpanStartIndex existingSpans = SpanStartIndex.of(text, text.getSpans(0, text.length(), EmojiSpan.class));
+       if (existingSpans.isEmpty()) {
     	   AXIOSEmojiLoader.replaceEmoji(text,fontMetrics,(int) emojiSize,false);
        }else {
 
-       final List<EmojiRange> findAllEmojis = emojiManager.findAllEmojis(text);
+       int[] ranges = emojiRanges.get();
+       if (ranges == null) ranges = new int[GUESSED_EMOJI_RANGES * 3];
+       int found = findEmojis(text, 0, text.length(), ranges);
+       if (found * 3 > ranges.length) {
+           ranges = new int[found * 3];
+           found = findEmojis(text, 0, text.length(), ranges);
+       }
+       emojiRanges.set(ranges);
+
+       setEmojiSpans(context, text, ranges, 0, found, emojiSize, fontMetrics, defaultEmojiSize);
+       }
+    }
 
-       //noinspection ForLoopReplaceableByForEach
-       for (int i = 0; i < findAllEmojis.size(); i++) {
-           final EmojiRange location = findAllEmojis.get(i);
-
-           if (!existingSpanPositions.contains(location.start)) {
-        	   List<SpanLocation> list = AXIOSEmojiLoader.replaceEmoji2(location.emoji.getUnicode(), fontMetrics, size, false, null);
-               for (SpanLocation l : list) {
-            	   l.start = location.start+l.start;
-            	   l.end = location.start+l.end;
-            	   if (!existingSpanPositions.contains(l.start)) {
-            	   text.setSpan(l.span,l.start,l.end, Spannable.SPAN_EXCLUSIVE_EXCLUSIVE); 
-                   }
-               }
+    @Override
+    public int findEmojis(CharSequence text, int start, int end, int[] ranges) {
+       return AXIOSEmojiLoader.findEmojis(text, start, end, ranges);
+    }
+
+    @Override
+    public void setEmojiSpans(Context context, Spannable text, int[] ranges, int from, int count, float emojiSize, Paint.FontMetrics fontMetrics, float defaultEmojiSize) {
+       if (count <= 0) return;
+       final int end = (from + count) * 3;
+       final SpanStartIndex existingSpans = SpanStartIndex.of(text, text.getSpans(ranges[from * 3], ranges[end - 2], EmojiSpan.class));
+       int emojiCount = 0;
+
+       // the ranges are in text order, so this is a single merge with the existing spans
+       for (int i = from * 3; i < end; i += 3) {
+           final int start = ranges[i];
+
+           if (!existingSpans.containsNext(start)) {
+               text.setSpan(AXIOSEmojiLoader.createSpan(ranges[i + 2], (int) emojiSize, fontMetrics),
+                       start, ranges[i + 1], Spannable.SPAN_EXCLUSIVE_EXCLUSIVE);
+               if (!AXIOSEmojiLoader.hasSpanRoom(++emojiCount)) return;
            }
        }
+    }
+
+    @Override
+    public void replaceWithImages(Context context, Spannable text, int start, int end, float emojiSize, Paint.FontMetrics fontMetrics, float defaultEmojiSize) {
+       final EmojiSpan[] existingSpans = text.getSpans(start, end, EmojiSpan.class);
+       //noinspection ForLoopReplaceableByForEach
+       for (int i = 0; i < existingSpans.length; i++) {
+           start = Math.min(start, text.getSpanStart(existingSpans[i]));
+           end = Math.max(end, text.getSpanEnd(existingSpans[i]));
+           text.removeSpan(existingSpans[i]);
        }
+       if (start >= end) return;
+       AXIOSEmojiLoader.replaceEmoji(text, fontMetrics, (int) emojiSize, false, null, start, end);
     }
 }
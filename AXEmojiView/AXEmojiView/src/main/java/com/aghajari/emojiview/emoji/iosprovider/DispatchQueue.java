@@ -1,86 +0,0 @@
-package com.aghajari.emojiview.emoji.iosprovider;
-
-import android.os.Handler;
-import android.os.Looper;
-import android.os.Message;
-
-import java.util.concurrent.CountDownLatch;
-
-class DispatchQueue extends Thread {
-
-    private volatile Handler handler = null;
-    private CountDownLatch syncLatch = new CountDownLatch(1);
-
-    public DispatchQueue(final String threadName) {
-        setName(threadName);
-        start();
-    }
-
-    public void sendMessage(Message msg, int delay) {
-        try {
-            syncLatch.await();
-            if (delay <= 0) {
-                handler.sendMessage(msg);
-            } else {
-                handler.sendMessageDelayed(msg, delay);
-            }
-        } catch (Exception e) {
-        }
-    }
-
-    public void cancelRunnable(Runnable runnable) {
-        try {
-            syncLatch.await();
-            handler.removeCallbacks(runnable);
-        } catch (Exception e) {
-            
-        }
-    }
-
-    public void postRunnable(Runnable runnable) {
-        postRunnable(runnable, 0);
-    }
-
-    public void postRunnable(Runnable runnable, long delay) {
-        try {
-            syncLatch.await();
-        } catch (Exception e) {
-            
-        }
-        if (delay <= 0) {
-            handler.post(runnable);
-        } else {
-            handler.postDelayed(runnable, delay);
-        }
-    }
-
-    public void cleanupQueue() {
-        try {
-            syncLatch.await();
-            handler.removeCallbacksAndMessages(null);
-        } catch (Exception e) {
-            
-        }
-    }
-
-    public void handleMessage(Message inputMessage) {
-
-    }
-
-    public void recycle() {
-        handler.getLooper().quit();
-    }
-
-    @Override
-    public void run() {
-        Looper.prepare();
-        handler = new Handler() {
-            @Override
-            public void handleMessage(Message msg) {
-                DispatchQueue.this.handleMessage(msg);
-            }
-        };
-        syncLatch.countDown();
-        Looper.loop();
-    }
-}
@@ -0,0 +1,45 @@
+package com.aghajari.emojiview.emoji.iosprovider;
+
+import android.content.ComponentCallbacks2;
+import android.graphics.Bitmap;
+
+/**
+ * LRU cache of the decoded emoji bitmaps of {@link AXIOSEmojiLoader}, limited by the number of bytes
+ * the bitmaps use. Pinned emojis (the ones which are on the screen) are never evicted, so the cache
+ * may grow past its max size while they are shown and shrinks back as soon as they are unpinned.
+ */
+public final class EmojiBitmapCache extends PinnedLruCache<Bitmap> {
+
+    EmojiBitmapCache(int maxSize) {
+        super(maxSize);
+    }
+
+    @Override
+    int sizeOf(Bitmap bitmap) {
+        return bitmap.getByteCount();
+    }
+
+    /**
+     * Releases memory depending on the level passed to {@link ComponentCallbacks2#onTrimMemory(int)}.
+     */
+    public void onTrimMemory(int level) {
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE) {
+            evictAll();
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+            trimToSize(getMaxSize() / 2);
+        }
+    }
+
+    public void onLowMemory() {
+        evictAll();
+    }
+
+    @Override
+    public synchronized String toString() {
+        int accesses = getHitCount() + getMissCount();
+        int hitPercent = accesses != 0 ? (100 * getHitCount() / accesses) : 0;
+        return "EmojiBitmapCache[size=" + size() + ",maxSize=" + getMaxSize() + ",count=" + count()
+                + ",hits=" + getHitCount() + ",misses=" + getMissCount() + ",hitRate=" + hitPercent + "%"
+                + ",evictions=" + getEvictionCount() + "]";
+    }
+}
@@ -0,0 +1,269 @@
+package com.aghajari.emojiview.emoji.iosprovider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs the bitmap decodes of {@link AXIOSEmojiLoader} on a few worker threads.
+ * Emojis on the screen are decoded before preloads and, by default, the latest request first,
+ * so after a fling the emojis which are visible now don't wait behind the ones that scrolled away.
+ *
+ * It's also the single-flight registry of the loads: there is at most one decode in flight per key,
+ * every request for the key joins its lock-free list of waiters, and once the decode is done
+ * all of them are called with a single post to the callback executor (the main thread).
+ * Each request can be cancelled, the decode is dropped if nothing waits for it anymore.
+ */
+public final class EmojiDecodeScheduler {
+    public static final int PRIORITY_PRELOAD = 0;
+    public static final int PRIORITY_VISIBLE = 1;
+
+    interface Decoder {
+        /**
+         * Decodes the bitmap of the key, called on a worker thread.
+         */
+        void decode(int key);
+    }
+
+    /* marks the waiters of a load which is done or dropped, nothing can join it anymore */
+    private static final Request CLOSED = new Request(null, null);
+
+    private final Decoder decoder;
+    private final Executor callbackExecutor;
+    private final ThreadPoolExecutor executor;
+    private final BlockingQueue<Runnable> queue = new PriorityBlockingQueue<>();
+    private final ConcurrentHashMap<Integer, DecodeTask> tasks = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile boolean lifo = true;
+
+    EmojiDecodeScheduler(int workers, Decoder decoder, Executor callbackExecutor) {
+        this.decoder = decoder;
+        this.callbackExecutor = callbackExecutor;
+        executor = new ThreadPoolExecutor(workers, workers, 10, TimeUnit.SECONDS, queue, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "emojiDecoder-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setPriority(Thread.NORM_PRIORITY - 1);
+                return thread;
+            }
+        });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    static int getDefaultWorkerCount() {
+        return Math.max(1, Math.min(3, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    /**
+     * Requests the bitmap of the key. If it's already being loaded, the request joins that load
+     * and, if it hasn't started yet, moves it to the front of its priority.
+     *
+     * @param callback called on the callback executor once the key is decoded, unless the request is cancelled.
+     * @return the request, to cancel it when its emoji isn't needed anymore.
+     */
+    Request schedule(int key, int priority, Runnable callback) {
+        while (true) {
+            DecodeTask task = tasks.get(key);
+            if (task == null) {
+                DecodeTask created = new DecodeTask(key, priority, sequence.getAndIncrement());
+                task = tasks.putIfAbsent(key, created);
+                if (task == null) {
+                    Request request = new Request(created, callback);
+                    created.join(request);
+                    executor.execute(created);
+                    return request;
+                }
+            }
+
+            Request request = new Request(task, callback);
+            if (task.join(request)) {
+                promote(task, priority);
+                return request;
+            }
+            // the load is done or dropped but still registered, replace it
+            tasks.remove(key, task);
+        }
+    }
+
+    /**
+     * Cancels the request, the decode is dropped as well if it hasn't started and nothing else is waiting for it.
+     */
+    void cancel(Request request) {
+        if (!request.cancelled.compareAndSet(false, true)) return;
+
+        DecodeTask task = request.task;
+        if (task.waiting.decrementAndGet() == 0 && task.close()) {
+            queue.remove(task);
+            tasks.remove(task.key, task);
+        }
+    }
+
+    private void promote(DecodeTask task, int priority) {
+        if (task.started.get() || (priority <= task.priority && !lifo)) return;
+        // only one thread can take it out of the queue, that one owns it until it's queued again
+        if (queue.remove(task)) {
+            task.priority = Math.max(task.priority, priority);
+            task.sequence = sequence.getAndIncrement();
+            executor.execute(task);
+        }
+    }
+
+    /**
+     * Sets the number of threads decoding emojis at the same time.
+     */
+    public synchronized void setWorkerCount(int workers) {
+        if (workers <= 0) throw new IllegalArgumentException("workers <= 0");
+        if (workers > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(workers);
+            executor.setCorePoolSize(workers);
+        } else {
+            executor.setCorePoolSize(workers);
+            executor.setMaximumPoolSize(workers);
+        }
+    }
+
+    public synchronized int getWorkerCount() {
+        return executor.getMaximumPoolSize();
+    }
+
+    /**
+     * Decodes the latest requests first (true, default) or in the order they were requested (false).
+     * Emojis on the screen are always decoded before preloads.
+     */
+    public synchronized void setLifo(boolean lifo) {
+        if (this.lifo == lifo) return;
+
+        // the order of the queued tasks changes, they have to be sorted again
+        List<Runnable> pending = new ArrayList<>(queue.size());
+        queue.drainTo(pending);
+        this.lifo = lifo;
+        queue.addAll(pending);
+    }
+
+    public boolean isLifo() {
+        return lifo;
+    }
+
+    /**
+     * @return the number of decodes which haven't started yet.
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of keys which are being loaded.
+     */
+    public int getInFlightCount() {
+        return tasks.size();
+    }
+
+    private void run(DecodeTask task) {
+        task.started.set(true);
+        if (task.waiters.get() == CLOSED) return;
+
+        try {
+            decoder.decode(task.key);
+        } finally {
+            final Request waiters = task.waiters.getAndSet(CLOSED);
+            tasks.remove(task.key, task);
+
+            if (waiters != CLOSED) {
+                callbackExecutor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        for (Request request = waiters; request != null; request = request.next) {
+                            if (!request.cancelled.get() && request.callback != null) {
+                                request.callback.run();
+                            }
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    static final class Request {
+        private final DecodeTask task;
+        private final Runnable callback;
+        private final AtomicBoolean cancelled = new AtomicBoolean(false);
+        private Request next;
+
+        private Request(DecodeTask task, Runnable callback) {
+            this.task = task;
+            this.callback = callback;
+        }
+
+        boolean isCancelled() {
+            return cancelled.get();
+        }
+    }
+
+    private final class DecodeTask implements Runnable, Comparable<DecodeTask> {
+        private final int key;
+        /* Treiber stack of the requests waiting for this load, CLOSED once it's done or dropped */
+        private final AtomicReference<Request> waiters = new AtomicReference<>();
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final AtomicBoolean started = new AtomicBoolean(false);
+        private volatile int priority;
+        private volatile long sequence;
+
+        private DecodeTask(int key, int priority, long sequence) {
+            this.key = key;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        /**
+         * @return false if the load is closed and the request has to start a new one.
+         */
+        private boolean join(Request request) {
+            waiting.incrementAndGet();
+            while (true) {
+                Request head = waiters.get();
+                if (head == CLOSED) {
+                    waiting.decrementAndGet();
+                    return false;
+                }
+                request.next = head;
+                if (waiters.compareAndSet(head, request)) return true;
+            }
+        }
+
+        /**
+         * Closes the load if it hasn't started and nothing waits for it.
+         */
+        private boolean close() {
+            while (true) {
+                Request head = waiters.get();
+                if (head == CLOSED || started.get() || waiting.get() > 0) return false;
+                if (waiters.compareAndSet(head, CLOSED)) return true;
+            }
+        }
+
+        @Override
+        public void run() {
+            EmojiDecodeScheduler.this.run(this);
+        }
+
+        @Override
+        public int compareTo(DecodeTask o) {
+            if (priority != o.priority) return priority > o.priority ? -1 : 1;
+            if (sequence == o.sequence) return 0;
+            return (sequence > o.sequence) == lifo ? -1 : 1;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.aghajari.emojiview.emoji.iosprovider;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU cache by int keys limited by the size of its values, see {@link EmojiBitmapCache}. Pinned keys are
+ * never evicted, so the cache may grow past its max size while they're pinned and shrinks back
+ * as soon as they are unpinned.
+ */
+abstract class PinnedLruCache<V> {
+    private final LinkedHashMap<Integer, V> values = new LinkedHashMap<>(64, 0.75f, true);
+    private final HashMap<Integer, Integer> pins = new HashMap<>();
+
+    private int maxSize;
+    private int size;
+
+    private int hitCount;
+    private int missCount;
+    private int evictionCount;
+
+    PinnedLruCache(int maxSize) {
+        if (maxSize <= 0) throw new IllegalArgumentException("maxSize <= 0");
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return the size of the value, in the unit of maxSize.
+     */
+    abstract int sizeOf(V value);
+
+    synchronized V get(int key) {
+        V value = values.get(key);
+        if (value != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return value;
+    }
+
+    /**
+     * Same as {@link #get(int)} without changing the order of the entries or the stats.
+     */
+    synchronized boolean contains(int key) {
+        return values.containsKey(key);
+    }
+
+    synchronized void put(int key, V value) {
+        V previous = values.put(key, value);
+        if (previous != null) size -= sizeOf(previous);
+        size += sizeOf(value);
+        trimToSize(maxSize);
+    }
+
+    synchronized void remove(int key) {
+        V previous = values.remove(key);
+        if (previous != null) size -= sizeOf(previous);
+    }
+
+    /**
+     * Keeps the value of the key in the cache until it's unpinned as many times as it's been pinned.
+     * The key doesn't have to be loaded yet.
+     */
+    synchronized void pin(int key) {
+        pins.put(key, getPinCount(key) + 1);
+    }
+
+    synchronized void unpin(int key) {
+        int count = getPinCount(key) - 1;
+        if (count > 0) {
+            pins.put(key, count);
+        } else {
+            pins.remove(key);
+            if (size > maxSize) trimToSize(maxSize);
+        }
+    }
+
+    private int getPinCount(int key) {
+        Integer count = pins.get(key);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Evicts the least recently used values which aren't pinned until the cache fits in maxSize.
+     */
+    public synchronized void trimToSize(int maxSize) {
+        Iterator<Map.Entry<Integer, V>> iterator = values.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            Map.Entry<Integer, V> entry = iterator.next();
+            if (pins.containsKey(entry.getKey())) continue;
+
+            size -= sizeOf(entry.getValue());
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    /**
+     * Evicts every value which isn't pinned.
+     */
+    public void evictAll() {
+        trimToSize(0);
+    }
+
+    /**
+     * Sets the max size of the values, evicting the extra ones right away.
+     */
+    public synchronized void setMaxSize(int maxSize) {
+        if (maxSize <= 0) throw new IllegalArgumentException("maxSize <= 0");
+        this.maxSize = maxSize;
+        trimToSize(maxSize);
+    }
+
+    public synchronized int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return the size of the cached values.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of cached values.
+     */
+    public synchronized int count() {
+        return values.size();
+    }
+
+    public synchronized int getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized int getMissCount() {
+        return missCount;
+    }
+
+    public synchronized int getEvictionCount() {
+        return evictionCount;
+    }
+}
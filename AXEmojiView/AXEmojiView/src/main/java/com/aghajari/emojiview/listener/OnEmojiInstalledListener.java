@@ -0,0 +1,8 @@
+package com.aghajari.emojiview.listener;
+
+/**
+ * Called on the main thread once the emojis of {@link com.aghajari.emojiview.AXEmojiManager#installAsync} are ready.
+ */
+public interface OnEmojiInstalledListener {
+    void onEmojiInstalled();
+}
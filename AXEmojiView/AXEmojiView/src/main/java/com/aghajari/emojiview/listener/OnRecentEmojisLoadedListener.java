@@ -0,0 +1,8 @@
+package com.aghajari.emojiview.listener;
+
+/**
+ * Called on the main thread once {@link com.aghajari.emojiview.shared.RecentEmojiManager} has read the recent emojis from the disk.
+ */
+public interface OnRecentEmojisLoadedListener {
+    void onRecentEmojisLoaded();
+}
@@ -0,0 +1,63 @@
+package com.aghajari.emojiview.shared;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Background thread of the default recent and variant managers. Loads and writes run on it one at a time,
+ * so a load never sees a half written file and the main thread never waits for the disk.
+ */
+final class EmojiPersister {
+    private static Handler handler;
+
+    private EmojiPersister() {
+    }
+
+    private static synchronized Handler getHandler() {
+        if (handler == null) {
+            HandlerThread thread = new HandlerThread("emojiPersister", Process.THREAD_PRIORITY_BACKGROUND);
+            thread.start();
+            handler = new Handler(thread.getLooper());
+        }
+        return handler;
+    }
+
+    static void post(Runnable task) {
+        getHandler().post(task);
+    }
+
+    /**
+     * Runs the task after the delay. Scheduling it again before it runs moves it,
+     * so a burst of changes is written once.
+     */
+    static void schedule(Runnable task, long delayMillis) {
+        Handler handler = getHandler();
+        handler.removeCallbacks(task);
+        handler.postDelayed(task, delayMillis);
+    }
+
+    /**
+     * Replaces the file with the data: it's written next to the file and renamed over it once it's on the disk,
+     * the file has either the old or the new data if the process dies meanwhile.
+     */
+    static void writeAtomically(File file, byte[] data) throws IOException {
+        File temp = new File(file.getPath() + ".tmp");
+        FileOutputStream out = new FileOutputStream(temp);
+        try {
+            out.write(data);
+            out.getFD().sync();
+        } finally {
+            out.close();
+        }
+        if (!temp.renameTo(file)) {
+            //noinspection ResultOfMethodCallIgnored
+            temp.delete();
+            throw new IOException("couldn't replace " + file);
+        }
+    }
+}
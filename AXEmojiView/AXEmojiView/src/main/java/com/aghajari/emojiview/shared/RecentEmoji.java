@@ -4,6 +4,7 @@ import androidx.annotation.NonNull;
 
 import com.aghajari.emojiview.emoji.Emoji;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Interface for providing some custom implementation for recent emojis.
@@ -18,6 +19,15 @@ public interface RecentEmoji {
    */
   @NonNull Collection<Emoji> getRecentEmojis();
 
+  /**
+   * Returns the recent emojis in the same order as {@link #getRecentEmojis()}, as an immutable list
+   * which can be read by index.<br>
+   *
+   * The returned list must not change. Return the same instance until the recent emojis change,
+   * the recent page compares the snapshots to find out if it needs an update.
+   */
+  @NonNull List<Emoji> getRecentEmojisSnapshot();
+
   /**
    * Should add the emoji to the recent ones. After calling this method, {@link #getRecentEmojis()}
    * should return the emoji that was just added.
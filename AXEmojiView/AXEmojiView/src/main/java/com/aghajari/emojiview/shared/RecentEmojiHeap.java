@@ -0,0 +1,161 @@
+package com.aghajari.emojiview.shared;
+
+import com.aghajari.emojiview.emoji.Emoji;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Min-heap of the recent emojis by score, indexed by their emoji id. The least used emoji is the root,
+ * it's the one which makes room for a new emoji. Adding a use is O(log n).
+ *
+ * It doesn't know about installs or time, see the Ranking of {@link RecentEmojiManager}. Not thread safe.
+ */
+final class RecentEmojiHeap {
+    private Entry[] entries = new Entry[0];
+    private Entry[] heap = new Entry[16];
+    private int size;
+
+    private static final class Entry {
+        final Emoji emoji;
+        final int id;
+        double score;
+        int index;
+
+        Entry(Emoji emoji, int id, double score) {
+            this.emoji = emoji;
+            this.id = id;
+            this.score = score;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the emoji at the index of the heap, the indexes aren't in any order but the root is the least used.
+     */
+    Emoji getEmoji(int index) {
+        return heap[index].emoji;
+    }
+
+    double getScore(int index) {
+        return heap[index].score;
+    }
+
+    /**
+     * Adds the weight to the score of the emoji, the least used emojis are removed to make room for a new one.
+     *
+     * @param id         the id of the emoji, an emoji which had the id before (another install) is replaced.
+     * @param max        the max number of emojis.
+     * @param guessedIds the number of ids the index is grown to at once.
+     */
+    void add(Emoji emoji, int id, double weight, int max, int guessedIds) {
+        Entry entry = id < entries.length ? entries[id] : null;
+        if (entry != null && entry.emoji != emoji) {
+            // the id is another emoji's now
+            removeAt(entry.index);
+            entry = null;
+        }
+        if (entry != null) {
+            entry.score += weight;
+            siftDown(entry.index);
+            return;
+        }
+
+        while (size >= max) removeAt(0);
+
+        entry = new Entry(emoji, id, weight);
+        if (id >= entries.length) {
+            entries = Arrays.copyOf(entries, Math.max(id + 1, guessedIds));
+        }
+        entries[id] = entry;
+        if (size == heap.length) heap = Arrays.copyOf(heap, size * 2);
+        heap[size] = entry;
+        entry.index = size++;
+        siftUp(entry.index);
+    }
+
+    /**
+     * Multiplies every score, the order of the emojis doesn't change.
+     */
+    void scale(double scale) {
+        for (int i = 0; i < size; i++) {
+            heap[i].score *= scale;
+        }
+    }
+
+    /**
+     * Removes the least used emojis until there are max.
+     *
+     * @return true if any emoji was removed.
+     */
+    boolean trim(int max) {
+        boolean changed = false;
+        while (size > max) {
+            removeAt(0);
+            changed = true;
+        }
+        return changed;
+    }
+
+    /**
+     * @return the emojis from the most used one.
+     */
+    Emoji[] sorted() {
+        Entry[] copy = Arrays.copyOf(heap, size);
+        Arrays.sort(copy, new Comparator<Entry>() {
+            @Override
+            public int compare(Entry lhs, Entry rhs) {
+                return Double.compare(rhs.score, lhs.score);
+            }
+        });
+        Emoji[] emojis = new Emoji[size];
+        for (int i = 0; i < size; i++) {
+            emojis[i] = copy[i].emoji;
+        }
+        return emojis;
+    }
+
+    private void removeAt(int index) {
+        Entry removed = heap[index];
+        entries[removed.id] = null;
+        size--;
+        if (index != size) {
+            heap[index] = heap[size];
+            heap[index].index = index;
+            siftDown(index);
+            siftUp(index);
+        }
+        heap[size] = null;
+    }
+
+    private void siftUp(int index) {
+        Entry entry = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent].score <= entry.score) break;
+            heap[index] = heap[parent];
+            heap[index].index = index;
+            index = parent;
+        }
+        heap[index] = entry;
+        entry.index = index;
+    }
+
+    private void siftDown(int index) {
+        Entry entry = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) break;
+            if (child + 1 < size && heap[child + 1].score < heap[child].score) child++;
+            if (entry.score <= heap[child].score) break;
+            heap[index] = heap[child];
+            heap[index].index = index;
+            index = child;
+        }
+        heap[index] = entry;
+        entry.index = index;
+    }
+}
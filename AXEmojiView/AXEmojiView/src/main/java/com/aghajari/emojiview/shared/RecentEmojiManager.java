@@ -2,28 +2,52 @@ package com.aghajari.emojiview.shared;
 
 import android.content.Context;
 import android.content.SharedPreferences;
+import android.os.Handler;
+import android.os.Looper;
 
 import androidx.annotation.NonNull;
 
 import com.aghajari.emojiview.AXEmojiManager;
 import com.aghajari.emojiview.emoji.Emoji;
+import com.aghajari.emojiview.listener.OnRecentEmojisLoadedListener;
 
-import java.util.ArrayList;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Ranks the recent emojis by frecency: every use adds a weight which halves every {@link #HALF_LIFE} millis,
+ * so an emoji used a lot last month falls behind the ones used a few times today.
+ *
+ * Scores are kept relative to a fixed epoch, a use only changes the score of its own emoji and the ranking
+ * is an indexed min-heap, adding an emoji is O(log n). The recents are loaded and saved on a background thread,
+ * saves are delayed and coalesced and replace the file atomically. Nothing waits for the disk: until the recents
+ * are loaded they're empty, the views refresh once they are (see {@link #refreshWhenLoaded}).
+ */
 public final class RecentEmojiManager implements RecentEmoji {
    static  String PREFERENCE_NAME = "emoji-recent-manager";
    static  String RECENT_EMOJIS = "recent-saved-emojis";
+   static  String FILE_NAME = "emoji-recent-manager.bin";
    public static  boolean FILL_DEFAULT_HISTORY = true;
    public static int MAX_RECENT = -1;
+   public static long HALF_LIFE = 3 * 24 * 60 * 60 * 1000L;
 
-   private static HashMap<String, Integer> emojiUseHistory = new HashMap<>();
-   private static ArrayList<Emoji> recentEmoji = new ArrayList<>();
+   private static final int MAGIC = 0x41585245;
+   private static final byte VERSION = 1;
+   private static final long SAVE_DELAY = 2000;
+   /* scores are rescaled before the weight of a use gets this many half lives past the epoch */
+   private static final int MAX_EPOCH_HALF_LIVES = 64;
 
    public static String[] FILL_DEFAULT_RECENT_DATA = new String[]{
             "\uD83D\uDE02", "\uD83D\uDE18", "\u2764", "\uD83D\uDE0D", "\uD83D\uDE0A", "\uD83D\uDE01",
@@ -33,31 +57,153 @@ public final class RecentEmojiManager implements RecentEmoji {
             "\uD83D\uDE05", "\uD83D\uDE1A", "\uD83D\uDE4A", "\uD83D\uDE0C", "\uD83D\uDE00", "\uD83D\uDE0B",
             "\uD83D\uDE06", "\uD83D\uDC4C", "\uD83D\uDE10", "\uD83D\uDE15"};
 
+   private static final Object lock = new Object();
+   private static Ranking ranking = new Ranking();
+   private static List<Emoji> snapshot;
+   private static boolean dirty;
+   /* false until the file has been read, the emojis used meanwhile are added to the saved ones */
+   private static boolean loaded;
+
+   private static Context appContext;
+   private static boolean loadStarted;
+   private static final AtomicInteger pendingLoads = new AtomicInteger();
+   private static volatile boolean managerCreated;
+   private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+   /* main thread only */
+   private static final Map<OnRecentEmojisLoadedListener, Boolean> loadedListeners = new WeakHashMap<>();
+
+   private static final Runnable saveTask = new Runnable() {
+       @Override
+       public void run() {
+           save();
+       }
+   };
+
+   private static final Runnable loadTask = new Runnable() {
+       @Override
+       public void run() {
+           // changes which are waiting to be saved would be lost otherwise
+           save();
+           Ranking saved = load();
+           boolean merged = false;
+           synchronized (lock) {
+               if (!loaded) {
+                   loaded = true;
+                   saved.merge(ranking);
+                   merged = dirty = ranking.heap.size() != 0;
+               }
+               ranking = saved;
+               snapshot = null;
+           }
+           if (merged) EmojiPersister.schedule(saveTask, SAVE_DELAY);
+           if (managerCreated) fillDefaultHistory();
+           mainHandler.post(notifyLoaded);
+       }
+   };
+
+   private static final Runnable notifyLoaded = new Runnable() {
+       @Override
+       public void run() {
+           if (pendingLoads.decrementAndGet() > 0 || loadedListeners.isEmpty()) return;
+           final OnRecentEmojisLoadedListener[] listeners = loadedListeners.keySet().toArray(new OnRecentEmojisLoadedListener[0]);
+           loadedListeners.clear();
+           for (OnRecentEmojisLoadedListener listener : listeners) {
+               if (listener != null) listener.onRecentEmojisLoaded();
+           }
+       }
+   };
+
     @NonNull private final Context context;
 
   public static boolean isEmpty(Context context){
-    return emojiUseHistory.isEmpty();
+    synchronized (lock) {
+      return ranking.heap.size() == 0;
+    }
   }
 
   @Override
   public boolean isEmpty(){
-    if (!emojiUseHistory.isEmpty()) return  false;
+    if (!isEmpty(context)) return  false;
     if (AXEmojiManager.getInstance().isShowingEmptyRecentEnabled()==false) {
       return true;
     }
     return  false;
   }
 
+  /**
+   * Doesn't wait for the recents to be loaded, they're empty until then.
+   */
   public RecentEmojiManager(@NonNull final Context context) {
     this.context = context.getApplicationContext();
-    reload();
+    managerCreated = true;
+    if (!startLoading(this.context) && !isLoading()) fillDefaultHistory();
+  }
+
+  /**
+   * Starts loading the recent emojis on the background thread, so they are ready when the emoji view is created.
+   * {@link AXEmojiManager#install} calls this.
+   */
+  public static synchronized void preload(@NonNull Context context) {
+    if (startLoading(context)) return;
+    // installed again, the recents get the emojis of the new provider right away and are read again once they're saved
+    synchronized (lock) {
+      ranking = ranking.remap();
+      snapshot = null;
+    }
+    postLoad();
+  }
+
+  /**
+   * @return false if the recents had already been loaded.
+   */
+  private static synchronized boolean startLoading(Context context) {
+    appContext = context.getApplicationContext();
+    if (loadStarted) return false;
+    loadStarted = true;
+    postLoad();
+    return true;
+  }
+
+  private static void postLoad() {
+    pendingLoads.incrementAndGet();
+    EmojiPersister.post(loadTask);
+  }
+
+  /**
+   * @return true while the recents are being read from the disk.
+   */
+  public static boolean isLoading() {
+    return pendingLoads.get() > 0;
+  }
+
+  /**
+   * Calls the listener on the main thread once the recents being read are loaded, the view shows the recents
+   * it has meanwhile. The listener is held weakly and isn't called if nothing is being loaded.
+   * Must be called on the main thread.
+   */
+  public static void refreshWhenLoaded(@NonNull OnRecentEmojisLoadedListener listener) {
+    if (isLoading()) loadedListeners.put(listener, Boolean.TRUE);
   }
 
   @Override
   public Collection<Emoji> getRecentEmojis() {
-      return recentEmoji;
+      return getRecentEmojisSnapshot();
+  }
+
+  @Override
+  public List<Emoji> getRecentEmojisSnapshot() {
+      synchronized (lock) {
+          if (snapshot == null) {
+              snapshot = Collections.unmodifiableList(Arrays.asList(ranking.heap.sorted()));
+          }
+          return snapshot;
+      }
   }
 
+  /**
+   * Reads the recent emojis from the disk again on the background thread,
+   * {@link #getRecentEmojisSnapshot()} returns them once they are loaded.
+   */
   @Override
   public void reload() {
       loadRecentEmoji();
@@ -72,122 +218,242 @@ public final class RecentEmojiManager implements RecentEmoji {
   public void persist() {
     saveRecentEmoji();
   }
-  
-  private SharedPreferences getPreferences() {
-    return context.getSharedPreferences(PREFERENCE_NAME, Context.MODE_PRIVATE);
-  }
 
     public void addRecentEmoji(Emoji emoji) {
-        Integer count = emojiUseHistory.get(emoji.getBase().getUnicode());
-        if (count == null) {
-            count = 0;
+        synchronized (lock) {
+            ranking.use(emoji.getBase(), ranking.weight(System.currentTimeMillis()));
+            snapshot = null;
+            dirty = true;
         }
-        if (MAX_RECENT<=0) MAX_RECENT = 48;
-        if (count == 0 && emojiUseHistory.size() >= MAX_RECENT) {
-            Emoji mEmoji = recentEmoji.get(recentEmoji.size() - 1);
-            emojiUseHistory.remove(mEmoji.getBase().getUnicode());
-            recentEmoji.set(recentEmoji.size() - 1, emoji.getBase());
-        }else{
-            if (!emojiUseHistory.containsKey(emoji.getBase().getUnicode()))
-                recentEmoji.add(emoji.getBase());
-        }
-        emojiUseHistory.put(emoji.getBase().getUnicode(), ++count);
+        EmojiPersister.schedule(saveTask, SAVE_DELAY);
     }
 
+    /**
+     * The recent emojis are always ranked, this only trims them to {@link #MAX_RECENT}.
+     */
     public void sortEmoji() {
-        recentEmoji.clear();
-        for (HashMap.Entry<String, Integer> entry : emojiUseHistory.entrySet()) {
-            recentEmoji.add(AXEmojiManager.getInstance().findEmoji(entry.getKey()));
-        }
-        Collections.sort(recentEmoji, new Comparator<Emoji>() {
-                    @Override
-                    public int compare(Emoji lhs, Emoji rhs) {
-                        Integer count1 = emojiUseHistory.get(lhs.getBase().getUnicode());
-                        Integer count2 = emojiUseHistory.get(rhs.getBase().getUnicode());
-                        if (count1 == null) {
-                            count1 = 0;
-                        }
-                        if (count2 == null) {
-                            count2 = 0;
-                        }
-                        if (count1 > count2) {
-                            return -1;
-                        } else if (count1 < count2) {
-                            return 1;
-                        }
-                        return 0;
-                    }
-        });
-        if (MAX_RECENT<=0) MAX_RECENT = 48;
-        while (recentEmoji.size() > MAX_RECENT) {
-            recentEmoji.remove(recentEmoji.size() - 1);
+        synchronized (lock) {
+            if (ranking.heap.trim(getMaxRecent())) {
+                snapshot = null;
+                dirty = true;
+            }
         }
     }
 
+    /**
+     * Saves the recent emojis on the background thread, right away.
+     */
     public void saveRecentEmoji() {
-        SharedPreferences preferences = this.getPreferences();
-        StringBuilder stringBuilder = new StringBuilder();
-        for (HashMap.Entry<String, Integer> entry : emojiUseHistory.entrySet()) {
-            if (stringBuilder.length() != 0) {
-                stringBuilder.append(",");
-            }
-            stringBuilder.append(entry.getKey());
-            stringBuilder.append("=");
-            stringBuilder.append(entry.getValue());
-        }
-        preferences.edit().putString(RECENT_EMOJIS, stringBuilder.toString()).commit();
+        EmojiPersister.schedule(saveTask, 0);
     }
 
     public void clearRecentEmoji() {
-        emojiUseHistory.clear();
-        recentEmoji.clear();
+        synchronized (lock) {
+            ranking = new Ranking();
+            snapshot = null;
+            dirty = true;
+        }
         saveRecentEmoji();
     }
 
     public void loadRecentEmoji() {
-        SharedPreferences preferences = getPreferences();
+        if (!startLoading(context)) postLoad();
+    }
+
+    private static int getMaxRecent() {
+        if (MAX_RECENT<=0) MAX_RECENT = 48;
+        return MAX_RECENT;
+    }
+
+    private static void fillDefaultHistory() {
+        if (!FILL_DEFAULT_HISTORY || FILL_DEFAULT_RECENT_DATA == null || FILL_DEFAULT_RECENT_DATA.length == 0) return;
+
+        synchronized (lock) {
+            if (ranking.heap.size() != 0) return;
+            // below a single use, the first emoji which is really used goes on top of them
+            double weight = ranking.weight(System.currentTimeMillis());
+            int length = FILL_DEFAULT_RECENT_DATA.length;
+            for (int i = 0; i < length; i++) {
+                Emoji emoji = AXEmojiManager.getInstance().findEmoji(FILL_DEFAULT_RECENT_DATA[i]);
+                if (emoji != null) ranking.use(emoji.getBase(), weight * (length - i) / (length + 1));
+            }
+            snapshot = null;
+            dirty = true;
+        }
+        EmojiPersister.schedule(saveTask, SAVE_DELAY);
+    }
 
-        String str;
+    private static File getFile() {
+        return new File(appContext.getFilesDir(), FILE_NAME);
+    }
+
+    /* runs on the persister thread */
+    private static void save() {
+        byte[] data;
+        synchronized (lock) {
+            // the file has more than the emojis used before it's read
+            if (!dirty || !loaded) return;
+            dirty = false;
+            data = ranking.write();
+        }
         try {
-            emojiUseHistory.clear();
-            if (preferences.contains(RECENT_EMOJIS)) {
-                str = preferences.getString(RECENT_EMOJIS, "");
+            EmojiPersister.writeAtomically(getFile(), data);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /* runs on the persister thread */
+    private static Ranking load() {
+        Ranking loaded = new Ranking();
+        File file = getFile();
+        try {
+            if (file.exists()) {
+                loaded.read(file);
+            } else {
+                // migrates the recent emojis saved by the older versions
+                SharedPreferences preferences = appContext.getSharedPreferences(PREFERENCE_NAME, Context.MODE_PRIVATE);
+                String str = preferences.getString(RECENT_EMOJIS, null);
                 if (str != null && str.length() > 0) {
-                    String[] args = str.split(",");
-                    for (String arg : args) {
-                        String[] args2 = arg.split("=");
-                        emojiUseHistory.put(args2[0], parseInt(args2[1]));
-                    }
-                }
-            }
-            if (emojiUseHistory.isEmpty() && FILL_DEFAULT_HISTORY) {
-                if (FILL_DEFAULT_RECENT_DATA!=null && FILL_DEFAULT_RECENT_DATA.length!=0) {
-                    for (int i = 0; i < FILL_DEFAULT_RECENT_DATA.length; i++) {
-                        emojiUseHistory.put(FILL_DEFAULT_RECENT_DATA[i], FILL_DEFAULT_RECENT_DATA.length - i);
-                    }
-                    saveRecentEmoji();
+                    loaded.readLegacy(str);
+                    EmojiPersister.writeAtomically(file, loaded.write());
+                    preferences.edit().remove(RECENT_EMOJIS).apply();
                 }
             }
-            sortEmoji();
         } catch (Exception e) {
             e.printStackTrace();
         }
+        return loaded;
     }
 
-    static Integer parseInt(CharSequence value) {
+    static int parseInt(CharSequence value) {
         if (value == null) {
             return 0;
         }
         int val = 0;
-        try {
-            Matcher matcher = Pattern.compile("[\\-0-9]+").matcher(value);
-            if (matcher.find()) {
-                String num = matcher.group(0);
-                val = Integer.parseInt(num);
+        boolean negative = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '-' && i == 0) {
+                negative = true;
+            } else if (c >= '0' && c <= '9') {
+                val = val * 10 + (c - '0');
+            } else {
+                break;
             }
-        } catch (Exception ignore) {
+        }
+        return negative ? -val : val;
+    }
+
+    /**
+     * The recent emojis and their scores, relative to the epoch. The emojis are those of the installed provider.
+     */
+    private static final class Ranking {
+        final RecentEmojiHeap heap = new RecentEmojiHeap();
+        long epoch = System.currentTimeMillis();
 
+        /**
+         * @return the weight of a use at the time, relative to the epoch.
+         */
+        double weight(long time) {
+            double halfLives = (double) (time - epoch) / HALF_LIFE;
+            if (halfLives > MAX_EPOCH_HALF_LIVES) {
+                // moves the epoch forward, the order of the scores doesn't change
+                int shift = (int) Math.floor(halfLives);
+                heap.scale(Math.pow(2, -shift));
+                epoch += shift * HALF_LIFE;
+                halfLives -= shift;
+            }
+            return Math.pow(2, halfLives);
+        }
+
+        void use(Emoji emoji, double weight) {
+            final AXEmojiManager manager = AXEmojiManager.getInstance();
+            if (manager == null) return;
+            if (!manager.getRegistry().contains(emoji)) {
+                // an emoji of another install, its id may be another emoji's now
+                emoji = manager.findEmoji(emoji.getUnicode());
+                if (emoji == null) return;
+                emoji = emoji.getBase();
+            }
+            final int id = emoji.getId();
+            if (id < 0) return;
+            heap.add(emoji, id, weight, getMaxRecent(), manager.getRegistry().size());
+        }
+
+        /**
+         * Adds the uses of the other ranking to this one, the emojis of another install are found by their unicode.
+         */
+        void merge(Ranking other) {
+            final double scale = Math.pow(2, (double) (other.epoch - epoch) / HALF_LIFE);
+            for (int i = 0; i < other.heap.size(); i++) {
+                use(other.heap.getEmoji(i), other.heap.getScore(i) * scale);
+            }
+        }
+
+        /**
+         * @return the same ranking with the emojis and the ids of the installed provider.
+         */
+        Ranking remap() {
+            Ranking remapped = new Ranking();
+            remapped.epoch = epoch;
+            remapped.merge(this);
+            return remapped;
+        }
+
+        byte[] write() {
+            try {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + heap.size() * 16);
+                DataOutputStream out = new DataOutputStream(bytes);
+                out.writeInt(MAGIC);
+                out.writeByte(VERSION);
+                out.writeLong(epoch);
+                out.writeShort(heap.size());
+                for (int i = 0; i < heap.size(); i++) {
+                    out.writeUTF(heap.getEmoji(i).getUnicode());
+                    out.writeDouble(heap.getScore(i));
+                }
+                out.flush();
+                return bytes.toByteArray();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        void read(File file) throws IOException {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            try {
+                if (in.readInt() != MAGIC || in.readByte() != VERSION) throw new IOException("unknown format: " + file);
+                epoch = in.readLong();
+                int count = in.readUnsignedShort();
+                for (int i = 0; i < count; i++) {
+                    String unicode = in.readUTF();
+                    double score = in.readDouble();
+                    Emoji emoji = AXEmojiManager.getInstance().findEmoji(unicode);
+                    if (emoji != null) use(emoji.getBase(), score);
+                }
+            } finally {
+                in.close();
+            }
+        }
+
+        /**
+         * Reads the "unicode=count,unicode=count" format of the older versions, as if every count was used now.
+         */
+        void readLegacy(String str) {
+            double weight = weight(System.currentTimeMillis());
+            int start = 0;
+            while (start < str.length()) {
+                int end = str.indexOf(',', start);
+                if (end == -1) end = str.length();
+                int separator = str.lastIndexOf('=', end - 1);
+                if (separator > start) {
+                    int count = parseInt(str.subSequence(separator + 1, end));
+                    Emoji emoji = AXEmojiManager.getInstance().findEmoji(str.substring(start, separator));
+                    if (emoji != null && count > 0) use(emoji.getBase(), count * weight);
+                }
+                start = end + 1;
+            }
         }
-        return val;
     }
 }
@@ -6,98 +6,177 @@ import androidx.annotation.NonNull;
 
 import com.aghajari.emojiview.AXEmojiManager;
 import com.aghajari.emojiview.emoji.Emoji;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.StringTokenizer;
 
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Keeps the selected variant of each emoji in an array indexed by the id of its base,
+ * {@link #getVariant(Emoji)} runs for every bound emoji and is a single lookup without locks, hashing or allocations.
+ * The variants are loaded on a background thread during {@link AXEmojiManager#install} and saved there too.
+ */
 public final class VariantEmojiManager implements VariantEmoji {
   private static final String PREFERENCE_NAME = "variant-emoji-manager";
   private static final String EMOJI_DELIMITER = "~";
   private static final String VARIANT_EMOJIS = "variant-emojis";
   static final int EMOJI_GUESS_SIZE = 5;
+  private static final long SAVE_DELAY = 2000;
+
+  private static final Object lock = new Object();
+  /* written under the lock, replaced when it has to grow */
+  private static volatile AtomicReferenceArray<Emoji> variants = new AtomicReferenceArray<>(0);
+  private static Context appContext;
+  private static boolean loadStarted;
+  private static volatile boolean dirty;
+
+  private static final Runnable loadTask = new Runnable() {
+    @Override
+    public void run() {
+      final String savedRecentVariants = getPreferences().getString(VARIANT_EMOJIS, "");
+
+      int start = 0;
+      while (start < savedRecentVariants.length()) {
+        int end = savedRecentVariants.indexOf(EMOJI_DELIMITER, start);
+        if (end == -1) end = savedRecentVariants.length();
+
+        // a variant selected while this was loading is newer than the saved one
+        restore(savedRecentVariants.substring(start, end));
+        start = end + EMOJI_DELIMITER.length();
+      }
+    }
+  };
+
+  private static final Runnable reloadTask = new Runnable() {
+    @Override
+    public void run() {
+      // changes which are waiting to be saved would be lost otherwise
+      saveTask.run();
+      final AtomicReferenceArray<Emoji> previous;
+      synchronized (lock) {
+        previous = variants;
+        variants = new AtomicReferenceArray<>(getRegistrySize());
+      }
 
-  @NonNull private final Context context;
-  @NonNull private List<Emoji> variantsList = new ArrayList<>(0);
-
-  public VariantEmojiManager(@NonNull final Context context) {
-    this.context = context.getApplicationContext();
-  }
+      // the variants selected since the save are kept, if the new emojis have them
+      for (int i = 0; i < previous.length(); i++) {
+        final Emoji emoji = previous.get(i);
+        if (emoji != null) restore(emoji.getUnicode());
+      }
+      loadTask.run();
+    }
+  };
+
+  private static final Runnable saveTask = new Runnable() {
+    @Override
+    public void run() {
+      if (!dirty) return;
+      dirty = false;
+
+      final AtomicReferenceArray<Emoji> selected = variants;
+      final StringBuilder stringBuilder = new StringBuilder();
+      for (int i = 0; i < selected.length(); i++) {
+        final Emoji emoji = selected.get(i);
+        if (emoji == null) continue;
+        if (stringBuilder.length() > 0) stringBuilder.append(EMOJI_DELIMITER);
+        stringBuilder.append(emoji.getUnicode());
+      }
 
-  @NonNull @Override
-  public Emoji getVariant(final Emoji desiredEmoji) {
-    if (variantsList.isEmpty()) {
-      initFromSharedPreferences();
+      if (stringBuilder.length() > 0) {
+        getPreferences().edit().putString(VARIANT_EMOJIS, stringBuilder.toString()).commit();
+      } else {
+        getPreferences().edit().remove(VARIANT_EMOJIS).commit();
+      }
     }
+  };
 
-    final Emoji baseEmoji = desiredEmoji.getBase();
+  public VariantEmojiManager(@NonNull final Context context) {
+    startLoading(context);
+  }
 
-    for (int i = 0; i < variantsList.size(); i++) {
-      final Emoji emoji = variantsList.get(i);
+  private static synchronized void startLoading(Context context) {
+    if (loadStarted) return;
+    loadStarted = true;
+    appContext = context.getApplicationContext();
+    EmojiPersister.post(loadTask);
+  }
 
-      if (baseEmoji.equals(emoji.getBase())) {
-        return emoji;
-      }
+  /**
+   * Starts loading the saved variants on the background thread, {@link AXEmojiManager#install} calls this.
+   */
+  public static synchronized void preload(@NonNull Context context) {
+    if (!loadStarted) {
+      startLoading(context);
+    } else {
+      appContext = context.getApplicationContext();
+      // installed again, the emojis of the previous provider are replaced once the changes are saved
+      EmojiPersister.post(reloadTask);
     }
+  }
 
+  @NonNull @Override
+  public Emoji getVariant(final Emoji desiredEmoji) {
+    final Emoji base = desiredEmoji.getBase();
+    final int id = base.getId();
+    final AtomicReferenceArray<Emoji> selected = variants;
+    if (id >= 0 && id < selected.length()) {
+      final Emoji variant = selected.get(id);
+      // the base check skips the emojis of a previous install
+      if (variant != null && variant.getBase() == base) return variant;
+    }
     return desiredEmoji;
   }
 
   @Override public void addVariant(@NonNull final Emoji newVariant) {
-    final Emoji newVariantBase = newVariant.getBase();
-
-    for (int i = 0; i < variantsList.size(); i++) {
-      final Emoji variant = variantsList.get(i);
-
-      if (variant.getBase().equals(newVariantBase)) {
-        if (variant.equals(newVariant)) {
-          return; // Same skin-tone was used.
-        } else {
-          variantsList.remove(i);
-          variantsList.add(newVariant);
-
-          return;
-        }
-      }
+    if (select(newVariant, false)) {
+      dirty = true;
+      EmojiPersister.schedule(saveTask, SAVE_DELAY);
     }
-
-    variantsList.add(newVariant);
   }
 
   @Override public void persist() {
-    if (variantsList.size() > 0) {
-      final StringBuilder stringBuilder = new StringBuilder(variantsList.size() * EMOJI_GUESS_SIZE);
+    EmojiPersister.schedule(saveTask, 0);
+  }
 
-      for (int i = 0; i < variantsList.size(); i++) {
-        stringBuilder.append(variantsList.get(i).getUnicode()).append(EMOJI_DELIMITER);
+  /**
+   * @return true if the selected variant of the base of the emoji changed.
+   */
+  private static boolean select(Emoji variant, boolean onlyIfAbsent) {
+    final Emoji base = variant.getBase();
+    final int id = base.getId();
+    if (id < 0) return false;
+
+    synchronized (lock) {
+      AtomicReferenceArray<Emoji> selected = variants;
+      if (id >= selected.length()) {
+        final AtomicReferenceArray<Emoji> grown = new AtomicReferenceArray<>(Math.max(id + 1, getRegistrySize()));
+        for (int i = 0; i < selected.length(); i++) {
+          grown.set(i, selected.get(i));
+        }
+        variants = selected = grown;
       }
 
-      stringBuilder.setLength(stringBuilder.length() - EMOJI_DELIMITER.length());
-
-      getPreferences().edit().putString(VARIANT_EMOJIS, stringBuilder.toString()).apply();
-    } else {
-      getPreferences().edit().remove(VARIANT_EMOJIS).apply();
+      Emoji previous = selected.get(id);
+      if (previous != null && previous.getBase() != base) previous = null;
+      if (onlyIfAbsent && previous != null) return false;
+      selected.set(id, variant);
+      return !variant.equals(previous);
     }
   }
 
-  private void initFromSharedPreferences() {
-    final String savedRecentVariants = getPreferences().getString(VARIANT_EMOJIS, "");
-
-    if (savedRecentVariants.length() > 0) {
-      final StringTokenizer stringTokenizer = new StringTokenizer(savedRecentVariants, EMOJI_DELIMITER);
-      variantsList = new ArrayList<>(stringTokenizer.countTokens());
-
-      while (stringTokenizer.hasMoreTokens()) {
-        final String token = stringTokenizer.nextToken();
-        final Emoji emoji = AXEmojiManager.getInstance().findEmoji(token);
-
-        if (emoji != null && emoji.getLength() == token.length()) {
-          variantsList.add(emoji);
-        }
-      }
+  /**
+   * Selects the emoji of the unicode unless its base already has a variant.
+   */
+  private static void restore(String unicode) {
+    final Emoji emoji = AXEmojiManager.getInstance().findEmoji(unicode);
+    if (emoji != null && emoji.getLength() == unicode.length()) {
+      select(emoji, true);
     }
   }
 
-  private SharedPreferences getPreferences() {
-    return context.getSharedPreferences(PREFERENCE_NAME, Context.MODE_PRIVATE);
+  private static int getRegistrySize() {
+    return AXEmojiManager.isInstalled() ? AXEmojiManager.getInstance().getRegistry().size() : 0;
+  }
+
+  private static SharedPreferences getPreferences() {
+    return appContext.getSharedPreferences(PREFERENCE_NAME, Context.MODE_PRIVATE);
   }
 }
@@ -0,0 +1,119 @@
+package com.aghajari.emojiview.utils;
+
+import android.view.Choreographer;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+
+import com.aghajari.emojiview.emoji.Emoji;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Redraws the views which are waiting for an emoji to load, instead of polling {@link Emoji#isLoading()}.
+ * Emoji loaders publish their completed emojis, the views showing one of them are invalidated
+ * together on the next frame. The emojis whose loader doesn't publish ({@link Emoji#isLoadPublished()} is false)
+ * are still checked every {@link #POLL_DELAY_MILLIS}, by a single callback for all of their views.
+ *
+ * Every method must be called on the main thread.
+ */
+public final class EmojiLoadNotifier {
+    static final long POLL_DELAY_MILLIS = 50;
+
+    private static final Map<View, Emoji> waitingViews = new WeakHashMap<>();
+    private static final Set<String> loadedEmojis = new HashSet<>();
+    private static final List<View> viewsToInvalidate = new ArrayList<>();
+    private static boolean frameScheduled = false;
+    private static boolean pollScheduled = false;
+
+    private static final Choreographer.FrameCallback frameCallback = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            frameScheduled = false;
+            invalidateLoadedViews();
+        }
+    };
+
+    private static final Choreographer.FrameCallback pollCallback = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            pollScheduled = false;
+            invalidateLoadedViews();
+        }
+    };
+
+    private EmojiLoadNotifier() {
+    }
+
+    private static void invalidateLoadedViews() {
+        boolean polled = false;
+        Iterator<Map.Entry<View, Emoji>> iterator = waitingViews.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<View, Emoji> entry = iterator.next();
+            Emoji emoji = entry.getValue();
+            // a page of emojis may load at once, so anything which isn't loading anymore is done too
+            if (loadedEmojis.contains(emoji.getUnicode()) || !emoji.isLoading()) {
+                viewsToInvalidate.add(entry.getKey());
+                iterator.remove();
+            } else if (!emoji.isLoadPublished()) {
+                polled = true;
+            }
+        }
+        loadedEmojis.clear();
+
+        //noinspection ForLoopReplaceableByForEach
+        for (int i = 0; i < viewsToInvalidate.size(); i++) {
+            View view = viewsToInvalidate.get(i);
+            if (view != null) view.invalidate();
+        }
+        viewsToInvalidate.clear();
+
+        if (polled) schedulePoll();
+    }
+
+    private static void schedulePoll() {
+        if (!pollScheduled) {
+            pollScheduled = true;
+            Choreographer.getInstance().postFrameCallbackDelayed(pollCallback, POLL_DELAY_MILLIS);
+        }
+    }
+
+    /**
+     * Invalidates the view once the emoji is loaded. A view waits for one emoji at a time,
+     * observing another one replaces it. Does nothing if the emoji is already loaded.
+     */
+    public static void observe(@NonNull View view, @NonNull Emoji emoji) {
+        if (emoji.isLoading()) {
+            waitingViews.put(view, emoji);
+            // nothing would tell when it's loaded
+            if (!emoji.isLoadPublished()) schedulePoll();
+        } else {
+            waitingViews.remove(view);
+        }
+    }
+
+    /**
+     * Stops waiting for the emoji of the view, when it's detached or shows something else.
+     */
+    public static void remove(@NonNull View view) {
+        waitingViews.remove(view);
+    }
+
+    /**
+     * Publishes a loaded emoji, the views waiting for it are redrawn on the next frame.
+     */
+    public static void notifyEmojiLoaded(@NonNull CharSequence unicode) {
+        if (waitingViews.isEmpty()) return;
+        loadedEmojis.add(unicode.toString());
+        if (!frameScheduled) {
+            frameScheduled = true;
+            Choreographer.getInstance().postFrameCallback(frameCallback);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.aghajari.emojiview.utils;
+
+import android.content.Context;
+import android.graphics.Paint;
+import android.text.Spannable;
+
+/**
+ * EmojiReplacer which can re-render a part of the text only.
+ * Used by the emoji EditTexts to rescan just the edited region on each keystroke.
+ */
+public interface EmojiRangeReplacer extends EmojiReplacer {
+  /**
+   * Replaces the emojis between start and end with images.
+   * Emoji spans of this replacer which intersect the range are stale and should be removed first.
+   * The range is on emoji sequence boundaries: {@link com.aghajari.emojiview.AXEmojiManager} widens an edited region
+   * over the sequences around the edit, {@link EmojiSpanScheduler} ends its chunks with
+   * {@link com.aghajari.emojiview.AXEmojiManager#findSequenceEnd(CharSequence, int)}.
+   */
+  void replaceWithImages(Context context, Spannable text, int start, int end, float emojiSize, Paint.FontMetrics fontMetrics, float defaultEmojiSize);
+}
@@ -0,0 +1,31 @@
+package com.aghajari.emojiview.utils;
+
+import android.content.Context;
+import android.graphics.Paint;
+import android.text.Spannable;
+
+/**
+ * EmojiRangeReplacer which can set the spans of emojis which have already been found,
+ * so a text can be rendered again from its cached ranges (see {@link EmojiTextCache}) without scanning it.
+ */
+public interface EmojiSpanReplacer extends EmojiRangeReplacer {
+  /**
+   * Fills the ranges with (start, end, value) triples of the emojis this replacer renders between start and end,
+   * found by the same scan as its replaceWithImages, so spans set from them are the same.
+   * The value is whatever {@link #setEmojiSpans} needs to create the span of the emoji.
+   * Only {@code ranges.length / 3} emojis are written, but all of them are counted.
+   *
+   * @return the number of emojis found.
+   */
+  int findEmojis(CharSequence text, int start, int end, int[] ranges);
+
+  /**
+   * Sets the spans of the emojis of the ranges, ranges are (start, end, value) triples
+   * filled by {@link #findEmojis(CharSequence, int, int, int[])}.
+   * The emojis which already have a span of this replacer are skipped.
+   *
+   * @param from  index of the first emoji of the ranges to set.
+   * @param count number of the emojis to set.
+   */
+  void setEmojiSpans(Context context, Spannable text, int[] ranges, int from, int count, float emojiSize, Paint.FontMetrics fontMetrics, float defaultEmojiSize);
+}
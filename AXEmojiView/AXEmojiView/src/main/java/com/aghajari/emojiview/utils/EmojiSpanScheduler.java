@@ -0,0 +1,207 @@
+package com.aghajari.emojiview.utils;
+
+import android.content.Context;
+import android.graphics.Paint;
+import android.text.Spannable;
+import android.view.Choreographer;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.aghajari.emojiview.AXEmojiManager;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the emojis of a long text in small ranges: the first screen right away, the rest on the next frames
+ * within a time budget, so a text with hundreds of emojis neither stalls the main thread nor stops after
+ * the span limit of the replacer. The text is shown again once per frame, so each frame costs a single relayout.
+ * With an {@link EmojiTextCache} the spans are set from the cached ranges of the text instead of scanning it.
+ *
+ * Every method but {@link #replaceAllWithImages} must be called on the main thread.
+ */
+public final class EmojiSpanScheduler {
+    /* about a screen of emojis, replaced before the text is shown */
+    private static final int FIRST_SCREEN_LENGTH = 512;
+    /* chars replaced at once, a range has fewer emojis than the span limit of the iOS provider */
+    private static final int CHUNK_LENGTH = 64;
+    /* emojis set at once from the cached ranges of a text */
+    private static final int CHUNK_EMOJIS = 32;
+    private static final long FRAME_BUDGET_NANOS = 4000000L;
+
+    private static final Map<View, Job> jobs = new LinkedHashMap<>();
+    private static final List<Job> appliedJobs = new ArrayList<>();
+    private static boolean frameScheduled = false;
+
+    public interface Callback {
+        /**
+         * More emojis of the text have been replaced, show the text again.
+         */
+        void onSpansApplied(@NonNull Spannable text);
+    }
+
+    private static final class Job {
+        final Context context;
+        final Spannable text;
+        final float emojiSize;
+        final Paint.FontMetrics fontMetrics;
+        final float defaultEmojiSize;
+        final Callback callback;
+        /* the cached ranges of the text, position is an emoji of them then, a char of the text otherwise */
+        final int[] ranges;
+        final EmojiSpanReplacer spanReplacer;
+        int position = 0;
+
+        Job(Context context, Spannable text, float emojiSize, Paint.FontMetrics fontMetrics, float defaultEmojiSize, Callback callback) {
+            this.context = context;
+            this.text = text;
+            this.emojiSize = emojiSize;
+            this.fontMetrics = fontMetrics;
+            this.defaultEmojiSize = defaultEmojiSize;
+            this.callback = callback;
+
+            final AXEmojiManager manager = AXEmojiManager.getInstance();
+            final EmojiTextCache cache = AXEmojiManager.getEmojiTextCache();
+            if (cache != null && manager != null && manager.getEmojiReplacer() instanceof EmojiSpanReplacer) {
+                spanReplacer = (EmojiSpanReplacer) manager.getEmojiReplacer();
+                ranges = cache.getRanges(text, emojiSize, fontMetrics, spanReplacer);
+            } else {
+                spanReplacer = null;
+                ranges = null;
+            }
+        }
+
+        boolean isDone() {
+            return position >= (ranges != null ? ranges.length / 3 : text.length());
+        }
+
+        boolean isInFirstScreen() {
+            return (ranges != null ? ranges[position * 3] : position) < FIRST_SCREEN_LENGTH;
+        }
+
+        void applyChunk(AXEmojiManager manager) {
+            if (ranges != null) {
+                final int count = Math.min(CHUNK_EMOJIS, ranges.length / 3 - position);
+                spanReplacer.setEmojiSpans(context, text, ranges, position, count, emojiSize, fontMetrics, defaultEmojiSize);
+                position += count;
+            } else {
+                // the chunks end on sequence boundaries, so they don't overlap and the range replace
+                // gets the boundaries it expects instead of widening them over the previous chunk
+                int end = Math.min(text.length(), position + CHUNK_LENGTH);
+                if (end < text.length()) end = manager.findSequenceEnd(text, end);
+                ((EmojiRangeReplacer) manager.getEmojiReplacer()).replaceWithImages(context, text, position, end, emojiSize, fontMetrics, defaultEmojiSize);
+                position = end;
+            }
+        }
+    }
+
+    private static final Choreographer.FrameCallback frameCallback = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            frameScheduled = false;
+            final AXEmojiManager manager = AXEmojiManager.getInstance();
+            if (manager == null) {
+                jobs.clear();
+                return;
+            }
+
+            final long deadline = System.nanoTime() + FRAME_BUDGET_NANOS;
+            final Iterator<Job> iterator = jobs.values().iterator();
+            while (iterator.hasNext() && System.nanoTime() < deadline) {
+                final Job job = iterator.next();
+                while (!job.isDone() && System.nanoTime() < deadline) {
+                    job.applyChunk(manager);
+                }
+                appliedJobs.add(job);
+                if (job.isDone()) iterator.remove();
+            }
+
+            // the views may set another text, the jobs aren't iterated anymore
+            //noinspection ForLoopReplaceableByForEach
+            for (int i = 0; i < appliedJobs.size(); i++) {
+                appliedJobs.get(i).callback.onSpansApplied(appliedJobs.get(i).text);
+            }
+            appliedJobs.clear();
+
+            if (!jobs.isEmpty()) scheduleFrame();
+        }
+    };
+
+    private EmojiSpanScheduler() {
+    }
+
+    /**
+     * Replaces the emojis of the first screen of the text, the text should be shown after this returns.
+     * The other emojis are replaced on the next frames and the callback shows the text again.
+     * A previous text of the owner which isn't done yet is dropped.
+     *
+     * Without {@link AXEmojiManager#isTimeSlicedSpansEnabled()} or a replacer which supports ranges,
+     * the whole text is replaced at once.
+     */
+    public static void replaceWithImages(@NonNull View owner, @NonNull Spannable text, float emojiSize, @Nullable Paint.FontMetrics fontMetrics,
+                                         float defaultEmojiSize, @NonNull Callback callback) {
+        jobs.remove(owner);
+        final AXEmojiManager manager = AXEmojiManager.getInstance();
+        if (manager == null) return;
+
+        if (!AXEmojiManager.isTimeSlicedSpansEnabled() || !(manager.getEmojiReplacer() instanceof EmojiRangeReplacer)) {
+            manager.replaceWithImages(owner.getContext(), text, emojiSize, fontMetrics, defaultEmojiSize);
+            return;
+        }
+
+        final Job job = new Job(owner.getContext(), text, emojiSize, fontMetrics, defaultEmojiSize, callback);
+        while (!job.isDone() && job.isInFirstScreen()) {
+            job.applyChunk(manager);
+        }
+        if (!job.isDone()) {
+            jobs.put(owner, job);
+            scheduleFrame();
+        }
+    }
+
+    /**
+     * Replaces all the emojis of the text at once, in ranges so that the span limit of the replacer doesn't apply.
+     * Nothing is scheduled, so unlike the other methods this one can be called on any thread.
+     */
+    public static void replaceAllWithImages(@NonNull Context context, @NonNull Spannable text, float emojiSize,
+                                            @Nullable Paint.FontMetrics fontMetrics, float defaultEmojiSize) {
+        final AXEmojiManager manager = AXEmojiManager.getInstance();
+        if (manager == null) return;
+
+        if (!(manager.getEmojiReplacer() instanceof EmojiRangeReplacer)) {
+            manager.replaceWithImages(context, text, emojiSize, fontMetrics, defaultEmojiSize);
+            return;
+        }
+        final Job job = new Job(context, text, emojiSize, fontMetrics, defaultEmojiSize, null);
+        while (!job.isDone()) {
+            job.applyChunk(manager);
+        }
+    }
+
+    /**
+     * Drops the text of the owner which isn't done yet, if any.
+     * A view should cancel when it's detached, the scheduler keeps its pending views until then.
+     */
+    public static void cancel(@NonNull View owner) {
+        jobs.remove(owner);
+    }
+
+    /**
+     * @return true if the text of the owner still has emojis to replace on the next frames.
+     */
+    public static boolean isScheduled(@NonNull View owner) {
+        return jobs.containsKey(owner);
+    }
+
+    private static void scheduleFrame() {
+        if (!frameScheduled) {
+            frameScheduled = true;
+            Choreographer.getInstance().postFrameCallback(frameCallback);
+        }
+    }
+}
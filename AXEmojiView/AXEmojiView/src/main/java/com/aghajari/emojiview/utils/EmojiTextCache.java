@@ -0,0 +1,239 @@
+package com.aghajari.emojiview.utils;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.graphics.Paint;
+import android.text.Spannable;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.aghajari.emojiview.AXEmojiManager;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU cache of the emojis found in the texts which are rendered over and over (reactions, repeated replies,
+ * the rows of a list scrolled back and forth). A text is keyed by its chars, its emoji size and its font metrics,
+ * and only its (start, end, value) ranges are kept, the spans are set again from them without scanning the text.
+ * The cache is limited by the number of bytes its texts and ranges use.
+ *
+ * It's used by {@link AXEmojiManager#replaceWithImages} once it's set with {@link AXEmojiManager#setEmojiTextCache},
+ * while the emoji replacer is an {@link EmojiSpanReplacer}.
+ */
+public final class EmojiTextCache {
+    private static final int[] NO_RANGES = new int[0];
+    /* the key, the entry and the arrays of a text */
+    private static final int ENTRY_OVERHEAD = 96;
+    private static final int GUESSED_EMOJI_RANGES = 64;
+
+    private final LinkedHashMap<Key, int[]> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final ThreadLocal<int[]> emojiRanges = new ThreadLocal<>();
+
+    private int maxSize;
+    private int size;
+
+    private int hitCount;
+    private int missCount;
+    private int evictionCount;
+
+    /**
+     * @param maxSize the max number of bytes the cached texts and ranges can use.
+     */
+    public EmojiTextCache(int maxSize) {
+        if (maxSize <= 0) throw new IllegalArgumentException("maxSize <= 0");
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Sets the emoji spans of the whole text with the replacer, from the cached ranges of the text if there are.
+     */
+    public void replaceWithImages(@NonNull Context context, @NonNull Spannable text, float emojiSize, @Nullable Paint.FontMetrics fontMetrics,
+                                  float defaultEmojiSize, @NonNull EmojiSpanReplacer replacer) {
+        final int[] ranges = getRanges(text, emojiSize, fontMetrics, replacer);
+        replacer.setEmojiSpans(context, text, ranges, 0, ranges.length / 3, emojiSize, fontMetrics, defaultEmojiSize);
+    }
+
+    /**
+     * @return the (start, end, value) ranges of the emojis of the text, from the cache or found by the replacer
+     * and cached now, see {@link EmojiSpanReplacer#findEmojis}. The array is shared, it must not be changed.
+     */
+    @NonNull
+    public int[] getRanges(@NonNull CharSequence text, float emojiSize, @Nullable Paint.FontMetrics fontMetrics,
+                           @NonNull EmojiSpanReplacer replacer) {
+        final Key key = new Key(text.toString(), emojiSize, fontMetrics);
+        synchronized (this) {
+            final int[] ranges = entries.get(key);
+            if (ranges != null) {
+                hitCount++;
+                return ranges;
+            }
+            missCount++;
+        }
+
+        final int[] ranges = findRanges(key.text, replacer);
+        synchronized (this) {
+            final int[] previous = entries.put(key, ranges);
+            if (previous != null) size -= sizeOf(key, previous);
+            size += sizeOf(key, ranges);
+            trimToSize(maxSize);
+        }
+        return ranges;
+    }
+
+    private int[] findRanges(String text, EmojiSpanReplacer replacer) {
+        if (text.length() == 0) return NO_RANGES;
+
+        // the scan of the replacer itself, a cached text renders exactly as an uncached one
+        int[] ranges = emojiRanges.get();
+        if (ranges == null) ranges = new int[GUESSED_EMOJI_RANGES * 3];
+        int found = replacer.findEmojis(text, 0, text.length(), ranges);
+        if (found * 3 > ranges.length) {
+            ranges = new int[found * 3];
+            found = replacer.findEmojis(text, 0, text.length(), ranges);
+        }
+        emojiRanges.set(ranges);
+        // the buffer is reused, the cache keeps an exact copy
+        return found == 0 ? NO_RANGES : Arrays.copyOf(ranges, found * 3);
+    }
+
+    /**
+     * Evicts the least recently used texts until the cache fits in maxSize.
+     */
+    public synchronized void trimToSize(int maxSize) {
+        Iterator<Map.Entry<Key, int[]>> iterator = entries.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            Map.Entry<Key, int[]> entry = iterator.next();
+            size -= sizeOf(entry.getKey(), entry.getValue());
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    public void evictAll() {
+        trimToSize(0);
+    }
+
+    /**
+     * Releases memory depending on the level passed to {@link ComponentCallbacks2#onTrimMemory(int)}.
+     */
+    public void onTrimMemory(int level) {
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE) {
+            evictAll();
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+            trimToSize(getMaxSize() / 2);
+        }
+    }
+
+    /**
+     * Sets the max number of bytes the texts and ranges can use, evicting the extra ones right away.
+     */
+    public synchronized void setMaxSize(int maxSize) {
+        if (maxSize <= 0) throw new IllegalArgumentException("maxSize <= 0");
+        this.maxSize = maxSize;
+        trimToSize(maxSize);
+    }
+
+    public synchronized int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return the number of bytes used by the cached texts and ranges.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of cached texts.
+     */
+    public synchronized int count() {
+        return entries.size();
+    }
+
+    public synchronized int getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized int getMissCount() {
+        return missCount;
+    }
+
+    public synchronized int getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return hits / (hits + misses), 0 before the first lookup.
+     */
+    public synchronized float getHitRate() {
+        int accesses = hitCount + missCount;
+        return accesses != 0 ? (float) hitCount / accesses : 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "EmojiTextCache[size=" + size + ",maxSize=" + maxSize + ",count=" + entries.size()
+                + ",hits=" + hitCount + ",misses=" + missCount + ",hitRate=" + (int) (getHitRate() * 100) + "%"
+                + ",evictions=" + evictionCount + "]";
+    }
+
+    private static int sizeOf(Key key, int[] ranges) {
+        return ENTRY_OVERHEAD + key.text.length() * 2 + ranges.length * 4;
+    }
+
+    private static final class Key {
+        final String text;
+        final float emojiSize;
+        final float ascent;
+        final float descent;
+        final float top;
+        final float bottom;
+        final int hash;
+
+        Key(String text, float emojiSize, Paint.FontMetrics fontMetrics) {
+            this.text = text;
+            this.emojiSize = emojiSize;
+            if (fontMetrics != null) {
+                ascent = fontMetrics.ascent;
+                descent = fontMetrics.descent;
+                top = fontMetrics.top;
+                bottom = fontMetrics.bottom;
+            } else {
+                ascent = descent = top = bottom = Float.NaN;
+            }
+
+            int h = text.hashCode();
+            h = 31 * h + Float.floatToIntBits(emojiSize);
+            h = 31 * h + Float.floatToIntBits(ascent);
+            h = 31 * h + Float.floatToIntBits(descent);
+            h = 31 * h + Float.floatToIntBits(top);
+            h = 31 * h + Float.floatToIntBits(bottom);
+            hash = h;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            final Key key = (Key) o;
+            // floatToIntBits so that the NaNs of the keys without font metrics are equal
+            return hash == key.hash
+                    && Float.floatToIntBits(emojiSize) == Float.floatToIntBits(key.emojiSize)
+                    && Float.floatToIntBits(ascent) == Float.floatToIntBits(key.ascent)
+                    && Float.floatToIntBits(descent) == Float.floatToIntBits(key.descent)
+                    && Float.floatToIntBits(top) == Float.floatToIntBits(key.top)
+                    && Float.floatToIntBits(bottom) == Float.floatToIntBits(key.bottom)
+                    && text.equals(key.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
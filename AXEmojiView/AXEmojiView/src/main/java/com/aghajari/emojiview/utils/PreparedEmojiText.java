@@ -0,0 +1,90 @@
+package com.aghajari.emojiview.utils;
+
+import android.content.Context;
+import android.graphics.Paint;
+import android.os.Build;
+import android.text.SpannableStringBuilder;
+import android.text.SpannedString;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+import androidx.core.text.PrecomputedTextCompat;
+
+/**
+ * A text with its emojis already replaced, and on API 28+ already measured for the text params.
+ * It's prepared on any thread (see {@link com.aghajari.emojiview.AXEmojiUtils#prepareAsync})
+ * and bound by {@link com.aghajari.emojiview.view.AXEmojiTextView#setPreparedText(PreparedEmojiText)} without scanning.
+ *
+ * It doesn't change after it's created.
+ */
+public final class PreparedEmojiText {
+    private final CharSequence sourceText;
+    private final CharSequence text;
+    private final PrecomputedTextCompat precomputedText;
+    private final PrecomputedTextCompat.Params textParams;
+    private final float emojiSize;
+
+    private PreparedEmojiText(CharSequence sourceText, CharSequence text, PrecomputedTextCompat precomputedText,
+                              PrecomputedTextCompat.Params textParams, float emojiSize) {
+        this.sourceText = sourceText;
+        this.text = text;
+        this.precomputedText = precomputedText;
+        this.textParams = textParams;
+        this.emojiSize = emojiSize;
+    }
+
+    /**
+     * Replaces the emojis of the text and measures it, the spans keep the context so pass the application context.
+     */
+    @WorkerThread
+    @NonNull
+    public static PreparedEmojiText create(@NonNull Context context, @Nullable CharSequence rawText,
+                                           @NonNull PrecomputedTextCompat.Params textParams, float emojiSize) {
+        final CharSequence sourceText = rawText == null ? "" : rawText;
+        final SpannableStringBuilder spannableStringBuilder = new SpannableStringBuilder(sourceText);
+        final Paint.FontMetrics fontMetrics = textParams.getTextPaint().getFontMetrics();
+        final float defaultEmojiSize = fontMetrics.descent - fontMetrics.ascent;
+        // off the main thread the whole text is replaced, there's no span limit to keep the frame short
+        EmojiSpanScheduler.replaceAllWithImages(context, spannableStringBuilder, emojiSize, fontMetrics, defaultEmojiSize);
+
+        // the emoji spans change the metrics, so they must be set before measuring
+        final PrecomputedTextCompat precomputedText = Build.VERSION.SDK_INT >= 28
+                ? PrecomputedTextCompat.create(spannableStringBuilder, textParams) : null;
+        final CharSequence text = precomputedText != null ? precomputedText : new SpannedString(spannableStringBuilder);
+        return new PreparedEmojiText(sourceText, text, precomputedText, textParams, emojiSize);
+    }
+
+    /**
+     * @return the text as it was before the emojis were replaced.
+     */
+    @NonNull
+    public CharSequence getSourceText() {
+        return sourceText;
+    }
+
+    /**
+     * @return the text with the emoji spans, the precomputed text if there is one.
+     */
+    @NonNull
+    public CharSequence getText() {
+        return text;
+    }
+
+    /**
+     * @return the measured text, null below API 28.
+     */
+    @Nullable
+    public PrecomputedTextCompat getPrecomputedText() {
+        return precomputedText;
+    }
+
+    @NonNull
+    public PrecomputedTextCompat.Params getTextParams() {
+        return textParams;
+    }
+
+    public float getEmojiSize() {
+        return emojiSize;
+    }
+}
@@ -0,0 +1,50 @@
+package com.aghajari.emojiview.utils;
+
+import android.text.Spanned;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * Sorted starts of the spans already set on a text, built once per re-render.
+ * The found emoji ranges come in text order, so checking them against the existing spans is
+ * a single linear merge instead of a search per range.
+ */
+public final class SpanStartIndex {
+    private final int[] starts;
+    private int cursor = 0;
+
+    private SpanStartIndex(int[] starts) {
+        this.starts = starts;
+    }
+
+    /**
+     * @param spans spans of the text, the index keeps their starts only.
+     */
+    @NonNull
+    public static SpanStartIndex of(@NonNull Spanned text, @NonNull Object[] spans) {
+        final int[] starts = new int[spans.length];
+        for (int i = 0; i < spans.length; i++) {
+            starts[i] = text.getSpanStart(spans[i]);
+        }
+        Arrays.sort(starts);
+        return new SpanStartIndex(starts);
+    }
+
+    public boolean isEmpty() {
+        return starts.length == 0;
+    }
+
+    /**
+     * The positions must be asked in ascending order, each call moves the index past the smaller starts.
+     *
+     * @return true if a span starts at the position.
+     */
+    public boolean containsNext(int position) {
+        while (cursor < starts.length && starts[cursor] < position) {
+            cursor++;
+        }
+        return cursor < starts.length && starts[cursor] == position;
+    }
+}
@@ -23,8 +23,9 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.aghajari.emojiview.AXEmojiManager;
 import com.aghajari.emojiview.R;
 import com.aghajari.emojiview.emoji.Emoji;
-import com.aghajari.emojiview.emoji.EmojiData;
+import com.aghajari.emojiview.emoji.EmojiNormalizer;
 import com.aghajari.emojiview.listener.OnEmojiActions;
+import com.aghajari.emojiview.utils.EmojiLoadNotifier;
 import com.aghajari.emojiview.utils.Utils;
 import com.aghajari.emojiview.view.AXEmojiImageView;
 
@@ -90,29 +91,8 @@ public class AXTouchEmojiVariantPopup extends AXEmojiVariantPopup {
     emojiTouchedX = emojiLastX;
     emojiTouchedY = emojiLastY;
 
-    String color = EmojiData.getEmojiColor(emoji.getUnicode());
-
-    if (color != null) {
-      switch (color) {
-        case "\uD83C\uDFFB":
-          pickerView.setSelection(1);
-          break;
-        case "\uD83C\uDFFC":
-          pickerView.setSelection(2);
-          break;
-        case "\uD83C\uDFFD":
-          pickerView.setSelection(3);
-          break;
-        case "\uD83C\uDFFE":
-          pickerView.setSelection(4);
-          break;
-        case "\uD83C\uDFFF":
-          pickerView.setSelection(5);
-          break;
-      }
-    } else {
-      pickerView.setSelection(0);
-    }
+    // the picker has no skin tone at 0, then the skin tones in order
+    pickerView.setSelection(EmojiNormalizer.getSkinToneIndex(emoji.getUnicode()) + 1);
     final int[] location = new int[2];
     rootImageView.getLocationOnScreen(location);
 
@@ -179,7 +159,6 @@ public class AXTouchEmojiVariantPopup extends AXEmojiVariantPopup {
     private int selection;
     private Paint rectPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
     private RectF rect = new RectF();
-    private boolean loaded = false;
 
     public void setEmoji(Emoji emoji, int arrowPosition) {
       currentEmoji = emoji;
@@ -220,7 +199,7 @@ public class AXTouchEmojiVariantPopup extends AXEmojiVariantPopup {
 
     @Override
     protected void onDraw(Canvas canvas) {
-      loaded = true;
+      Emoji loadingEmoji = null;
       backgroundDrawable.setBounds(0, 0, getMeasuredWidth(), Utils.dp(getContext(),54));
       backgroundDrawable.draw(canvas);
 
@@ -249,19 +228,17 @@ public class AXTouchEmojiVariantPopup extends AXEmojiVariantPopup {
             drawable.draw(canvas);
           }
 
-          if (loaded){
-            if (sEmoji.isLoading()) loaded = false;
+          if (loadingEmoji == null && sEmoji.isLoading()) {
+            loadingEmoji = sEmoji;
           }
         }
       }
 
-      if (!loaded){
-        postDelayed(new Runnable() {
-          @Override
-          public void run() {
-            invalidate();
-          }
-        },10);
+      // redraw when the first variant which is still loading is ready, then wait for the next one
+      if (loadingEmoji != null) {
+        EmojiLoadNotifier.observe(this, loadingEmoji);
+      } else {
+        EmojiLoadNotifier.remove(this);
       }
     }
   }
@@ -12,8 +12,9 @@ import android.util.AttributeSet;
 
 import com.aghajari.emojiview.AXEmojiManager;
 import com.aghajari.emojiview.R;
+import com.aghajari.emojiview.listener.OnEmojiInstalledListener;
 
-public class AXEmojiButton extends AppCompatButton {
+public class AXEmojiButton extends AppCompatButton implements OnEmojiInstalledListener {
   private float emojiSize;
 
   public AXEmojiButton(final Context context) {
@@ -46,6 +47,12 @@ public class AXEmojiButton extends AppCompatButton {
 
   @Override @CallSuper
   public void setText(final CharSequence rawText, final BufferType type) {
+    if (!AXEmojiManager.isInstalled()) {
+      super.setText(rawText, type);
+      AXEmojiManager.renderWhenInstalled(this);
+      return;
+    }
+
     final CharSequence text = rawText == null ? "" : rawText;
     final SpannableStringBuilder spannableStringBuilder = new SpannableStringBuilder(text);
     final Paint.FontMetrics fontMetrics = getPaint().getFontMetrics();
@@ -55,6 +62,12 @@ public class AXEmojiButton extends AppCompatButton {
   }
 
   public void setText2(final CharSequence rawText) {
+    if (!AXEmojiManager.isInstalled()) {
+      super.setText(rawText);
+      AXEmojiManager.renderWhenInstalled(this);
+      return;
+    }
+
     final CharSequence text = rawText == null ? "" : rawText;
     final SpannableStringBuilder spannableStringBuilder = new SpannableStringBuilder(text);
     final Paint.FontMetrics fontMetrics = getPaint().getFontMetrics();
@@ -63,6 +76,12 @@ public class AXEmojiButton extends AppCompatButton {
     super.setText(spannableStringBuilder);
   }
 
+  /** renders the emojis of the plain text shown during {@link AXEmojiManager#installAsync} */
+  @Override
+  public void onEmojiInstalled() {
+    setText2(getText());
+  }
+
   /** sets the emoji size in pixels and automatically invalidates the text and renders it with the new size */
   public final void setEmojiSize(@Px final int pixels) {
     setEmojiSize(pixels, true);
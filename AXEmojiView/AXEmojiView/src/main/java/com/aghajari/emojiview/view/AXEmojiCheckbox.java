@@ -12,8 +12,9 @@ import androidx.appcompat.widget.AppCompatCheckBox;
 
 import com.aghajari.emojiview.AXEmojiManager;
 import com.aghajari.emojiview.R;
+import com.aghajari.emojiview.listener.OnEmojiInstalledListener;
 
-public class AXEmojiCheckbox extends AppCompatCheckBox {
+public class AXEmojiCheckbox extends AppCompatCheckBox implements OnEmojiInstalledListener {
   private float emojiSize;
 
   public AXEmojiCheckbox(final Context context) {
@@ -71,9 +72,16 @@ public class AXEmojiCheckbox extends AppCompatCheckBox {
     final float defaultEmojiSize = fontMetrics.descent - fontMetrics.ascent;
     if (AXEmojiManager.isInstalled())
     AXEmojiManager.getInstance().replaceWithImages(getContext(), spannableStringBuilder, emojiSize ,fontMetrics, defaultEmojiSize);
+    else AXEmojiManager.renderWhenInstalled(this);
     super.setText(spannableStringBuilder, type);
   }
 
+  /** renders the emojis of the plain text shown during {@link AXEmojiManager#installAsync} */
+  @Override
+  public void onEmojiInstalled() {
+    setText(getText());
+  }
+
   public float getEmojiSize() {
     return emojiSize;
   }
@@ -12,8 +12,9 @@ import com.aghajari.emojiview.AXEmojiManager;
 import com.aghajari.emojiview.AXEmojiUtils;
 import com.aghajari.emojiview.R;
 import com.aghajari.emojiview.emoji.Emoji;
+import com.aghajari.emojiview.listener.OnEmojiInstalledListener;
 
-public class AXEmojiEditText extends AppCompatEditText {
+public class AXEmojiEditText extends AppCompatEditText implements OnEmojiInstalledListener {
     private float emojiSize;
 
     public AXEmojiEditText(final Context context) {
@@ -46,7 +47,17 @@ public class AXEmojiEditText extends AppCompatEditText {
         final float defaultEmojiSize = fontMetrics.descent - fontMetrics.ascent;
         
         if (AXEmojiManager.isInstalled())
-        AXEmojiManager.getInstance().replaceWithImages(getContext(), getText(), emojiSize,fontMetrics, defaultEmojiSize);
+        AXEmojiManager.getInstance().replaceWithImages(getContext(), getText(), emojiSize,fontMetrics, defaultEmojiSize, start, start + lengthAfter);
+        else AXEmojiManager.renderWhenInstalled(this);
+    }
+
+    /** renders the emojis typed during {@link AXEmojiManager#installAsync} */
+    @Override
+    public void onEmojiInstalled() {
+        if (getText() == null) return;
+        final Paint.FontMetrics fontMetrics = getPaint().getFontMetrics();
+        final float defaultEmojiSize = fontMetrics.descent - fontMetrics.ascent;
+        AXEmojiManager.getInstance().replaceWithImages(getContext(), getText(), emojiSize, fontMetrics, defaultEmojiSize, 0, getText().length());
     }
     @CallSuper public void backspace() {
         AXEmojiUtils.backspace(this);
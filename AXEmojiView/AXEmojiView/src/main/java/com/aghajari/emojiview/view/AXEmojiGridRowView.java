@@ -0,0 +1,449 @@
+package com.aghajari.emojiview.view;
+
+import android.annotation.SuppressLint;
+import android.content.Context;
+import android.content.res.TypedArray;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.Rect;
+import android.graphics.drawable.Drawable;
+import android.os.Bundle;
+import android.view.KeyEvent;
+import android.view.MotionEvent;
+import android.view.SoundEffectConstants;
+import android.view.View;
+import android.view.ViewConfiguration;
+import android.view.ViewGroup;
+import android.view.accessibility.AccessibilityEvent;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.content.ContextCompat;
+import androidx.core.graphics.drawable.DrawableCompat;
+import androidx.core.view.ViewCompat;
+import androidx.core.view.accessibility.AccessibilityNodeInfoCompat;
+import androidx.customview.widget.ExploreByTouchHelper;
+
+import com.aghajari.emojiview.AXEmojiManager;
+import com.aghajari.emojiview.emoji.Emoji;
+import com.aghajari.emojiview.listener.OnEmojiActions;
+import com.aghajari.emojiview.shared.VariantEmoji;
+import com.aghajari.emojiview.utils.EmojiLoadNotifier;
+import com.aghajari.emojiview.utils.Utils;
+
+import java.util.List;
+
+/**
+ * One row of the emoji grid, drawn on a single canvas instead of a FrameLayout and an
+ * {@link AXEmojiImageView} per emoji. Taps and long presses are hit-tested to the cell,
+ * all the cells share one ripple.
+ *
+ * Variant popups need an {@link AXEmojiImageView} to anchor to, so the long pressed cell is
+ * covered by a child image view which is only laid out while it's needed.
+ *
+ * The bounds of every cell come from {@link #getCellBounds(int, Rect)}, and each cell is
+ * a virtual view for the accessibility services.
+ */
+@SuppressLint("ViewConstructor")
+public class AXEmojiGridRowView extends ViewGroup {
+    private static final int VARIANT_INDICATOR_PART_AMOUNT = 6;
+    private static final int VARIANT_INDICATOR_PART = 5;
+
+    private final int columns;
+    private final int cellSize;
+    private final int cellPadding;
+    private final int touchSlop;
+
+    private final Emoji[] emojis;
+    private final Drawable[] drawables;
+    private int count;
+
+    private final Paint variantIndicatorPaint = new Paint();
+    private final Path variantIndicatorPath = new Path();
+    public boolean showVariants = AXEmojiManager.getEmojiViewTheme().isVariantDividerEnabled();
+
+    private Drawable ripple;
+    private static final int[] PRESSED_STATE = {android.R.attr.state_pressed, android.R.attr.state_enabled};
+    private static final int[] DEFAULT_STATE = {android.R.attr.state_enabled};
+
+    OnEmojiActions actions;
+    boolean fromRecent;
+
+    private int pressedCell = -1;
+    private float downX, downY;
+    private boolean longPressed;
+
+    private AXEmojiImageView anchor;
+    private int anchorCell = -1;
+
+    private final Rect cellBounds = new Rect();
+    private final CellAccessibilityHelper accessibilityHelper;
+
+    private final Runnable longPressRunnable = new Runnable() {
+        @Override
+        public void run() {
+            if (pressedCell < 0) return;
+            longPressed = true;
+            int cell = pressedCell;
+            setPressedCell(-1);
+            performCellLongClick(cell);
+        }
+    };
+
+    public AXEmojiGridRowView(@NonNull Context context, int columns) {
+        super(context);
+        this.columns = columns;
+        cellSize = Utils.getColumnWidth(context);
+        cellPadding = Utils.dpToPx(context, 6);
+        touchSlop = ViewConfiguration.get(context).getScaledTouchSlop();
+        emojis = new Emoji[columns];
+        drawables = new Drawable[columns];
+        setWillNotDraw(false);
+
+        variantIndicatorPaint.setColor(AXEmojiManager.getEmojiViewTheme().getVariantDividerColor());
+        variantIndicatorPaint.setStyle(Paint.Style.FILL);
+        variantIndicatorPaint.setAntiAlias(true);
+
+        // relative to the bottom right corner of the cell
+        int indicatorSize = cellSize - cellSize / VARIANT_INDICATOR_PART_AMOUNT * VARIANT_INDICATOR_PART;
+        variantIndicatorPath.moveTo(0, -indicatorSize);
+        variantIndicatorPath.lineTo(0, 0);
+        variantIndicatorPath.lineTo(-indicatorSize, 0);
+        variantIndicatorPath.close();
+
+        accessibilityHelper = new CellAccessibilityHelper(this);
+        ViewCompat.setAccessibilityDelegate(this, accessibilityHelper);
+
+        if (AXEmojiManager.isRippleEnabled()) {
+            TypedArray typedArray = context.obtainStyledAttributes(new int[]{android.R.attr.selectableItemBackground});
+            int backgroundResource = typedArray.getResourceId(0, 0);
+            typedArray.recycle();
+            if (backgroundResource != 0) {
+                ripple = ContextCompat.getDrawable(context, backgroundResource);
+                if (ripple != null) {
+                    ripple.setCallback(this);
+                    ripple.setState(DEFAULT_STATE);
+                }
+            }
+        }
+    }
+
+    public void setOnEmojiActions(OnEmojiActions actions, boolean fromRecent) {
+        this.actions = actions;
+        this.fromRecent = fromRecent;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Shows emojis[start, start + count) in this row, the selected variant of each one.
+     */
+    public void setEmojis(@NonNull Emoji[] source, int start, int count, @NonNull VariantEmoji variantEmoji) {
+        count = Math.min(count, columns);
+        hideAnchor();
+        cancelPress();
+
+        boolean visible = isShown();
+        for (int i = 0; i < columns; i++) {
+            Emoji emoji = i < count ? variantEmoji.getVariant(source[start + i]) : null;
+            if (emoji != null ? emoji.equals(emojis[i]) : emojis[i] == null) continue;
+
+            if (drawables[i] != null) {
+                drawables[i].setVisible(false, false);
+                drawables[i].setCallback(null);
+                drawables[i] = null;
+            }
+            emojis[i] = emoji;
+            if (emoji != null) {
+                Drawable drawable = emoji.getDrawable(this);
+                drawable.setCallback(this);
+                drawable.setVisible(visible, false);
+                drawables[i] = drawable;
+            }
+        }
+        this.count = count;
+        invalidate();
+        accessibilityHelper.invalidateRoot();
+    }
+
+    public Emoji getEmoji(int cell) {
+        return cell >= 0 && cell < count ? emojis[cell] : null;
+    }
+
+    /**
+     * Sets the bounds of the cell in this row, the columns share the width of the row.
+     */
+    void getCellBounds(int cell, @NonNull Rect bounds) {
+        bounds.set(cell * getWidth() / columns, 0, (cell + 1) * getWidth() / columns, getHeight());
+    }
+
+    private int findCell(float x, float y) {
+        for (int i = 0; i < count; i++) {
+            getCellBounds(i, cellBounds);
+            if (cellBounds.contains((int) x, (int) y)) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        setMeasuredDimension(getDefaultSize(getSuggestedMinimumWidth(), widthMeasureSpec), cellSize);
+        if (anchor != null && anchor.getVisibility() != GONE && anchorCell >= 0) {
+            getCellBounds(anchorCell, cellBounds);
+            anchor.measure(MeasureSpec.makeMeasureSpec(cellBounds.width(), MeasureSpec.EXACTLY),
+                    MeasureSpec.makeMeasureSpec(cellSize, MeasureSpec.EXACTLY));
+        }
+    }
+
+    @Override
+    protected void onLayout(boolean changed, int l, int t, int r, int b) {
+        if (anchor != null && anchor.getVisibility() != GONE && anchorCell >= 0) {
+            layoutAnchor();
+        }
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+        if (ripple != null) ripple.draw(canvas);
+
+        Emoji loading = null;
+        for (int i = 0; i < count; i++) {
+            Drawable drawable = drawables[i];
+            if (drawable == null || i == anchorCell) continue;
+
+            // a square in the middle of the cell
+            getCellBounds(i, cellBounds);
+            int size = Math.min(cellBounds.width(), cellBounds.height()) - 2 * cellPadding;
+            int left = cellBounds.centerX() - size / 2, top = cellBounds.centerY() - size / 2;
+            drawable.setBounds(left, top, left + size, top + size);
+            drawable.draw(canvas);
+
+            if (showVariants && emojis[i].getBase().hasVariants()) {
+                canvas.save();
+                canvas.translate(cellBounds.right, cellBounds.bottom);
+                canvas.drawPath(variantIndicatorPath, variantIndicatorPaint);
+                canvas.restore();
+            }
+            if (loading == null && emojis[i].isLoading()) loading = emojis[i];
+        }
+
+        // redraws the row once it's loaded, then waits for the next one
+        if (loading != null) {
+            EmojiLoadNotifier.observe(this, loading);
+        } else {
+            EmojiLoadNotifier.remove(this);
+        }
+    }
+
+    @SuppressLint("ClickableViewAccessibility")
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        switch (event.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN:
+                int cell = findCell(event.getX(), event.getY());
+                if (cell < 0) return false;
+                downX = event.getX();
+                downY = event.getY();
+                longPressed = false;
+                setPressedCell(cell);
+                postDelayed(longPressRunnable, ViewConfiguration.getLongPressTimeout());
+                return true;
+            case MotionEvent.ACTION_MOVE:
+                if (pressedCell >= 0 && (Math.abs(event.getX() - downX) > touchSlop
+                        || Math.abs(event.getY() - downY) > touchSlop)) {
+                    cancelPress();
+                }
+                return true;
+            case MotionEvent.ACTION_UP:
+                if (pressedCell >= 0 && !longPressed) {
+                    int clicked = pressedCell;
+                    cancelPress();
+                    performCellClick(clicked);
+                } else {
+                    cancelPress();
+                }
+                return true;
+            case MotionEvent.ACTION_CANCEL:
+                cancelPress();
+                return true;
+        }
+        return false;
+    }
+
+    private void performCellClick(int cell) {
+        playSoundEffect(SoundEffectConstants.CLICK);
+        if (actions != null) actions.onClick(this, emojis[cell], fromRecent, false);
+        accessibilityHelper.sendEventForVirtualView(cell, AccessibilityEvent.TYPE_VIEW_CLICKED);
+    }
+
+    private void performCellLongClick(int cell) {
+        if (actions != null) actions.onLongClick(showAnchor(cell), emojis[cell], fromRecent, false);
+        accessibilityHelper.sendEventForVirtualView(cell, AccessibilityEvent.TYPE_VIEW_LONG_CLICKED);
+    }
+
+    private void cancelPress() {
+        removeCallbacks(longPressRunnable);
+        setPressedCell(-1);
+    }
+
+    private void setPressedCell(int cell) {
+        pressedCell = cell;
+        if (ripple == null) return;
+
+        if (cell >= 0) {
+            getCellBounds(cell, cellBounds);
+            ripple.setBounds(cellBounds);
+            DrawableCompat.setHotspot(ripple, downX, downY);
+            ripple.setState(PRESSED_STATE);
+        } else {
+            ripple.setState(DEFAULT_STATE);
+        }
+        invalidate();
+    }
+
+    private AXEmojiImageView showAnchor(int cell) {
+        if (anchor == null) {
+            anchor = new AXEmojiImageView(getContext());
+            anchor.setPadding(cellPadding, cellPadding, cellPadding, cellPadding);
+            addView(anchor);
+        }
+        anchorCell = cell;
+        anchor.showVariants = showVariants;
+        anchor.setEmoji(emojis[cell]);
+        anchor.setOnEmojiActions(actions, fromRecent);
+        anchor.setVisibility(VISIBLE);
+
+        // the popup reads its location right away, it can't wait for the next layout pass
+        getCellBounds(cell, cellBounds);
+        anchor.measure(MeasureSpec.makeMeasureSpec(cellBounds.width(), MeasureSpec.EXACTLY),
+                MeasureSpec.makeMeasureSpec(cellBounds.height(), MeasureSpec.EXACTLY));
+        layoutAnchor();
+        invalidate();
+        return anchor;
+    }
+
+    private void layoutAnchor() {
+        getCellBounds(anchorCell, cellBounds);
+        anchor.layout(cellBounds.left, cellBounds.top, cellBounds.right, cellBounds.bottom);
+    }
+
+    private void hideAnchor() {
+        if (anchor != null && anchorCell >= 0) {
+            anchor.setVisibility(GONE);
+            anchorCell = -1;
+        }
+    }
+
+    @Override
+    protected boolean dispatchHoverEvent(MotionEvent event) {
+        return accessibilityHelper.dispatchHoverEvent(event) || super.dispatchHoverEvent(event);
+    }
+
+    @Override
+    public boolean dispatchKeyEvent(KeyEvent event) {
+        return accessibilityHelper.dispatchKeyEvent(event) || super.dispatchKeyEvent(event);
+    }
+
+    @Override
+    protected void onFocusChanged(boolean gainFocus, int direction, @Nullable Rect previouslyFocusedRect) {
+        super.onFocusChanged(gainFocus, direction, previouslyFocusedRect);
+        accessibilityHelper.onFocusChanged(gainFocus, direction, previouslyFocusedRect);
+    }
+
+    @Override
+    protected boolean verifyDrawable(@NonNull Drawable who) {
+        if (who == ripple) return true;
+        for (int i = 0; i < count; i++) {
+            if (drawables[i] == who) return true;
+        }
+        return super.verifyDrawable(who);
+    }
+
+    @Override
+    public void jumpDrawablesToCurrentState() {
+        super.jumpDrawablesToCurrentState();
+        if (ripple != null) ripple.jumpToCurrentState();
+    }
+
+    @Override
+    protected void onVisibilityChanged(@NonNull View changedView, int visibility) {
+        super.onVisibilityChanged(changedView, visibility);
+        setDrawablesVisible(isShown());
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        setDrawablesVisible(isShown());
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        cancelPress();
+        setDrawablesVisible(false);
+        EmojiLoadNotifier.remove(this);
+    }
+
+    private void setDrawablesVisible(boolean visible) {
+        for (int i = 0; i < count; i++) {
+            if (drawables[i] != null) drawables[i].setVisible(visible, false);
+        }
+    }
+
+    /**
+     * Exposes each cell of the row as a virtual view, with the same bounds and actions as a touch.
+     */
+    private class CellAccessibilityHelper extends ExploreByTouchHelper {
+        private final Rect bounds = new Rect();
+
+        CellAccessibilityHelper(View host) {
+            super(host);
+        }
+
+        @Override
+        protected int getVirtualViewAt(float x, float y) {
+            int cell = findCell(x, y);
+            return cell >= 0 ? cell : INVALID_ID;
+        }
+
+        @Override
+        protected void getVisibleVirtualViews(List<Integer> virtualViewIds) {
+            for (int i = 0; i < count; i++) {
+                virtualViewIds.add(i);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        protected void onPopulateNodeForVirtualView(int virtualViewId, @NonNull AccessibilityNodeInfoCompat node) {
+            Emoji emoji = getEmoji(virtualViewId);
+            // the ids of a row which just got fewer emojis may still be asked for
+            node.setContentDescription(emoji != null ? emoji.getUnicode() : "");
+            getCellBounds(virtualViewId, bounds);
+            node.setBoundsInParent(bounds);
+            if (emoji != null) {
+                node.addAction(AccessibilityNodeInfoCompat.ACTION_CLICK);
+                node.addAction(AccessibilityNodeInfoCompat.ACTION_LONG_CLICK);
+            }
+        }
+
+        @Override
+        protected boolean onPerformActionForVirtualView(int virtualViewId, int action, @Nullable Bundle arguments) {
+            if (getEmoji(virtualViewId) == null) return false;
+            switch (action) {
+                case AccessibilityNodeInfoCompat.ACTION_CLICK:
+                    performCellClick(virtualViewId);
+                    return true;
+                case AccessibilityNodeInfoCompat.ACTION_LONG_CLICK:
+                    performCellLongClick(virtualViewId);
+                    return true;
+            }
+            return false;
+        }
+    }
+}
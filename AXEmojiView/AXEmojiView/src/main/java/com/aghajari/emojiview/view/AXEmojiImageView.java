@@ -13,6 +13,7 @@ import android.view.View;
 import com.aghajari.emojiview.AXEmojiManager;
 import com.aghajari.emojiview.emoji.Emoji;
 import com.aghajari.emojiview.listener.OnEmojiActions;
+import com.aghajari.emojiview.utils.EmojiLoadNotifier;
 import com.aghajari.emojiview.utils.Utils;
 
 public final class AXEmojiImageView extends AppCompatImageView {
@@ -122,6 +123,7 @@ public final class AXEmojiImageView extends AppCompatImageView {
       imageLoadingTask.cancel(true);
       imageLoadingTask = null;
     }
+    EmojiLoadNotifier.remove(this);
   }
 
   public void setEmoji(@NonNull final Emoji emoji) {
@@ -146,18 +148,7 @@ public final class AXEmojiImageView extends AppCompatImageView {
         }
       }
 
-      if (emoji.isLoading()){
-        postDelayed(new Runnable() {
-          @Override
-          public void run() {
-            if (emoji.isLoading()) {
-              postDelayed(this,10);
-              return;
-            }
-            invalidate();
-          }
-        },10);
-      }
+      EmojiLoadNotifier.observe(this, emoji);
     }
   }
 
@@ -176,6 +167,7 @@ public final class AXEmojiImageView extends AppCompatImageView {
       }else {
         setImageDrawable(emoji.getDrawable(this));
       }
+      EmojiLoadNotifier.observe(this, emoji);
     }
   }
 
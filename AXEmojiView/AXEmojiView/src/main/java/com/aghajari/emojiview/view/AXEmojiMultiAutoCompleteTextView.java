@@ -14,9 +14,10 @@ import com.aghajari.emojiview.AXEmojiManager;
 import com.aghajari.emojiview.AXEmojiUtils;
 import com.aghajari.emojiview.R;
 import com.aghajari.emojiview.emoji.Emoji;
+import com.aghajari.emojiview.listener.OnEmojiInstalledListener;
 
 /** Reference implementation for an EmojiAutoCompleteTextView with emoji support. */
-public class AXEmojiMultiAutoCompleteTextView extends AppCompatMultiAutoCompleteTextView {
+public class AXEmojiMultiAutoCompleteTextView extends AppCompatMultiAutoCompleteTextView implements OnEmojiInstalledListener {
   private float emojiSize;
 
   public AXEmojiMultiAutoCompleteTextView(final Context context) {
@@ -49,7 +50,18 @@ public class AXEmojiMultiAutoCompleteTextView extends AppCompatMultiAutoComplete
   protected void onTextChanged(final CharSequence text, final int start, final int lengthBefore, final int lengthAfter) {
     final Paint.FontMetrics fontMetrics = getPaint().getFontMetrics();
     final float defaultEmojiSize = fontMetrics.descent - fontMetrics.ascent;
-    AXEmojiManager.getInstance().replaceWithImages(getContext(), getText(), emojiSize, fontMetrics,defaultEmojiSize);
+    if (AXEmojiManager.isInstalled())
+    AXEmojiManager.getInstance().replaceWithImages(getContext(), getText(), emojiSize, fontMetrics,defaultEmojiSize, start, start + lengthAfter);
+    else AXEmojiManager.renderWhenInstalled(this);
+  }
+
+  /** renders the emojis typed during {@link AXEmojiManager#installAsync} */
+  @Override
+  public void onEmojiInstalled() {
+    if (getText() == null) return;
+    final Paint.FontMetrics fontMetrics = getPaint().getFontMetrics();
+    final float defaultEmojiSize = fontMetrics.descent - fontMetrics.ascent;
+    AXEmojiManager.getInstance().replaceWithImages(getContext(), getText(), emojiSize, fontMetrics, defaultEmojiSize, 0, getText().length());
   }
 
   @CallSuper public void backspace() {
@@ -5,16 +5,26 @@ import android.content.res.TypedArray;
 import android.graphics.Paint;
 import androidx.annotation.CallSuper;
 import androidx.annotation.DimenRes;
+import androidx.annotation.NonNull;
 import androidx.annotation.Px;
 import androidx.appcompat.widget.AppCompatTextView;
+import androidx.core.text.PrecomputedTextCompat;
+import android.text.Spannable;
 import android.text.SpannableStringBuilder;
+import android.text.SpannedString;
 import android.util.AttributeSet;
 
 import com.aghajari.emojiview.AXEmojiManager;
 import com.aghajari.emojiview.R;
+import com.aghajari.emojiview.listener.OnEmojiInstalledListener;
+import com.aghajari.emojiview.utils.EmojiSpanScheduler;
+import com.aghajari.emojiview.utils.PreparedEmojiText;
 
-public class AXEmojiTextView extends AppCompatTextView {
+public class AXEmojiTextView extends AppCompatTextView implements OnEmojiInstalledListener {
   private float emojiSize;
+  private boolean bindingPreparedText = false;
+  /* the emojis of the text weren't all replaced when the view was detached */
+  private boolean spansPending = false;
 
   public AXEmojiTextView(final Context context) {
     this(context, null);
@@ -43,15 +53,27 @@ public class AXEmojiTextView extends AppCompatTextView {
 
   @Override @CallSuper
   public void setText(final CharSequence rawText, final BufferType type) {
-    if (AXEmojiManager.isInstalled()) {
+    // a new text replaces the one left pending by a detach
+    spansPending = false;
+    if (bindingPreparedText) {
+      super.setText(rawText, type);
+    } else if (AXEmojiManager.isInstalled()) {
       final CharSequence text = rawText == null ? "" : rawText;
       final SpannableStringBuilder spannableStringBuilder = new SpannableStringBuilder(text);
       final Paint.FontMetrics fontMetrics = getPaint().getFontMetrics();
       final float defaultEmojiSize = fontMetrics.descent - fontMetrics.ascent;
-      AXEmojiManager.getInstance().replaceWithImages(getContext(), spannableStringBuilder, emojiSize, fontMetrics,defaultEmojiSize);
+      // a long text shows its first screen now and gets the rest of its emojis on the next frames
+      EmojiSpanScheduler.replaceWithImages(this, spannableStringBuilder, emojiSize, fontMetrics, defaultEmojiSize, new EmojiSpanScheduler.Callback() {
+        @Override
+        public void onSpansApplied(@NonNull Spannable text) {
+          AXEmojiTextView.super.setText(text, type);
+        }
+      });
       super.setText(spannableStringBuilder, type);
     }else{
+      EmojiSpanScheduler.cancel(this);
       super.setText(rawText,type);
+      AXEmojiManager.renderWhenInstalled(this);
     }
   }
   
@@ -65,10 +87,63 @@ public class AXEmojiTextView extends AppCompatTextView {
       super.setText(spannableStringBuilder);
     }else{
       super.setText(rawText);
+      AXEmojiManager.renderWhenInstalled(this);
     }
 
   }
 
+  /**
+   * shows a text prepared by {@link com.aghajari.emojiview.AXEmojiUtils#prepareAsync} without scanning it again,
+   * its measurement is used when its params are still the params of this view.
+   * A text prepared for another emoji size is replaced again like by {@link #setText(CharSequence)}
+   */
+  public void setPreparedText(@NonNull final PreparedEmojiText preparedText) {
+    EmojiSpanScheduler.cancel(this);
+    if (Float.compare(preparedText.getEmojiSize(), emojiSize) != 0) {
+      setText(preparedText.getSourceText());
+      return;
+    }
+
+    bindingPreparedText = true;
+    try {
+      final PrecomputedTextCompat precomputedText = preparedText.getPrecomputedText();
+      if (precomputedText == null) {
+        setText(preparedText.getText());
+      } else if (preparedText.getTextParams().equals(getTextMetricsParamsCompat())) {
+        setPrecomputedText(precomputedText);
+      } else {
+        // a text measured for other params can't be shown as it is, only its spans are kept
+        setText(new SpannedString(precomputedText));
+      }
+    } finally {
+      bindingPreparedText = false;
+    }
+  }
+
+  @Override
+  protected void onAttachedToWindow() {
+    super.onAttachedToWindow();
+    if (spansPending) {
+      spansPending = false;
+      // the replace starts over, like for a new text
+      setText(getText());
+    }
+  }
+
+  @Override
+  protected void onDetachedFromWindow() {
+    super.onDetachedFromWindow();
+    // the scheduler would keep the view until its text is done
+    spansPending = EmojiSpanScheduler.isScheduled(this);
+    EmojiSpanScheduler.cancel(this);
+  }
+
+  /** renders the emojis of the plain text shown during {@link AXEmojiManager#installAsync} */
+  @Override
+  public void onEmojiInstalled() {
+    setText(getText());
+  }
+
   /** sets the emoji size in pixels and automatically invalidates the text and renders it with the new size */
   public final void setEmojiSize(@Px final int pixels) {
     setEmojiSize(pixels, true);
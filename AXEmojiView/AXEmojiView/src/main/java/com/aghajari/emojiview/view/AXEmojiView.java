@@ -13,6 +13,7 @@ import com.aghajari.emojiview.adapters.AXEmojiViewPagerAdapter;
 import com.aghajari.emojiview.emoji.Emoji;
 import com.aghajari.emojiview.listener.FindVariantListener;
 import com.aghajari.emojiview.listener.OnEmojiActions;
+import com.aghajari.emojiview.listener.OnRecentEmojisLoadedListener;
 import com.aghajari.emojiview.shared.RecentEmoji;
 import com.aghajari.emojiview.shared.RecentEmojiManager;
 import com.aghajari.emojiview.shared.VariantEmoji;
@@ -20,7 +21,7 @@ import com.aghajari.emojiview.shared.VariantEmojiManager;
 import com.aghajari.emojiview.utils.Utils;
 import com.aghajari.emojiview.variant.AXEmojiVariantPopup;
 
-public class AXEmojiView extends  AXEmojiLayout implements FindVariantListener {
+public class AXEmojiView extends  AXEmojiLayout implements FindVariantListener, OnRecentEmojisLoadedListener {
     public AXEmojiView(Context context) {
         super(context);
         init();
@@ -45,8 +46,8 @@ public class AXEmojiView extends  AXEmojiLayout implements FindVariantListener {
             if (!fromVariant) recent.addEmoji(emoji);
             if (editText!=null) AXEmojiUtils.input(editText,emoji);
 
-            /**if (!fromRecent && ((AXEmojiViewPagerAdapter) vp.getAdapter()).add==1)
-            ((AXEmojiViewPagerAdapter) vp.getAdapter()).recyclerViews.get(0).getAdapter().notifyDataSetChanged();*/
+            // the recent page isn't under the finger, it can move its emojis
+            if (!fromRecent) ((AXEmojiViewPagerAdapter) vp.getAdapter()).refreshRecentPage();
 
             variant.addVariant(emoji);
             if (variantPopup!=null) variantPopup.dismiss();
@@ -128,6 +129,8 @@ public class AXEmojiView extends  AXEmojiLayout implements FindVariantListener {
             recent = AXEmojiManager.getInstance().getRecentEmoji();
         }else {
             recent = new RecentEmojiManager(getContext());
+            // shown without the recents until they're read from the disk
+            RecentEmojiManager.refreshWhenLoaded(this);
         }
         if (AXEmojiManager.getInstance().getVariantEmoji()!=null){
             variant = AXEmojiManager.getInstance().getVariantEmoji();
@@ -155,6 +158,7 @@ public class AXEmojiView extends  AXEmojiLayout implements FindVariantListener {
             @Override
             public void onPageSelected(int i) {
                 vp.setCurrentItem(i,true);
+                if (i == 0) ((AXEmojiViewPagerAdapter) vp.getAdapter()).refreshRecentPage();
                 if (((AXEmojiViewPagerAdapter)vp.getAdapter()).recyclerViews.size()>i) {
                     scrollListener.onScrolled(((AXEmojiViewPagerAdapter) vp.getAdapter()).recyclerViews.get(i), 0, 1);
                 }else{
@@ -220,6 +224,16 @@ public class AXEmojiView extends  AXEmojiLayout implements FindVariantListener {
         }
     }
 
+    @Override
+    public void onRecentEmojisLoaded() {
+        // the recent page is added or removed
+        if (categoryViews.recent != recent.isEmpty()) {
+            refresh();
+        } else {
+            ((AXEmojiViewPagerAdapter) vp.getAdapter()).refreshRecentPage();
+        }
+    }
+
     @Override
     protected void refresh(){
         super.refresh();
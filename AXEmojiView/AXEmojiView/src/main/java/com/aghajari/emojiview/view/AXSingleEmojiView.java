@@ -12,6 +12,7 @@ import com.aghajari.emojiview.adapters.AXSingleEmojiPageAdapter;
 import com.aghajari.emojiview.emoji.Emoji;
 import com.aghajari.emojiview.listener.FindVariantListener;
 import com.aghajari.emojiview.listener.OnEmojiActions;
+import com.aghajari.emojiview.listener.OnRecentEmojisLoadedListener;
 import com.aghajari.emojiview.shared.RecentEmoji;
 import com.aghajari.emojiview.shared.RecentEmojiManager;
 import com.aghajari.emojiview.shared.VariantEmoji;
@@ -19,7 +20,7 @@ import com.aghajari.emojiview.shared.VariantEmojiManager;
 import com.aghajari.emojiview.utils.Utils;
 import com.aghajari.emojiview.variant.AXEmojiVariantPopup;
 
-public class AXSingleEmojiView extends  AXEmojiLayout implements FindVariantListener {
+public class AXSingleEmojiView extends  AXEmojiLayout implements FindVariantListener, OnRecentEmojisLoadedListener {
     public AXSingleEmojiView(Context context) {
         super(context);
         init();
@@ -159,6 +160,8 @@ public class AXSingleEmojiView extends  AXEmojiLayout implements FindVariantList
             recent = AXEmojiManager.getInstance().getRecentEmoji();
         }else {
             recent = new RecentEmojiManager(getContext());
+            // shown without the recents until they're read from the disk
+            RecentEmojiManager.refreshWhenLoaded(this);
         }
         if (AXEmojiManager.getInstance().getVariantEmoji()!=null){
             variant = AXEmojiManager.getInstance().getVariantEmoji();
@@ -171,7 +174,10 @@ public class AXSingleEmojiView extends  AXEmojiLayout implements FindVariantList
         recyclerView = new AXEmojiSingleRecyclerView(getContext(),this);
         recyclerView.setItemAnimator(null);
         this.addView(recyclerView,new LayoutParams(0, 0,-1,-1));
-        recyclerView.setAdapter(new AXSingleEmojiPageAdapter(AXEmojiManager.getInstance().getCategories(),events,recent,variant));
+        int columns = 0;
+        if (AXEmojiManager.isGridRendererEnabled() && AXEmojiManager.getInstance().getEmojiLoader() == null)
+            columns = Utils.getGridCount(getContext());
+        recyclerView.setAdapter(new AXSingleEmojiPageAdapter(AXEmojiManager.getInstance().getCategories(),events,recent,variant,columns));
         recyclerView.addOnScrollListener(scrollListener);
 
         categoryViews = new AXCategoryViews(getContext(),this,recent);
@@ -231,6 +237,15 @@ public class AXSingleEmojiView extends  AXEmojiLayout implements FindVariantList
         recyclerView.addOnScrollListener(listener);
     }
 
+    @Override
+    public void onRecentEmojisLoaded() {
+        if (categoryViews.recent != recent.isEmpty()) {
+            refresh();
+        } else {
+            ((AXSingleEmojiPageAdapter) recyclerView.getAdapter()).refresh();
+        }
+    }
+
     @Override
     protected void refresh(){
         super.refresh();
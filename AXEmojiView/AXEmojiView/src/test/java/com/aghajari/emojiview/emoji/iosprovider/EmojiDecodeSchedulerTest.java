@@ -0,0 +1,209 @@
+package com.aghajari.emojiview.emoji.iosprovider;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class EmojiDecodeSchedulerTest {
+    private static final Executor DIRECT = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    /* decodes key 0 only once it's released, so the next requests wait in the queue */
+    private static final class BlockingDecoder implements EmojiDecodeScheduler.Decoder {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Integer> decoded = Collections.synchronizedList(new ArrayList<Integer>());
+
+        @Override
+        public void decode(int key) {
+            if (key == 0) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            decoded.add(key);
+        }
+    }
+
+    private static final class CountingCallback implements Runnable {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public void run() {
+            calls.incrementAndGet();
+        }
+    }
+
+    private static EmojiDecodeScheduler blockedScheduler(BlockingDecoder decoder) throws InterruptedException {
+        EmojiDecodeScheduler scheduler = new EmojiDecodeScheduler(1, decoder, DIRECT);
+        scheduler.schedule(0, EmojiDecodeScheduler.PRIORITY_VISIBLE, null);
+        assertTrue(decoder.started.await(5, TimeUnit.SECONDS));
+        return scheduler;
+    }
+
+    private static void awaitIdle(EmojiDecodeScheduler scheduler) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30000;
+        while (scheduler.getInFlightCount() != 0 || scheduler.getPendingCount() != 0) {
+            assertTrue("the decodes didn't finish", System.currentTimeMillis() < deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    public void decodesTheVisibleAndTheLatestFirst() throws InterruptedException {
+        BlockingDecoder decoder = new BlockingDecoder();
+        EmojiDecodeScheduler scheduler = blockedScheduler(decoder);
+        scheduler.schedule(1, EmojiDecodeScheduler.PRIORITY_PRELOAD, null);
+        scheduler.schedule(2, EmojiDecodeScheduler.PRIORITY_VISIBLE, null);
+        scheduler.schedule(3, EmojiDecodeScheduler.PRIORITY_VISIBLE, null);
+        assertEquals(3, scheduler.getPendingCount());
+
+        decoder.release.countDown();
+        awaitIdle(scheduler);
+        assertEquals(asList(0, 3, 2, 1), decoder.decoded);
+    }
+
+    @Test
+    public void decodesInOrderWithoutLifo() throws InterruptedException {
+        BlockingDecoder decoder = new BlockingDecoder();
+        EmojiDecodeScheduler scheduler = blockedScheduler(decoder);
+        scheduler.schedule(1, EmojiDecodeScheduler.PRIORITY_PRELOAD, null);
+        scheduler.schedule(2, EmojiDecodeScheduler.PRIORITY_VISIBLE, null);
+        scheduler.schedule(3, EmojiDecodeScheduler.PRIORITY_VISIBLE, null);
+        scheduler.setLifo(false);
+
+        decoder.release.countDown();
+        awaitIdle(scheduler);
+        assertEquals(asList(0, 2, 3, 1), decoder.decoded);
+    }
+
+    @Test
+    public void joinsTheLoadOfAKey() throws InterruptedException {
+        BlockingDecoder decoder = new BlockingDecoder();
+        EmojiDecodeScheduler scheduler = blockedScheduler(decoder);
+        CountingCallback first = new CountingCallback(), second = new CountingCallback();
+        scheduler.schedule(5, EmojiDecodeScheduler.PRIORITY_PRELOAD, first);
+        scheduler.schedule(5, EmojiDecodeScheduler.PRIORITY_VISIBLE, second);
+        assertEquals(2, scheduler.getInFlightCount());
+        assertEquals(1, scheduler.getPendingCount());
+
+        decoder.release.countDown();
+        awaitIdle(scheduler);
+        assertEquals(asList(0, 5), decoder.decoded);
+        assertEquals(1, first.calls.get());
+        assertEquals(1, second.calls.get());
+    }
+
+    @Test
+    public void dropsALoadNothingWaitsFor() throws InterruptedException {
+        BlockingDecoder decoder = new BlockingDecoder();
+        EmojiDecodeScheduler scheduler = blockedScheduler(decoder);
+        CountingCallback kept = new CountingCallback(), cancelled = new CountingCallback();
+        EmojiDecodeScheduler.Request first = scheduler.schedule(5, EmojiDecodeScheduler.PRIORITY_VISIBLE, cancelled);
+        scheduler.schedule(6, EmojiDecodeScheduler.PRIORITY_VISIBLE, kept);
+        EmojiDecodeScheduler.Request second = scheduler.schedule(6, EmojiDecodeScheduler.PRIORITY_VISIBLE, cancelled);
+        scheduler.cancel(first);
+        scheduler.cancel(second);
+        assertTrue(first.isCancelled());
+        assertEquals(1, scheduler.getPendingCount());
+
+        decoder.release.countDown();
+        awaitIdle(scheduler);
+        assertEquals(asList(0, 6), decoder.decoded);
+        assertEquals(1, kept.calls.get());
+        assertEquals(0, cancelled.calls.get());
+    }
+
+    /**
+     * 8 threads make 160k random schedule and cancel calls over 3000 keys. As in AXIOSEmojiLoader,
+     * a cached key isn't scheduled anymore and the decoder skips a key which got cached meanwhile.
+     */
+    @Test
+    public void keepsEveryRequestUnderContention() throws InterruptedException {
+        final int keys = 3000, threads = 8, operations = 20000;
+        final AtomicIntegerArray decodes = new AtomicIntegerArray(keys);
+        final EmojiDecodeScheduler scheduler = new EmojiDecodeScheduler(3, new EmojiDecodeScheduler.Decoder() {
+            @Override
+            public void decode(int key) {
+                decodes.compareAndSet(key, 0, 1);
+            }
+        }, DIRECT);
+
+        final List<EmojiDecodeScheduler.Request> kept = Collections.synchronizedList(new ArrayList<EmojiDecodeScheduler.Request>());
+        final List<CountingCallback> keptCallbacks = Collections.synchronizedList(new ArrayList<CountingCallback>());
+        final List<CountingCallback> cancelledCallbacks = Collections.synchronizedList(new ArrayList<CountingCallback>());
+        final CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            final long seed = t;
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    Random random = new Random(seed);
+                    List<EmojiDecodeScheduler.Request> requests = new ArrayList<>();
+                    List<CountingCallback> callbacks = new ArrayList<>();
+                    for (int i = 0; i < operations; i++) {
+                        if (!requests.isEmpty() && random.nextInt(3) == 0) {
+                            int index = random.nextInt(requests.size());
+                            scheduler.cancel(requests.remove(index));
+                            cancelledCallbacks.add(callbacks.remove(index));
+                            continue;
+                        }
+                        int key = random.nextInt(keys);
+                        if (decodes.get(key) != 0) continue;
+                        CountingCallback callback = new CountingCallback();
+                        requests.add(scheduler.schedule(key, random.nextInt(2), callback));
+                        callbacks.add(callback);
+                    }
+                    kept.addAll(requests);
+                    keptCallbacks.addAll(callbacks);
+                    done.countDown();
+                }
+            }).start();
+        }
+        assertTrue(done.await(60, TimeUnit.SECONDS));
+        awaitIdle(scheduler);
+
+        // the keys whose every request was cancelled before their decode started are asked once more
+        CountingCallback last = new CountingCallback();
+        for (int key = 0; key < keys; key++) {
+            if (decodes.get(key) == 0) scheduler.schedule(key, EmojiDecodeScheduler.PRIORITY_VISIBLE, last);
+        }
+        awaitIdle(scheduler);
+
+        for (int key = 0; key < keys; key++) {
+            assertEquals("decodes of " + key, 1, decodes.get(key));
+        }
+        for (int i = 0; i < kept.size(); i++) {
+            assertFalse(kept.get(i).isCancelled());
+            assertEquals(1, keptCallbacks.get(i).calls.get());
+        }
+        for (CountingCallback callback : cancelledCallbacks) {
+            assertTrue(callback.calls.get() <= 1);
+        }
+    }
+
+    private static List<Integer> asList(Integer... values) {
+        List<Integer> list = new ArrayList<>();
+        Collections.addAll(list, values);
+        return list;
+    }
+}
@@ -0,0 +1,117 @@
+package com.aghajari.emojiview.emoji.iosprovider;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PinnedLruCacheTest {
+
+    private static final class ByteCache extends PinnedLruCache<byte[]> {
+        ByteCache(int maxSize) {
+            super(maxSize);
+        }
+
+        @Override
+        int sizeOf(byte[] value) {
+            return value.length;
+        }
+    }
+
+    @Test
+    public void evictsTheLeastRecentlyUsed() {
+        ByteCache cache = new ByteCache(10);
+        cache.put(1, new byte[4]);
+        cache.put(2, new byte[4]);
+        cache.get(1);
+        cache.put(3, new byte[4]);
+
+        assertTrue(cache.contains(1));
+        assertFalse(cache.contains(2));
+        assertTrue(cache.contains(3));
+        assertEquals(8, cache.size());
+        assertEquals(2, cache.count());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void keepsThePinnedUntilUnpinned() {
+        ByteCache cache = new ByteCache(10);
+        cache.pin(1);
+        cache.pin(1);
+        cache.pin(2);
+        cache.put(1, new byte[6]);
+        cache.put(2, new byte[6]);
+        cache.put(3, new byte[6]);
+
+        assertTrue(cache.contains(1));
+        assertTrue(cache.contains(2));
+        assertFalse(cache.contains(3));
+        assertEquals(12, cache.size());
+
+        cache.unpin(1);
+        assertTrue(cache.contains(1));
+        cache.unpin(1);
+        assertFalse(cache.contains(1));
+        assertTrue(cache.contains(2));
+        assertEquals(6, cache.size());
+    }
+
+    @Test
+    public void evictsOnlyTheUnpinned() {
+        ByteCache cache = new ByteCache(10);
+        cache.put(1, new byte[4]);
+        cache.put(2, new byte[4]);
+        cache.pin(2);
+        cache.evictAll();
+
+        assertFalse(cache.contains(1));
+        assertTrue(cache.contains(2));
+        assertEquals(4, cache.size());
+    }
+
+    @Test
+    public void replacesAndRemovesBySize() {
+        ByteCache cache = new ByteCache(10);
+        cache.put(1, new byte[4]);
+        cache.put(1, new byte[2]);
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.count());
+
+        cache.remove(1);
+        cache.remove(2);
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getEvictionCount());
+    }
+
+    @Test
+    public void trimsToANewMaxSize() {
+        ByteCache cache = new ByteCache(10);
+        cache.put(1, new byte[4]);
+        cache.put(2, new byte[4]);
+        cache.setMaxSize(5);
+
+        assertEquals(5, cache.getMaxSize());
+        assertFalse(cache.contains(1));
+        assertTrue(cache.contains(2));
+    }
+
+    @Test
+    public void countsHitsAndMisses() {
+        ByteCache cache = new ByteCache(10);
+        cache.put(1, new byte[4]);
+        cache.get(1);
+        assertNull(cache.get(2));
+        cache.contains(2);
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsAnEmptyMaxSize() {
+        new ByteCache(10).setMaxSize(0);
+    }
+}
@@ -0,0 +1,118 @@
+package com.aghajari.emojiview.shared;
+
+import com.aghajari.emojiview.emoji.Emoji;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RecentEmojiHeapTest {
+    private static final int IDS = 100;
+
+    private static Emoji[] emojis(int count) {
+        Emoji[] emojis = new Emoji[count];
+        for (int i = 0; i < count; i++) {
+            emojis[i] = new Emoji(String.valueOf((char) ('a' + i)), 0);
+        }
+        return emojis;
+    }
+
+    @Test
+    public void sortsFromTheMostUsed() {
+        Emoji[] e = emojis(3);
+        RecentEmojiHeap heap = new RecentEmojiHeap();
+        heap.add(e[0], 0, 1, 10, IDS);
+        heap.add(e[1], 1, 2, 10, IDS);
+        heap.add(e[2], 2, 3, 10, IDS);
+        heap.add(e[0], 0, 5, 10, IDS);
+
+        assertEquals(3, heap.size());
+        assertArrayEquals(new Emoji[]{e[0], e[2], e[1]}, heap.sorted());
+    }
+
+    @Test
+    public void makesRoomByTheLeastUsed() {
+        Emoji[] e = emojis(4);
+        RecentEmojiHeap heap = new RecentEmojiHeap();
+        heap.add(e[0], 0, 3, 3, IDS);
+        heap.add(e[1], 1, 1, 3, IDS);
+        heap.add(e[2], 2, 2, 3, IDS);
+        heap.add(e[3], 3, 4, 3, IDS);
+
+        assertArrayEquals(new Emoji[]{e[3], e[0], e[2]}, heap.sorted());
+        // the evicted emoji starts over
+        heap.add(e[1], 1, 1, 3, IDS);
+        assertArrayEquals(new Emoji[]{e[3], e[0], e[1]}, heap.sorted());
+    }
+
+    @Test
+    public void replacesTheEmojiOfAnId() {
+        Emoji[] e = emojis(2);
+        RecentEmojiHeap heap = new RecentEmojiHeap();
+        heap.add(e[0], 0, 5, 10, IDS);
+        heap.add(e[1], 0, 1, 10, IDS);
+
+        assertEquals(1, heap.size());
+        assertEquals(1, heap.getScore(0), 0);
+        assertArrayEquals(new Emoji[]{e[1]}, heap.sorted());
+    }
+
+    @Test
+    public void trimsAndScales() {
+        Emoji[] e = emojis(3);
+        RecentEmojiHeap heap = new RecentEmojiHeap();
+        heap.add(e[0], 0, 4, 10, IDS);
+        heap.add(e[1], 1, 2, 10, IDS);
+        heap.add(e[2], 2, 8, 10, IDS);
+        heap.scale(0.5);
+
+        assertEquals(1, heap.getScore(0), 0);
+        assertFalse(heap.trim(3));
+        assertTrue(heap.trim(2));
+        assertArrayEquals(new Emoji[]{e[2], e[0]}, heap.sorted());
+    }
+
+    @Test
+    public void keepsTheSameEmojisAsASortedList() {
+        final Emoji[] e = emojis(26);
+        final double[] scores = new double[e.length];
+        final List<Integer> kept = new ArrayList<>();
+        final int max = 8;
+        RecentEmojiHeap heap = new RecentEmojiHeap();
+        Random random = new Random(7);
+        for (int i = 0; i < 5000; i++) {
+            int id = random.nextInt(e.length);
+            double weight = random.nextDouble();
+            heap.add(e[id], id, weight, max, 4);
+
+            if (kept.contains(id)) {
+                scores[id] += weight;
+            } else {
+                if (kept.size() == max) kept.remove(kept.size() - 1);
+                scores[id] = weight;
+                kept.add(id);
+            }
+            Collections.sort(kept, new Comparator<Integer>() {
+                @Override
+                public int compare(Integer lhs, Integer rhs) {
+                    return Double.compare(scores[rhs], scores[lhs]);
+                }
+            });
+
+            Emoji[] expected = new Emoji[kept.size()];
+            for (int k = 0; k < expected.length; k++) {
+                expected[k] = e[kept.get(k)];
+            }
+            assertArrayEquals(expected, heap.sorted());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.aghajari.emojiview.utils;
+
+import android.content.Context;
+import android.graphics.Paint;
+import android.text.Spannable;
+
+import com.aghajari.emojiview.emoji.EmojiSequenceScanner;
+import com.aghajari.emojiview.emoji.EmojiTable;
+import com.aghajari.emojiview.emoji.EmojiTableWriter;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class EmojiTextCacheTest {
+    private static final String TEXT = "hi 🏳️‍🌈 👁️‍🗨️"
+            + " 🕵️‍♂️ ❤️ 1️⃣ 🇮🇷"
+            + " 🏴󠁧󠁢󠁥󠁮󠁧󠁿";
+
+    private static EmojiTable table;
+
+    /* finds the emojis with the scan of the iOS provider, counts the scans */
+    private static final class ScanningReplacer implements EmojiSpanReplacer {
+        int scans = 0;
+
+        @Override
+        public int findEmojis(CharSequence text, int start, int end, int[] ranges) {
+            scans++;
+            return EmojiSequenceScanner.findAll(text, start, end, table, ranges);
+        }
+
+        @Override
+        public void setEmojiSpans(Context context, Spannable text, int[] ranges, int from, int count, float emojiSize, Paint.FontMetrics fontMetrics, float defaultEmojiSize) {
+        }
+
+        @Override
+        public void replaceWithImages(Context context, Spannable text, int start, int end, float emojiSize, Paint.FontMetrics fontMetrics, float defaultEmojiSize) {
+        }
+
+        @Override
+        public void replaceWithImages(Context context, Spannable text, float emojiSize, Paint.FontMetrics fontMetrics, float defaultEmojiSize, EmojiReplacer fallback) {
+        }
+    }
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        EmojiTableWriter.writeEmojiData(out);
+        table = EmojiTable.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    @Test
+    public void cachesTheRangesOfTheReplacer() {
+        final ScanningReplacer replacer = new ScanningReplacer();
+        final int[] expected = new int[64];
+        final int found = replacer.findEmojis(TEXT, 0, TEXT.length(), expected);
+        assertEquals(7, found);
+
+        final EmojiTextCache cache = new EmojiTextCache(4096);
+        final int[] ranges = cache.getRanges(TEXT, 20, null, replacer);
+        assertArrayEquals(Arrays.copyOf(expected, found * 3), ranges);
+        assertSame(ranges, cache.getRanges(new StringBuilder(TEXT), 20, null, replacer));
+        assertEquals(2, replacer.scans);
+        assertEquals(1, cache.getHitCount());
+
+        // another size is another entry
+        assertArrayEquals(ranges, cache.getRanges(TEXT, 30, null, replacer));
+        assertEquals(3, replacer.scans);
+        assertEquals(0, cache.getRanges("no emojis", 20, null, replacer).length);
+    }
+
+    @Test
+    public void evictsTheLeastRecentlyUsedTexts() {
+        final ScanningReplacer replacer = new ScanningReplacer();
+        final EmojiTextCache cache = new EmojiTextCache(400);
+        cache.getRanges(TEXT, 20, null, replacer);
+        cache.getRanges("a ❤️", 20, null, replacer);
+        cache.getRanges(TEXT, 20, null, replacer);
+        cache.getRanges("b ❤️", 20, null, replacer);
+
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(2, cache.count());
+        cache.getRanges(TEXT, 20, null, replacer);
+        assertEquals(2, cache.getHitCount());
+
+        cache.evictAll();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.count());
+    }
+}
@@ -0,0 +1,102 @@
+package com.aghajari.emojiview.utils;
+
+import android.text.Spanned;
+
+import org.junit.Test;
+
+import java.util.IdentityHashMap;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SpanStartIndexTest {
+
+    /* a text which knows the starts of its spans only */
+    private static final class StartsText implements Spanned {
+        final IdentityHashMap<Object, Integer> starts = new IdentityHashMap<>();
+
+        Object[] span(int... positions) {
+            Object[] spans = new Object[positions.length];
+            for (int i = 0; i < positions.length; i++) {
+                spans[i] = new Object();
+                starts.put(spans[i], positions[i]);
+            }
+            return spans;
+        }
+
+        @Override
+        public int getSpanStart(Object tag) {
+            Integer start = starts.get(tag);
+            return start != null ? start : -1;
+        }
+
+        @Override
+        public <T> T[] getSpans(int start, int end, Class<T> type) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int getSpanEnd(Object tag) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int getSpanFlags(Object tag) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int nextSpanTransition(int start, int limit, Class type) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int length() {
+            return 0;
+        }
+
+        @Override
+        public char charAt(int index) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Test
+    public void findsTheStartsOfUnorderedSpans() {
+        StartsText text = new StartsText();
+        SpanStartIndex index = SpanStartIndex.of(text, text.span(9, 2, 5, 5));
+
+        assertFalse(index.isEmpty());
+        assertFalse(index.containsNext(0));
+        assertTrue(index.containsNext(2));
+        assertTrue(index.containsNext(2));
+        assertFalse(index.containsNext(3));
+        assertTrue(index.containsNext(5));
+        assertTrue(index.containsNext(9));
+        assertFalse(index.containsNext(12));
+    }
+
+    @Test
+    public void skipsThePassedStarts() {
+        StartsText text = new StartsText();
+        SpanStartIndex index = SpanStartIndex.of(text, text.span(1, 4));
+
+        assertFalse(index.containsNext(6));
+        // the index only moves forward
+        assertFalse(index.containsNext(1));
+    }
+
+    @Test
+    public void containsNothingWithoutSpans() {
+        StartsText text = new StartsText();
+        SpanStartIndex index = SpanStartIndex.of(text, text.span());
+
+        assertTrue(index.isEmpty());
+        assertFalse(index.containsNext(0));
+    }
+}
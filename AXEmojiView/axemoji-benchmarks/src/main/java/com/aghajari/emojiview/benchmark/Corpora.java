@@ -0,0 +1,99 @@
+package com.aghajari.emojiview.benchmark;
+
+import com.aghajari.emojiview.emoji.EmojiUnicodeRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates the texts of the benchmarks from the emoji data, the same seed always gives the same text.
+ * Each corpus mixes words and emojis of one kind, so a benchmark shows how a path scales with the density
+ * and the length of the sequences.
+ */
+final class Corpora {
+    static final String PLAIN = "plain";
+    static final String EMOJI_HEAVY = "emojiHeavy";
+    static final String ZWJ_FAMILIES = "zwjFamilies";
+    static final String FLAGS = "flags";
+    static final String KEYCAPS = "keycaps";
+    static final String SKIN_TONES = "skinTones";
+
+    private static final String[] WORDS = {"hey", "what's", "up", "see", "you", "tomorrow", "at", "10",
+            "lol", "ok", "#1", "thanks!", "the", "meeting", "moved", "to", "3pm", "(c)", "great"};
+
+    private Corpora() {
+    }
+
+    /**
+     * @param length the length of the text, it's cut at the first message boundary after it.
+     */
+    static String create(String corpus, int length) {
+        final EmojiUnicodeRegistry registry = EmojiUnicodeRegistry.getEmojiDataRegistry();
+        final List<String> emojis = emojis(registry, corpus);
+        // emojis per word
+        final double density = PLAIN.equals(corpus) ? 0 : EMOJI_HEAVY.equals(corpus) ? 3 : 0.5;
+
+        final Random random = new Random(42);
+        final StringBuilder builder = new StringBuilder(length + 64);
+        double pending = 0;
+        while (builder.length() < length) {
+            builder.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            for (pending += density; pending >= 1; pending--) {
+                builder.append(emojis.get(random.nextInt(emojis.size())));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * @return a text of emojis only, for the emoji-only checks.
+     */
+    static String createEmojiOnly(String corpus, int length) {
+        final EmojiUnicodeRegistry registry = EmojiUnicodeRegistry.getEmojiDataRegistry();
+        final List<String> emojis = emojis(registry, PLAIN.equals(corpus) ? EMOJI_HEAVY : corpus);
+
+        final Random random = new Random(42);
+        final StringBuilder builder = new StringBuilder(length + 16);
+        while (builder.length() < length) {
+            builder.append(emojis.get(random.nextInt(emojis.size())));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * @return the unicodes of the emoji data which belong to the corpus.
+     */
+    static List<String> emojis(EmojiUnicodeRegistry registry, String corpus) {
+        final List<String> result = new ArrayList<>();
+        for (int id = 0; id < registry.size(); id++) {
+            final String unicode = registry.getUnicode(id);
+            if (belongsTo(corpus, registry, id, unicode)) {
+                result.add(unicode);
+            }
+        }
+        if (result.isEmpty()) {
+            throw new IllegalArgumentException("no emojis for corpus " + corpus);
+        }
+        return result;
+    }
+
+    private static boolean belongsTo(String corpus, EmojiUnicodeRegistry registry, int id, String unicode) {
+        switch (corpus) {
+            case PLAIN:
+            case EMOJI_HEAVY:
+                return true;
+            case ZWJ_FAMILIES:
+                return unicode.indexOf(0x200D) != -1;
+            case FLAGS:
+                return unicode.length() == 4 && unicode.charAt(0) == 0xD83C
+                        && unicode.charAt(1) >= 0xDDE6 && unicode.charAt(1) <= 0xDDFF;
+            case KEYCAPS:
+                return unicode.indexOf(0x20E3) != -1;
+            case SKIN_TONES:
+                return registry.getBaseId(id) != id;
+            default:
+                throw new IllegalArgumentException("unknown corpus " + corpus);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.aghajari.emojiview.benchmark;
+
+import com.aghajari.emojiview.emoji.EmojiData;
+import com.aghajari.emojiview.emoji.EmojiDataIndex;
+import com.aghajari.emojiview.emoji.EmojiNormalizer;
+import com.aghajari.emojiview.emoji.EmojiUnicodeRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * fixEmoji, toKey and the skin tone helpers of EmojiData, each op runs them over every emoji of the corpus
+ * (about 3000 for emojiHeavy, a few hundred for the others).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmojiNormalizeBenchmark {
+    private static final String SKIN_TONE = "🏽";
+
+    @Param({Corpora.EMOJI_HEAVY, Corpora.ZWJ_FAMILIES, Corpora.FLAGS, Corpora.KEYCAPS, Corpora.SKIN_TONES})
+    public String corpus;
+
+    private String[] emojis;
+
+    @Setup
+    public void setUp() {
+        final List<String> unicodes = Corpora.emojis(EmojiUnicodeRegistry.getEmojiDataRegistry(), corpus);
+        emojis = unicodes.toArray(new String[0]);
+        // the emojis are usually received without FE0F, that's the case fixEmoji is for
+        for (int i = 0; i < emojis.length; i++) {
+            emojis[i] = emojis[i].replace("\uFE0F", "");
+        }
+    }
+
+    @Benchmark
+    public void fixEmoji(Blackhole blackhole) {
+        for (String emoji : emojis) {
+            blackhole.consume(EmojiNormalizer.fixEmoji(emoji));
+        }
+    }
+
+    @Benchmark
+    public void toKey(Blackhole blackhole) {
+        for (String emoji : emojis) {
+            blackhole.consume(EmojiNormalizer.toKey(emoji));
+        }
+    }
+
+    @Benchmark
+    public void getBaseEmoji(Blackhole blackhole) {
+        for (String emoji : emojis) {
+            blackhole.consume(EmojiData.getBaseEmoji(emoji));
+        }
+    }
+
+    @Benchmark
+    public void getEmojiColor(Blackhole blackhole) {
+        for (String emoji : emojis) {
+            blackhole.consume(EmojiData.getEmojiColor(emoji));
+        }
+    }
+
+    @Benchmark
+    public void isColoredEmoji(Blackhole blackhole) {
+        for (String emoji : emojis) {
+            blackhole.consume(EmojiDataIndex.isColoredEmoji(emoji));
+        }
+    }
+
+    @Benchmark
+    public void addColorToCode(Blackhole blackhole) {
+        for (String emoji : emojis) {
+            blackhole.consume(EmojiData.addColorToCode(emoji, SKIN_TONE));
+        }
+    }
+}
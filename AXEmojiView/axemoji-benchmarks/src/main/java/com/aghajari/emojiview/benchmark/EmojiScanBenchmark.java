@@ -0,0 +1,126 @@
+package com.aghajari.emojiview.benchmark;
+
+import androidx.annotation.NonNull;
+
+import com.aghajari.emojiview.emoji.EmojiSequenceScanner;
+import com.aghajari.emojiview.emoji.EmojiTable;
+import com.aghajari.emojiview.emoji.EmojiTableWriter;
+import com.aghajari.emojiview.emoji.EmojiUnicodeRegistry;
+import com.aghajari.emojiview.utils.EmojiMatcher;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * The scans behind AXEmojiManager.findAllEmojis, AXEmojiUtils.isOnlyEmojis and getEmojisCount,
+ * and the sequence scan behind AXIOSEmojiLoader.replaceEmoji / replaceEmoji2 without the spans,
+ * which need Android and are left to the device.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmojiScanBenchmark {
+
+    @Param({Corpora.PLAIN, Corpora.EMOJI_HEAVY, Corpora.ZWJ_FAMILIES, Corpora.FLAGS, Corpora.KEYCAPS, Corpora.SKIN_TONES})
+    public String corpus;
+
+    @Param({"64", "1024", "16384"})
+    public int length;
+
+    private EmojiUnicodeRegistry registry;
+    private EmojiMatcher matcher;
+    private EmojiTable table;
+    private String text;
+    private String emojiOnlyText;
+    private int[] ranges;
+
+    @Setup
+    public void setUp() throws IOException {
+        registry = EmojiUnicodeRegistry.getEmojiDataRegistry();
+        matcher = registry.getMatcher();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        EmojiTableWriter.writeEmojiData(out);
+        table = EmojiTable.read(new ByteArrayInputStream(out.toByteArray()));
+        text = Corpora.create(corpus, length);
+        emojiOnlyText = Corpora.createEmojiOnly(corpus, Math.min(length, 256));
+        ranges = new int[text.length() * 3];
+    }
+
+    @Benchmark
+    public void findAllEmojis(final Blackhole blackhole) {
+        matcher.scan(text, 0, text.length(), new EmojiMatcher.Callback() {
+            @Override
+            public void onEmojiFound(int start, int end, int id) {
+                blackhole.consume(id);
+            }
+        });
+    }
+
+    @Benchmark
+    public int findAllEmojisRanges() {
+        return matcher.find(text, 0, text.length(), ranges);
+    }
+
+    @Benchmark
+    public int getEmojisCount() {
+        return registry.count(text);
+    }
+
+    @Benchmark
+    public boolean isOnlyEmojis() {
+        return registry.isOnlyEmojis(emojiOnlyText);
+    }
+
+    @Benchmark
+    public boolean isOnlyEmojisMixed() {
+        return registry.isOnlyEmojis(text);
+    }
+
+    @Benchmark
+    public int[] replaceEmojiScan(final Blackhole blackhole) {
+        final int[] emojiOnly = new int[1];
+        EmojiSequenceScanner.scan(text, 0, text.length(), emojiOnly, new EmojiSequenceScanner.Callback() {
+            @Override
+            public boolean onSequenceFound(int start, int end, @NonNull CharSequence code) {
+                // the loader looks the drawable up by a String of the code
+                blackhole.consume(code.toString());
+                return true;
+            }
+        });
+        return emojiOnly;
+    }
+
+    @Benchmark
+    public int[] replaceEmojiSlots(final Blackhole blackhole) {
+        final int[] emojiOnly = new int[1];
+        // the loader resolves the sequences by their slot in the emoji table
+        EmojiSequenceScanner.scan(text, 0, text.length(), emojiOnly, table, new EmojiSequenceScanner.SlotCallback() {
+            @Override
+            public boolean onEmojiFound(int start, int end, int slot) {
+                blackhole.consume(slot);
+                return true;
+            }
+        });
+        return emojiOnly;
+    }
+
+    @Benchmark
+    public int findAllSlots() {
+        return EmojiSequenceScanner.findAll(text, 0, text.length(), table, ranges);
+    }
+}
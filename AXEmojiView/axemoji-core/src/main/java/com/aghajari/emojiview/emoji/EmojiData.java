@@ -0,0 +1,146 @@
+package com.aghajari.emojiview.emoji;
+
+import java.util.HashMap;
+import java.util.HashSet;
+
+/**
+ * The emoji data as public arrays and maps, kept for compatibility.
+ * The library uses {@link EmojiDataTable} and {@link EmojiDataIndex}, which don't create anything before it's needed,
+ * so the deprecated tables of this class are only created when an app uses EmojiData.
+ */
+public class EmojiData {
+
+    /**
+     * @deprecated creates a String of every emoji of the table when EmojiData is first used,
+     * use {@link EmojiDataTable#getReleaseData()}.
+     */
+    @Deprecated
+    public static final String[][] releaseData = EmojiDataTable.getReleaseData().toArrays();
+
+    public static final char[] emojiToFE0F = EmojiDataIndex.FE0F.chars;
+
+        public static final char[] dataChars = EmojiDataIndex.DataChars.chars;
+
+        public static final String[] emojiSecret = {
+                "😉","😍","😛","😭","😱","😡","😎","😴","😵","😈","😬","😇","😏","👮","👷","💂","👶","👨","👩","👴","👵","😻","😽","🙀","👺","🙈","🙉","🙊","💀","👽","💩","🔥","💥",
+                "💤","👂","👀","👃","👅","👄","👍","👎","👌","👊","✌","✋","👐","👆","👇","👉","👈","🙏","👏","💪","🚶","🏃","💃","👫","👪","👬","👭","💅","🎩","👑","👒","👟","👞",
+                "👠","👕","👗","👖","👙","👜","👓","🎀","💄","💛","💙","💜","💚","💍","💎","🐶","🐺","🐱","🐭","🐹","🐰","🐸","🐯","🐨","🐻","🐷","🐮","🐗","🐴","🐑","🐘","🐼","🐧",
+                "🐥","🐔","🐍","🐢","🐛","🐝","🐜","🐞","🐌","🐙","🐚","🐟","🐬","🐋","🐐","🐊","🐫","🍀","🌹","🌻","🍁","🌾","🍄","🌵","🌴","🌳","🌞","🌚","🌙","🌎","🌋","⚡","☔","❄",
+                "⛄","🌀","🌈","🌊","🎓","🎆","🎃","👻","🎅","🎄","🎁","🎈","🔮","🎥","📷","💿","💻","☎","📡","📺","📻","🔉","🔔","⏳","⏰","⌚","🔒","🔑","🔎","💡","🔦","🔌","🔋","🚿",
+                "🚽","🔧","🔨","🚪","🚬","💣","🔫","🔪","💊","💉","💰","💵","💳","✉","📫","📦","📅","📁","✂","📌","📎","✒","✏","📐","📚","🔬","🔭","🎨","🎬","🎤","🎧","🎵","🎹","🎻","🎺",
+                "🎸","👾","🎮","🃏","🎲","🎯","🏈","🏀","⚽","⚾","🎾","🎱","🏉","🎳","🏁","🏇","🏆","🏊","🏄","☕","🍼","🍺","🍷","🍴","🍕","🍔","🍟","🍗","🍱","🍚","🍜","🍡","🍳","🍞","🍩",
+                "🍦","🎂","🍰","🍪","🍫","🍭","🍯","🍎","🍏","🍊","🍋","🍒","🍇","🍉","🍓","🍑","🍌","🍐","🍍","🍆","🍅","🌽","🏡","🏥","🏦","⛪","🏰","⛺","🏭","🗻","🗽","🎠","🎡","⛲","🎢",
+                "🚢","🚤","⚓","🚀","✈","🚁","🚂","🚋","🚎","🚌","🚙","🚗","🚕","🚛","🚨","🚔","🚒","🚑","🚲","🚠","🚜","🚦","⚠","🚧","⛽","🎰","🗿","🎪","🎭","🇯🇵","🇰🇷","🇩🇪","🇨🇳","🇺🇸","🇫🇷","🇪🇸",
+                "🇮🇹","🇷🇺","🇬🇧","1⃣","2⃣","3⃣","4⃣","5⃣","6⃣","7⃣","8⃣","9⃣","0⃣","🔟","❗","❓","♥","♦","💯","🔗","🔱","🔴","🔵","🔶","🔷"
+        };
+
+        public static final String[] emojiColored = EmojiDataIndex.Colored.emojis;
+
+        public static final String[] emojiBigColored = EmojiDataIndex.BigColored.emojis;
+
+        /**
+         * @deprecated creates a String of every emoji of the table when EmojiData is first used,
+         * use {@link EmojiDataTable#getDataColored()}.
+         */
+        @Deprecated
+        public static final String[][] dataColored = EmojiDataTable.getDataColored().toArrays();
+
+        public static final String[] aliasOld = EmojiDataIndex.Alias.oldCodes;
+
+        public static final String[] aliasNew = EmojiDataIndex.Alias.newCodes;
+
+        /**
+         * @deprecated creates a String of every emoji of the table when EmojiData is first used,
+         * use {@link EmojiDataTable#getData()}.
+         */
+        @Deprecated
+        public static final String[][] data = EmojiDataTable.getData().toArrays();
+
+
+
+        /**
+         * @deprecated the maps are shared and mutable, use {@link EmojiDataIndex#needsFE0F(char)}
+         * or the read-only {@link EmojiDataIndex#getEmojiToFE0FMap()}.
+         */
+        @Deprecated
+        public static final HashMap<Character, Boolean> emojiToFE0FMap = EmojiDataIndex.FE0FMap.map;
+        /**
+         * @deprecated use {@link EmojiDataIndex#isDataChar(char)} or {@link EmojiDataIndex#getDataCharsMap()}.
+         */
+        @Deprecated
+        public static final HashMap<Character, Boolean> dataCharsMap = EmojiDataIndex.DataCharsMap.map;
+        /**
+         * @deprecated use {@link EmojiDataIndex#isColoredEmoji(String)} or {@link EmojiDataIndex#getEmojiColoredMap()}.
+         */
+        @Deprecated
+        public static final HashSet<String> emojiColoredMap = EmojiDataIndex.Colored.set;
+        /**
+         * @deprecated use {@link EmojiDataIndex#isBigColoredEmoji(String)} or {@link EmojiDataIndex#getEmojiBigColoredMap()}.
+         */
+        @Deprecated
+        public static final HashSet<String> emojiBigColoredMap = EmojiDataIndex.BigColored.set;
+        /**
+         * @deprecated use {@link EmojiDataIndex#getAlias(CharSequence)} or {@link EmojiDataIndex#getEmojiAliasMap()}.
+         */
+        @Deprecated
+        public static final HashMap<CharSequence, CharSequence> emojiAliasMap = EmojiDataIndex.Alias.map;
+
+        /**
+         * @return true if the emoji data has the char followed by FE0F, see {@link EmojiDataIndex#needsFE0F(char)}.
+         */
+        public static boolean needsFE0F(char c) {
+            return EmojiDataIndex.needsFE0F(c);
+        }
+
+        /**
+         * @return true if the char is an emoji by itself, see {@link EmojiDataIndex#isDataChar(char)}.
+         */
+        public static boolean isDataChar(char c) {
+            return EmojiDataIndex.isDataChar(c);
+        }
+
+        public static boolean isHeartEmoji(String emoji) {
+            return "❤".equals(emoji) || "🧡".equals(emoji) || "💛".equals(emoji) || "💚".equals(emoji) || "💙".equals(emoji) || "💜".equals(emoji) || "🖤".equals(emoji) || "🤍".equals(emoji) || "🤎".equals(emoji);
+        }
+
+        public static boolean isPeachEmoji(String emoji) {
+            return "\uD83C\uDF51".equals(emoji);
+        }
+
+        /**
+         * @see EmojiDataTable#getCategoryTitle(int)
+         */
+        public static final String[] titles = getTitles();
+
+        private static String[] getTitles() {
+            final String[] titles = new String[EmojiDataTable.getData().getCategoryCount()];
+            for (int i = 0; i < titles.length; i++) {
+                titles[i] = EmojiDataTable.getCategoryTitle(i);
+            }
+            return titles;
+        }
+
+        /**
+         * @return the skin tone of the emoji, the lightest one if it has several, or null.
+         */
+        public static String getEmojiColor (String code){
+            final int skinTone = EmojiNormalizer.getSkinToneIndex(code);
+            return skinTone < 0 ? null : EmojiNormalizer.SKIN_TONES[skinTone];
+        }
+
+        /**
+         * @return the emoji without its skin tones, the same String if it has none.
+         */
+        public static String getBaseEmoji (String code){
+            return EmojiNormalizer.removeSkinTones(code);
+        }
+
+        public static boolean isColoredEmoji (String code){
+            return EmojiDataIndex.isColoredEmoji(code);
+        }
+
+        public static String addColorToCode(String code, String color) {
+            return EmojiNormalizer.setSkinTone(code, color);
+        }
+
+}
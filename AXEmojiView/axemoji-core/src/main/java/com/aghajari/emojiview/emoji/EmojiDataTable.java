@@ -0,0 +1,228 @@
+package com.aghajari.emojiview.emoji;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * An emoji table of the emoji data by categories, {@link #getData()}, {@link #getReleaseData()} or {@link #getDataColored()}.
+ *
+ * The chars of every emoji are kept once in the blob which is generated at build time from
+ * {@code src/main/emoji/emoji_data.txt}, a table only keeps the offset and the length of its emojis.
+ * A String is created when {@link #get(int, int)} is called, each table is created on its first use.
+ */
+public final class EmojiDataTable {
+    private static final String[] TITLES = {
+            "Smileys and people",
+            "Animals and nature",
+            "Food and drink",
+            "Activity",
+            "Travel and places",
+            "Objects",
+            "Symbols",
+            "Flags"
+    };
+
+    private static final class Blob {
+        static final String chars;
+        /* the offset in chars of each emoji of the blob */
+        static final int[] starts;
+
+        static {
+            if (EmojiDataBlob.CHARS.length == 1) {
+                chars = EmojiDataBlob.CHARS[0];
+            } else {
+                final StringBuilder builder = new StringBuilder();
+                for (String part : EmojiDataBlob.CHARS) builder.append(part);
+                chars = builder.toString();
+            }
+            final String lengths = EmojiDataBlob.LENGTHS;
+            starts = new int[lengths.length()];
+            for (int i = 1; i < starts.length; i++) {
+                starts[i] = starts[i - 1] + lengths.charAt(i - 1);
+            }
+        }
+    }
+
+    private static final class Data {
+        static final EmojiDataTable table = new EmojiDataTable(EmojiDataBlob.DATA);
+    }
+
+    private static final class ReleaseData {
+        static final EmojiDataTable table = new EmojiDataTable(EmojiDataBlob.RELEASE_DATA);
+    }
+
+    private static final class DataColored {
+        static final EmojiDataTable table = new EmojiDataTable(EmojiDataBlob.DATA_COLORED);
+    }
+
+    private final EmojiStringPool items;
+    /* the index of the first item of each category, and the size */
+    private final int[] categoryStarts;
+    /* open addressing table of the item indexes + 1 by hash, 0 is an empty slot. Built on the first indexOf */
+    private volatile int[] hashTable;
+
+    private EmojiDataTable(int table) {
+        final String sizes = EmojiDataBlob.CATEGORY_SIZES[table];
+        categoryStarts = new int[sizes.length() + 1];
+        for (int c = 0; c < sizes.length(); c++) {
+            categoryStarts[c + 1] = categoryStarts[c] + sizes.charAt(c);
+        }
+
+        final String blobIndexes = EmojiDataBlob.ITEMS[table];
+        final int[] starts = new int[blobIndexes.length()];
+        final char[] lengths = new char[starts.length];
+        for (int i = 0; i < starts.length; i++) {
+            final char index = blobIndexes.charAt(i);
+            starts[i] = Blob.starts[index];
+            lengths[i] = EmojiDataBlob.LENGTHS.charAt(index);
+        }
+        items = new EmojiStringPool(Blob.chars, starts, lengths);
+    }
+
+    /**
+     * @return every emoji which the iOS provider can draw, the category and the index of an emoji are
+     * its page and its index in the atlas. Has the skin tone variants too.
+     */
+    @NonNull
+    public static EmojiDataTable getData() {
+        return Data.table;
+    }
+
+    /**
+     * @return the emojis of the categories of the iOS provider, without the skin tone variants.
+     */
+    @NonNull
+    public static EmojiDataTable getReleaseData() {
+        return ReleaseData.table;
+    }
+
+    @NonNull
+    public static EmojiDataTable getDataColored() {
+        return DataColored.table;
+    }
+
+    /**
+     * @return the title of the category, the categories of the tables are the same.
+     */
+    @NonNull
+    public static String getCategoryTitle(int category) {
+        return TITLES[category];
+    }
+
+    public int getCategoryCount() {
+        return categoryStarts.length - 1;
+    }
+
+    /**
+     * @return the number of the emojis of the category.
+     */
+    public int size(int category) {
+        return categoryStarts[category + 1] - categoryStarts[category];
+    }
+
+    /**
+     * @return a new String of the emoji.
+     */
+    @NonNull
+    public String get(int category, int index) {
+        return items.get(getItemIndex(category, index));
+    }
+
+    /**
+     * @return the index in {@link #getItems()} of the emoji.
+     */
+    public int getItemIndex(int category, int index) {
+        if (index < 0 || index >= size(category)) throw new IndexOutOfBoundsException("index " + index);
+        return categoryStarts[category] + index;
+    }
+
+    /**
+     * @return the category of the item, see {@link #getItemIndex(int, int)}.
+     */
+    public int getCategory(int itemIndex) {
+        if (itemIndex < 0 || itemIndex >= items.size()) throw new IndexOutOfBoundsException("item " + itemIndex);
+        final int found = Arrays.binarySearch(categoryStarts, itemIndex);
+        if (found < 0) return -found - 2;
+        // skip the empty categories which start at the same item
+        int category = found;
+        while (categoryStarts[category + 1] == itemIndex) category++;
+        return category;
+    }
+
+    /**
+     * @return the emojis of every category one after another, they share the chars of the blob.
+     */
+    @NonNull
+    public EmojiStringPool getItems() {
+        return items;
+    }
+
+    /**
+     * @return the index in {@link #getItems()} of the emoji which is equal to the text, or -1.
+     * Doesn't allocate anything but the hash table of the first call.
+     */
+    public int indexOf(@NonNull CharSequence text) {
+        final int[] table = getHashTable();
+        final int mask = table.length - 1;
+        for (int slot = hash(text) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            final int item = table[slot] - 1;
+            if (items.contentEquals(item, text)) return item;
+        }
+        return -1;
+    }
+
+    private int[] getHashTable() {
+        int[] table = hashTable;
+        if (table == null) {
+            final int size = items.size();
+            table = new int[Integer.highestOneBit(Math.max(1, size)) * 4];
+            final int mask = table.length - 1;
+            for (int i = 0; i < size; i++) {
+                int hash = 0;
+                for (int c = 0; c < items.length(i); c++) {
+                    hash = 31 * hash + items.charAt(i, c);
+                }
+                int slot = mix(hash) & mask;
+                while (table[slot] != 0) slot = (slot + 1) & mask;
+                table[slot] = i + 1;
+            }
+            hashTable = table;
+        }
+        return table;
+    }
+
+    /* the same hash as String.hashCode(), mixed */
+    private static int hash(CharSequence text) {
+        int hash = 0;
+        for (int i = 0; i < text.length(); i++) {
+            hash = 31 * hash + text.charAt(i);
+        }
+        return mix(hash);
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * @return a new array of Strings of each category.
+     */
+    @NonNull
+    public String[][] toArrays() {
+        final String[][] arrays = new String[getCategoryCount()][];
+        for (int c = 0; c < arrays.length; c++) {
+            arrays[c] = new String[size(c)];
+            for (int i = 0; i < arrays[c].length; i++) {
+                arrays[c][i] = get(c, i);
+            }
+        }
+        return arrays;
+    }
+
+    @Override
+    public String toString() {
+        return "EmojiDataTable[categories=" + getCategoryCount() + ",emojis=" + items.size()
+                + ",sizes=" + Arrays.toString(Arrays.copyOfRange(categoryStarts, 1, categoryStarts.length)) + "]";
+    }
+}
@@ -0,0 +1,146 @@
+package com.aghajari.emojiview.emoji;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Turns the emojis typed or received in any form into the form of the emoji data,
+ * so they can be looked up with a single key.
+ *
+ * Everything here is a single pass over the chars, a String is only created when the result differs from the input.
+ */
+public final class EmojiNormalizer {
+    private static final char VARIATION_SELECTOR_15 = 0xFE0E;
+    private static final char VARIATION_SELECTOR_16 = 0xFE0F;
+    private static final char ZWJ = 0x200D;
+
+    /**
+     * The skin tone modifiers, from the lightest to the darkest.
+     */
+    public static final String[] SKIN_TONES = {"\uD83C\uDFFB", "\uD83C\uDFFC", "\uD83C\uDFFD", "\uD83C\uDFFE", "\uD83C\uDFFF"};
+
+    private EmojiNormalizer() {
+    }
+
+    /**
+     * @return the key of the emoji in the emoji data, the emoji itself if it has no variation selectors.
+     */
+    @NonNull
+    public static CharSequence toKey(@NonNull CharSequence emoji) {
+        final int length = emoji.length();
+        for (int i = 0; i < length; i++) {
+            final char c = emoji.charAt(i);
+            if (c == VARIATION_SELECTOR_16 || c == VARIATION_SELECTOR_15) {
+                final StringBuilder key = new StringBuilder(length - 1).append(emoji, 0, i);
+                for (i++; i < length; i++) {
+                    final char next = emoji.charAt(i);
+                    if (next != VARIATION_SELECTOR_16 && next != VARIATION_SELECTOR_15) key.append(next);
+                }
+                return key.toString();
+            }
+        }
+        return emoji;
+    }
+
+    /**
+     * @return the index of the lightest skin tone of the emoji in {@link #SKIN_TONES}, or -1.
+     */
+    public static int getSkinToneIndex(@NonNull CharSequence emoji) {
+        int skinTone = -1;
+        final int last = emoji.length() - 1;
+        for (int i = 0; i < last; i++) {
+            final int tone = getSkinToneIndex(emoji, i);
+            if (tone >= 0) {
+                if (skinTone < 0 || tone < skinTone) skinTone = tone;
+                i++;
+            }
+        }
+        return skinTone;
+    }
+
+    /**
+     * @return the emoji without its skin tones, the emoji itself if it has none.
+     */
+    @NonNull
+    public static String removeSkinTones(@NonNull String emoji) {
+        final int length = emoji.length();
+        StringBuilder base = null;
+        int copied = 0;
+        for (int i = 0; i < length - 1; i++) {
+            if (getSkinToneIndex(emoji, i) >= 0) {
+                if (base == null) base = new StringBuilder(length - 2);
+                base.append(emoji, copied, i);
+                copied = i + 2;
+                i++;
+            }
+        }
+        if (base == null) return emoji;
+        return base.append(emoji, copied, length).toString();
+    }
+
+    /**
+     * @return the emoji with the skin tone, the old skin tones are removed.
+     * The skin tone goes before the trailing gender or profession of a ZWJ sequence.
+     */
+    @NonNull
+    public static String setSkinTone(@NonNull String emoji, @NonNull String skinTone) {
+        final String base = removeSkinTones(emoji);
+        final int length = base.length();
+        int end = length;
+        if (length > 2 && base.charAt(length - 2) == ZWJ) {
+            end = length - 2;
+        } else if (length > 3 && base.charAt(length - 3) == ZWJ) {
+            end = length - 3;
+        }
+        return new StringBuilder(length + skinTone.length())
+                .append(base, 0, end)
+                .append(skinTone)
+                .append(base, end, length)
+                .toString();
+    }
+
+    /**
+     * Adds the FE0F variation selector after the emojis which have it in the emoji data
+     * but are often sent without it. Keycaps are returned as they are.
+     */
+    @NonNull
+    public static String fixEmoji(@NonNull String emoji) {
+        final int length = emoji.length();
+        StringBuilder fixed = null;
+        int copied = 0;
+        int insert;
+        for (int a = 0; a < length; a++) {
+            char ch = emoji.charAt(a);
+            insert = -1;
+            if (ch >= 0xD83C && ch <= 0xD83E) {
+                if (ch == 0xD83C && a < length - 1) {
+                    ch = emoji.charAt(a + 1);
+                    if (ch == 0xDE2F || ch == 0xDC04 || ch == 0xDE1A || ch == 0xDD7F) {
+                        insert = a + 2;
+                    }
+                }
+                a++;
+            } else if (ch == 0x20E3) {
+                break;
+            } else if (ch >= 0x203C && ch <= 0x3299 && EmojiDataIndex.needsFE0F(ch)) {
+                insert = a + 1;
+            }
+
+            if (insert >= 0 && (insert == length || emoji.charAt(insert) != VARIATION_SELECTOR_16)) {
+                if (fixed == null) fixed = new StringBuilder(length + 4);
+                fixed.append(emoji, copied, insert).append(VARIATION_SELECTOR_16);
+                copied = insert;
+            }
+        }
+        if (fixed == null) return emoji;
+        return fixed.append(emoji, copied, length).toString();
+    }
+
+    /**
+     * @return the index of the skin tone which starts at i in {@link #SKIN_TONES}, or -1. i + 1 must be in the emoji.
+     */
+    private static int getSkinToneIndex(CharSequence emoji, int i) {
+        if (emoji.charAt(i) != 0xD83C) return -1;
+        final char low = emoji.charAt(i + 1);
+        return low >= 0xDFFB && low <= 0xDFFF ? low - 0xDFFB : -1;
+    }
+}
@@ -0,0 +1,266 @@
+package com.aghajari.emojiview.emoji;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * The char state machine of the iOS provider: walks the text once and reports each emoji sequence
+ * (surrogate pairs, flags, keycaps, ZWJ sequences, skin tones, tag sequences and the BMP emojis of the emoji data)
+ * with its range in the text and its code without the variation selectors.
+ *
+ * It only reads the text, what to do with a sequence (a span, a count, a validation) is up to the callback.
+ * With an {@link EmojiTable} the sequences are reported by their slot, so counting or collecting ranges
+ * doesn't allocate anything per emoji.
+ */
+public final class EmojiSequenceScanner {
+
+    /* the scanner of each thread, reused by every scan which isn't nested in the callback of another one */
+    private static final ThreadLocal<Scanner> scanners = new ThreadLocal<>();
+
+    private EmojiSequenceScanner() {
+    }
+
+    public interface Callback {
+        /**
+         * @param code the emoji without its variation selectors, it's reused once this returns.
+         * @return false to stop scanning.
+         */
+        boolean onSequenceFound(int start, int end, @NonNull CharSequence code);
+    }
+
+    public interface SlotCallback {
+        /**
+         * @param slot the slot of the emoji in the table.
+         * @return false to stop scanning.
+         */
+        boolean onEmojiFound(int start, int end, int slot);
+    }
+
+    /**
+     * Same as {@link #scan(CharSequence, int, int, int[], Callback)}, but only reports the sequences
+     * the table has, by their slot.
+     */
+    public static void scan(@NonNull CharSequence cs, int start, int end, @Nullable int[] emojiOnly,
+                            @NonNull EmojiTable table, @NonNull SlotCallback callback) {
+        final Scanner scanner = obtain();
+        try {
+            scanner.table = table;
+            scanner.slotCallback = callback;
+            scan(cs, start, end, emojiOnly, scanner.emojiCode, scanner);
+        } finally {
+            release(scanner);
+        }
+    }
+
+    /**
+     * Fills the ranges with (start, end, slot) triples of the emojis of the table found between start and end.
+     * Like {@link com.aghajari.emojiview.utils.EmojiMatcher#find(CharSequence, int, int, int[])},
+     * only the first {@code ranges.length / 3} emojis are written, but all of them are counted.
+     *
+     * @return the number of emojis found.
+     */
+    public static int findAll(@NonNull CharSequence cs, int start, int end, @NonNull EmojiTable table, @NonNull int[] ranges) {
+        final Scanner scanner = obtain();
+        try {
+            scanner.table = table;
+            scanner.ranges = ranges;
+            scan(cs, start, end, null, scanner.emojiCode, scanner);
+            return scanner.count;
+        } finally {
+            release(scanner);
+        }
+    }
+
+    /**
+     * Scans the text between start and end, start and end must be on emoji sequence boundaries.
+     *
+     * @param emojiOnly null, or a single-int array which gets the number of emojis,
+     *                  it's set to 0 if the text has anything but emojis and variation selectors.
+     */
+    public static void scan(@NonNull CharSequence cs, int start, int end, @Nullable int[] emojiOnly, @NonNull Callback callback) {
+        final Scanner scanner = obtain();
+        try {
+            scan(cs, start, end, emojiOnly, scanner.emojiCode, callback);
+        } finally {
+            release(scanner);
+        }
+    }
+
+    private static void scan(CharSequence cs, int start, int end, int[] emojiOnly, StringBuilder emojiCode, Callback callback) {
+        long buf = 0;
+        char c;
+        int startIndex = -1;
+        int startLength = 0;
+        int previousGoodIndex = start;
+        emojiCode.setLength(0);
+        int length = end;
+        boolean doneEmoji = false;
+
+        for (int i = start; i < length; i++) {
+            c = cs.charAt(i);
+            if (c >= 0xD83C && c <= 0xD83E || (buf != 0 && (buf & 0xFFFFFFFF00000000L) == 0 && (buf & 0xFFFF) == 0xD83C && (c >= 0xDDE6 && c <= 0xDDFF))) {
+                if (startIndex == -1) {
+                    startIndex = i;
+                }
+                emojiCode.append(c);
+                startLength++;
+                buf <<= 16;
+                buf |= c;
+            } else if (emojiCode.length() > 0 && (c == 0x2640 || c == 0x2642 || c == 0x2695)) {
+                emojiCode.append(c);
+                startLength++;
+                buf = 0;
+                doneEmoji = true;
+            } else if (buf > 0 && (c & 0xF000) == 0xD000) {
+                emojiCode.append(c);
+                startLength++;
+                buf = 0;
+                doneEmoji = true;
+            } else if (c == 0x20E3) {
+                if (i > start) {
+                    char c2 = cs.charAt(previousGoodIndex);
+                    if ((c2 >= '0' && c2 <= '9') || c2 == '#' || c2 == '*') {
+                        startIndex = previousGoodIndex;
+                        startLength = i - previousGoodIndex + 1;
+                        emojiCode.append(c2);
+                        emojiCode.append(c);
+                        doneEmoji = true;
+                    }
+                }
+            } else if ((c == 0x00A9 || c == 0x00AE || c >= 0x203C && c <= 0x3299) && EmojiDataIndex.isDataChar(c)) {
+                if (startIndex == -1) {
+                    startIndex = i;
+                }
+                startLength++;
+                emojiCode.append(c);
+                doneEmoji = true;
+            } else if (startIndex != -1) {
+                emojiCode.setLength(0);
+                startIndex = -1;
+                startLength = 0;
+                doneEmoji = false;
+            } else if (c != 0xFE0F) {
+                if (emojiOnly != null) {
+                    emojiOnly[0] = 0;
+                    emojiOnly = null;
+                }
+            }
+            if (doneEmoji && i + 2 < length) {
+                char next = cs.charAt(i + 1);
+                if (next == 0xD83C) {
+                    next = cs.charAt(i + 2);
+                    if (next >= 0xDFFB && next <= 0xDFFF) {
+                        emojiCode.append(cs, i + 1, i + 3);
+                        startLength += 2;
+                        i += 2;
+                    }
+                } else if (emojiCode.length() >= 2 && emojiCode.charAt(0) == 0xD83C && emojiCode.charAt(1) == 0xDFF4 && next == 0xDB40) {
+                    i++;
+                    while (true) {
+                        emojiCode.append(cs, i, i + 2);
+                        startLength += 2;
+                        i += 2;
+                        if (i >= length || cs.charAt(i) != 0xDB40) {
+                            i--;
+                            break;
+                        }
+                    }
+                }
+            }
+            previousGoodIndex = i;
+            char prevCh = c;
+            for (int a = 0; a < 3; a++) {
+                if (i + 1 < length) {
+                    c = cs.charAt(i + 1);
+                    if (a == 1) {
+                        if (c == 0x200D && emojiCode.length() > 0) {
+                            emojiCode.append(c);
+                            i++;
+                            startLength++;
+                            doneEmoji = false;
+                        }
+                    } else if (startIndex != -1 || prevCh == '*' || prevCh >= '1' && prevCh <= '9') {
+                        if (c >= 0xFE00 && c <= 0xFE0F) {
+                            i++;
+                            startLength++;
+                        }
+                    }
+                }
+            }
+            if (doneEmoji && i + 2 < length && cs.charAt(i + 1) == 0xD83C) {
+                char next = cs.charAt(i + 2);
+                if (next >= 0xDFFB && next <= 0xDFFF) {
+                    emojiCode.append(cs, i + 1, i + 3);
+                    startLength += 2;
+                    i += 2;
+                }
+            }
+            if (doneEmoji) {
+                if (emojiOnly != null) {
+                    emojiOnly[0]++;
+                }
+                boolean next = callback.onSequenceFound(startIndex, startIndex + startLength, emojiCode);
+                startLength = 0;
+                startIndex = -1;
+                emojiCode.setLength(0);
+                doneEmoji = false;
+                if (!next) {
+                    return;
+                }
+            }
+        }
+        if (emojiOnly != null && emojiCode.length() != 0) {
+            emojiOnly[0] = 0;
+        }
+    }
+
+    private static Scanner obtain() {
+        Scanner scanner = scanners.get();
+        if (scanner == null) {
+            scanner = new Scanner();
+            scanners.set(scanner);
+        }
+        // a callback which scans another text gets its own scanner
+        if (scanner.busy) return new Scanner();
+        scanner.busy = true;
+        return scanner;
+    }
+
+    private static void release(Scanner scanner) {
+        scanner.table = null;
+        scanner.slotCallback = null;
+        scanner.ranges = null;
+        scanner.count = 0;
+        scanner.busy = false;
+    }
+
+    /**
+     * The state of a scan: the code of the current sequence, and the table and what to do with its slots
+     * for {@link #scan(CharSequence, int, int, int[], EmojiTable, SlotCallback)} and {@link #findAll}.
+     */
+    private static final class Scanner implements Callback {
+        final StringBuilder emojiCode = new StringBuilder(16);
+        boolean busy;
+        EmojiTable table;
+        /* null for findAll, which fills the ranges instead */
+        SlotCallback slotCallback;
+        int[] ranges;
+        int count;
+
+        @Override
+        public boolean onSequenceFound(int start, int end, @NonNull CharSequence code) {
+            final int slot = table.getSlot(code);
+            if (slot < 0) return true;
+            if (slotCallback != null) return slotCallback.onEmojiFound(start, end, slot);
+
+            final int index = count * 3;
+            if (index + 2 < ranges.length) {
+                ranges[index] = start;
+                ranges[index + 1] = end;
+                ranges[index + 2] = slot;
+            }
+            count++;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.aghajari.emojiview.emoji;
+
+import androidx.annotation.NonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list of short strings stored in one shared String with an offset table, instead of a String per item.
+ * Equal strings are interned: they're stored once and share their chars.
+ * A String is only created when {@link #get(int)} is called, comparisons and char reads work on the chars directly.
+ * The tables of {@link EmojiDataTable} are pools of the generated blob of the emoji data.
+ */
+public final class EmojiStringPool {
+    private final String chars;
+    /* the chars of item i are [starts[i], starts[i] + lengths[i]) */
+    private final int[] starts;
+    private final char[] lengths;
+
+    EmojiStringPool(String chars, int[] starts, char[] lengths) {
+        this.chars = chars;
+        this.starts = starts;
+        this.lengths = lengths;
+    }
+
+    /**
+     * @return the number of the items, including the duplicates.
+     */
+    public int size() {
+        return starts.length;
+    }
+
+    public int length(int index) {
+        return lengths[index];
+    }
+
+    public char charAt(int index, int offset) {
+        return chars.charAt(starts[index] + offset);
+    }
+
+    /**
+     * @return a new String of the item.
+     */
+    @NonNull
+    public String get(int index) {
+        final int start = starts[index];
+        return chars.substring(start, start + lengths[index]);
+    }
+
+    /**
+     * @return true if the item has the same chars as the text, without creating a String.
+     */
+    public boolean contentEquals(int index, @NonNull CharSequence text) {
+        final int length = lengths[index];
+        if (text.length() != length) return false;
+        final int start = starts[index];
+        for (int i = 0; i < length; i++) {
+            if (chars.charAt(start + i) != text.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Appends the item to the builder, without creating a String.
+     */
+    public void appendTo(int index, @NonNull StringBuilder builder) {
+        final int start = starts[index];
+        builder.append(chars, start, start + lengths[index]);
+    }
+
+    /**
+     * @return a pool of the given items, in the given order, which shares the chars of this pool.
+     */
+    @NonNull
+    EmojiStringPool select(@NonNull int[] indexes) {
+        final int[] selectedStarts = new int[indexes.length];
+        final char[] selectedLengths = new char[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            selectedStarts[i] = starts[indexes[i]];
+            selectedLengths[i] = lengths[indexes[i]];
+        }
+        return new EmojiStringPool(chars, selectedStarts, selectedLengths);
+    }
+
+    /**
+     * @return a read-only view of the items, each {@link List#get(int)} creates a String.
+     */
+    @NonNull
+    public List<String> asList() {
+        return new StringList(this);
+    }
+
+    /**
+     * @return the number of the chars stored, the duplicates share theirs.
+     */
+    public int getCharCount() {
+        return chars.length();
+    }
+
+    public static final class Builder {
+        private final HashMap<String, Integer> interned = new HashMap<>();
+        private char[] chars;
+        private int charCount;
+        private int[] starts;
+        private char[] lengths;
+        private int size;
+
+        public Builder(int guessedSize) {
+            chars = new char[Math.max(16, guessedSize * 4)];
+            starts = new int[Math.max(4, guessedSize)];
+            lengths = new char[starts.length];
+        }
+
+        /**
+         * Adds the string, equal strings share their chars.
+         *
+         * @return the index of the item.
+         */
+        public int add(@NonNull String value) {
+            if (value.length() > Character.MAX_VALUE) {
+                throw new IllegalArgumentException("too long: " + value.length());
+            }
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                lengths = Arrays.copyOf(lengths, size * 2);
+            }
+
+            final Integer existing = interned.get(value);
+            final int start;
+            if (existing != null) {
+                start = starts[existing];
+            } else {
+                if (charCount + value.length() > chars.length) {
+                    chars = Arrays.copyOf(chars, Math.max(chars.length * 2, charCount + value.length()));
+                }
+                value.getChars(0, value.length(), chars, charCount);
+                start = charCount;
+                charCount += value.length();
+                interned.put(value, size);
+            }
+
+            starts[size] = start;
+            lengths[size] = (char) value.length();
+            return size++;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        @NonNull
+        public EmojiStringPool build() {
+            return new EmojiStringPool(new String(chars, 0, charCount),
+                    Arrays.copyOf(starts, size), Arrays.copyOf(lengths, size));
+        }
+    }
+
+    private static final class StringList extends AbstractList<String> implements RandomAccess {
+        private final EmojiStringPool pool;
+
+        StringList(EmojiStringPool pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public String get(int index) {
+            return pool.get(index);
+        }
+
+        @Override
+        public int size() {
+            return pool.size();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.aghajari.emojiview.emoji;
+
+import androidx.annotation.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Read-only minimal perfect hash table from emoji unicodes to int values, generated at build time by
+ * {@link EmojiTableWriter}. It's used straight from the bytes of the file: loading is a single read,
+ * and a lookup hashes the key twice and compares it with the stored one, without allocating anything.
+ *
+ * Format (big endian):
+ * <pre>
+ * int   MAGIC
+ * short VERSION
+ * int   size (keys and slots)
+ * int   buckets
+ * int   charsLength
+ * int[buckets]  seed of each bucket
+ * int[size]     value of each slot
+ * int[size + 1] start of the key of each slot in chars
+ * char[charsLength] chars
+ * </pre>
+ * A key is in bucket {@code hash(key, 0) % buckets} and in slot {@code hash(key, seed of its bucket) % size}.
+ */
+public final class EmojiTable {
+    public static final int MAGIC = 0x41584554; // "AXET"
+    public static final short VERSION = 1;
+    public static final int NO_VALUE = -1;
+
+    private static final int HEADER_SIZE = 4 + 2 + 4 + 4 + 4;
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int buckets;
+    private final int seedsOffset;
+    private final int valuesOffset;
+    private final int keysOffset;
+    private final int charsOffset;
+
+    private EmojiTable(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getShort(4) != VERSION) {
+            throw new IOException("Unsupported emoji table");
+        }
+        size = buffer.getInt(6);
+        buckets = buffer.getInt(10);
+        final int charsLength = buffer.getInt(14);
+
+        seedsOffset = HEADER_SIZE;
+        valuesOffset = seedsOffset + buckets * 4;
+        keysOffset = valuesOffset + size * 4;
+        charsOffset = keysOffset + (size + 1) * 4;
+        if (size <= 0 || buckets <= 0 || buffer.capacity() < charsOffset + charsLength * 2) {
+            throw new IOException("Truncated emoji table");
+        }
+    }
+
+    /**
+     * @param buffer the table, a mapped file or a heap buffer. It's used as it is, not copied.
+     */
+    @NonNull
+    public static EmojiTable wrap(@NonNull ByteBuffer buffer) throws IOException {
+        return new EmojiTable(buffer.duplicate());
+    }
+
+    /**
+     * Reads the whole stream at once, it isn't closed.
+     */
+    @NonNull
+    public static EmojiTable read(@NonNull InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(in.available(), 8192));
+        final byte[] chunk = new byte[8192];
+        int read;
+        while ((read = in.read(chunk)) != -1) {
+            out.write(chunk, 0, read);
+        }
+        return new EmojiTable(ByteBuffer.wrap(out.toByteArray()));
+    }
+
+    /**
+     * @return the number of the keys, slots are in [0, size).
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the slot of the key, or -1 if the table doesn't have it.
+     */
+    public int getSlot(@NonNull CharSequence key) {
+        return getSlot(key, 0, key.length());
+    }
+
+    /**
+     * @return the slot of the key between start and end, or -1 if the table doesn't have it.
+     */
+    public int getSlot(@NonNull CharSequence key, int start, int end) {
+        if (start >= end) return -1;
+        final int bucket = (hash(key, start, end, 0) & 0x7FFFFFFF) % buckets;
+        final int seed = buffer.getInt(seedsOffset + bucket * 4);
+        final int slot = (hash(key, start, end, seed) & 0x7FFFFFFF) % size;
+
+        final int keyStart = buffer.getInt(keysOffset + slot * 4);
+        final int keyEnd = buffer.getInt(keysOffset + slot * 4 + 4);
+        if (keyEnd - keyStart != end - start) return -1;
+        for (int i = 0; i < end - start; i++) {
+            if (buffer.getChar(charsOffset + (keyStart + i) * 2) != key.charAt(start + i)) return -1;
+        }
+        return slot;
+    }
+
+    /**
+     * @return the value of the key, or {@link #NO_VALUE}.
+     */
+    public int get(@NonNull CharSequence key) {
+        final int slot = getSlot(key);
+        return slot < 0 ? NO_VALUE : getValue(slot);
+    }
+
+    public int getValue(int slot) {
+        return buffer.getInt(valuesOffset + slot * 4);
+    }
+
+    /**
+     * @return the key of the slot, creates a String.
+     */
+    @NonNull
+    public String getKey(int slot) {
+        final int keyStart = buffer.getInt(keysOffset + slot * 4);
+        final int keyEnd = buffer.getInt(keysOffset + slot * 4 + 4);
+        final char[] chars = new char[keyEnd - keyStart];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = buffer.getChar(charsOffset + (keyStart + i) * 2);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Seeded hash of the chars between start and end, the writer and the reader must agree on it.
+     */
+    static int hash(CharSequence key, int start, int end, int seed) {
+        int h = 0x811C9DC5 ^ (seed * 0x9E3779B9);
+        for (int i = start; i < end; i++) {
+            h ^= key.charAt(i);
+            h *= 0x01000193;
+        }
+        // murmur3 finalizer, the chars of emojis differ in a few low bits only
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,168 @@
+package com.aghajari.emojiview.emoji;
+
+import androidx.annotation.NonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the minimal perfect hash table read by {@link EmojiTable} (hash and displace: the keys are split into
+ * small buckets, then each bucket, biggest first, gets the first seed which puts all of its keys in free slots).
+ *
+ * Runs at build time, {@link #main(String[])} writes the table of the emoji data.
+ */
+public final class EmojiTableWriter {
+    private static final int MAX_SEED = 1 << 24;
+
+    private EmojiTableWriter() {
+    }
+
+    /**
+     * Writes the table of the emoji data: every unicode of {@link EmojiDataTable#getData()} to {@code category << 16 | index},
+     * and the old unicodes of {@link EmojiDataIndex#getEmojiAliasMap()} to the value of their new unicode,
+     * so an alias is found with the same single lookup.
+     *
+     * @param args the output file.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("usage: EmojiTableWriter <output file>");
+        }
+        final File file = new File(args[0]);
+        final File parent = file.getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Can't create " + parent);
+        }
+
+        final OutputStream out = new BufferedOutputStream(new FileOutputStream(file));
+        try {
+            writeEmojiData(out);
+        } finally {
+            out.close();
+        }
+    }
+
+    public static void writeEmojiData(@NonNull OutputStream out) throws IOException {
+        final Map<String, Integer> entries = new LinkedHashMap<>();
+        final EmojiDataTable data = EmojiDataTable.getData();
+        for (int j = 0; j < data.getCategoryCount(); j++) {
+            for (int i = 0; i < data.size(j); i++) {
+                entries.put(data.get(j, i), (j << 16) | i);
+            }
+        }
+        for (int a = 0; a < EmojiDataIndex.Alias.oldCodes.length; a++) {
+            final Integer value = entries.get(EmojiDataIndex.Alias.newCodes[a]);
+            if (value != null && !entries.containsKey(EmojiDataIndex.Alias.oldCodes[a])) {
+                entries.put(EmojiDataIndex.Alias.oldCodes[a], value);
+            }
+        }
+
+        final List<String> keys = new ArrayList<>(entries.keySet());
+        final int[] values = new int[keys.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = entries.get(keys.get(i));
+        }
+        write(keys, values, out);
+    }
+
+    /**
+     * @param keys   distinct, non-empty keys.
+     * @param values the value of each key.
+     */
+    public static void write(@NonNull List<String> keys, @NonNull int[] values, @NonNull OutputStream out) throws IOException {
+        final int size = keys.size();
+        if (size == 0 || size != values.length) {
+            throw new IllegalArgumentException("keys and values must have the same, non-zero size.");
+        }
+        final int buckets = Math.max(1, (size + 2) / 3);
+
+        final List<List<Integer>> bucketKeys = new ArrayList<>(buckets);
+        for (int b = 0; b < buckets; b++) {
+            bucketKeys.add(new ArrayList<Integer>(4));
+        }
+        for (int k = 0; k < size; k++) {
+            final String key = keys.get(k);
+            bucketKeys.get((EmojiTable.hash(key, 0, key.length(), 0) & 0x7FFFFFFF) % buckets).add(k);
+        }
+
+        final Integer[] order = new Integer[buckets];
+        for (int b = 0; b < buckets; b++) order[b] = b;
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer first, Integer second) {
+                return bucketKeys.get(second).size() - bucketKeys.get(first).size();
+            }
+        });
+
+        final int[] seeds = new int[buckets];
+        final int[] slotKeys = new int[size];
+        Arrays.fill(slotKeys, -1);
+        final int[] candidate = new int[size];
+
+        for (int b : order) {
+            final List<Integer> members = bucketKeys.get(b);
+            if (members.isEmpty()) break;
+
+            int seed = 1;
+            while (!place(keys, members, seed, slotKeys, candidate)) {
+                if (++seed >= MAX_SEED) throw new IllegalStateException("Couldn't build the emoji table.");
+            }
+            seeds[b] = seed;
+            for (int m = 0; m < members.size(); m++) {
+                slotKeys[candidate[m]] = members.get(m);
+            }
+        }
+
+        final ByteArrayOutputStream chars = new ByteArrayOutputStream(size * 8);
+        final DataOutputStream charsOut = new DataOutputStream(chars);
+        final int[] keyStarts = new int[size + 1];
+        int charsLength = 0;
+        for (int slot = 0; slot < size; slot++) {
+            final String key = keys.get(slotKeys[slot]);
+            keyStarts[slot] = charsLength;
+            charsOut.writeChars(key);
+            charsLength += key.length();
+        }
+        keyStarts[size] = charsLength;
+
+        final DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(EmojiTable.MAGIC);
+        data.writeShort(EmojiTable.VERSION);
+        data.writeInt(size);
+        data.writeInt(buckets);
+        data.writeInt(charsLength);
+        for (int seed : seeds) data.writeInt(seed);
+        for (int slot = 0; slot < size; slot++) data.writeInt(values[slotKeys[slot]]);
+        for (int start : keyStarts) data.writeInt(start);
+        chars.writeTo(data);
+        data.flush();
+    }
+
+    /**
+     * @return true if the seed puts every key of the bucket in a distinct free slot, the slots are in candidate.
+     */
+    private static boolean place(List<String> keys, List<Integer> members, int seed, int[] slotKeys, int[] candidate) {
+        final int size = slotKeys.length;
+        for (int m = 0; m < members.size(); m++) {
+            final String key = keys.get(members.get(m));
+            final int slot = (EmojiTable.hash(key, 0, key.length(), seed) & 0x7FFFFFFF) % size;
+            if (slotKeys[slot] != -1) return false;
+            for (int p = 0; p < m; p++) {
+                if (candidate[p] == slot) return false;
+            }
+            candidate[m] = slot;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,194 @@
+package com.aghajari.emojiview.emoji;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.aghajari.emojiview.utils.EmojiMatcher;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The unicodes of a set of emojis by dense int ids, with a matcher to find them in a text.
+ * It knows nothing about drawables or views, so it can count, validate and index emojis on any JVM.
+ *
+ * A base unicode is followed by its variants, {@link #getBaseId(int)} maps a variant to its base.
+ * The registry keeps the Strings it's given, which are usually kept by the emojis too. The unicodes of
+ * {@link #getEmojiDataRegistry()} have no emojis to keep them, they're a pool of the chars of {@link EmojiDataTable#getData()}.
+ * The registry doesn't change after it's created.
+ */
+public final class EmojiUnicodeRegistry {
+    private static EmojiUnicodeRegistry emojiData;
+
+    /* the unicodes, either the given Strings or the items of the pool */
+    private final List<String> unicodes;
+    /* null if the registry keeps the given Strings */
+    private final EmojiStringPool pool;
+    private final int[] baseIds;
+    private final EmojiMatcher matcher;
+
+    /**
+     * @param unicodes the unicode of each id, the Strings are kept as they are.
+     * @param baseIds  the id of the base of each id, the id itself for a base unicode.
+     */
+    public EmojiUnicodeRegistry(@NonNull List<String> unicodes, @NonNull int[] baseIds) {
+        this(Collections.unmodifiableList(Arrays.asList(unicodes.toArray(new String[0]))), null, baseIds.clone());
+    }
+
+    private EmojiUnicodeRegistry(@NonNull List<String> unicodes, @Nullable EmojiStringPool pool, @NonNull int[] baseIds) {
+        if (unicodes.size() != baseIds.length) {
+            throw new IllegalArgumentException("unicodes and baseIds must have the same size.");
+        }
+        this.unicodes = unicodes;
+        this.pool = pool;
+        this.baseIds = baseIds;
+        // The matcher always takes the longest unicode at each position, its ids are the registry ids.
+        this.matcher = new EmojiMatcher(unicodes);
+    }
+
+    /**
+     * @return the emojis of {@link EmojiDataTable#getReleaseData()} followed by their skin tones,
+     * the same emojis the iOS provider installs. Created once on first use.
+     */
+    @NonNull
+    public static synchronized EmojiUnicodeRegistry getEmojiDataRegistry() {
+        if (emojiData == null) {
+            // every unicode, the skin tones too, is an emoji of the data table, the registry only keeps their index
+            final EmojiDataTable release = EmojiDataTable.getReleaseData();
+            final EmojiDataTable data = EmojiDataTable.getData();
+            int[] dataIndexes = new int[release.getItems().size() * 2];
+            int[] baseIds = new int[dataIndexes.length];
+            int size = 0;
+
+            for (int c = 0; c < release.getCategoryCount(); c++) {
+                for (int i = 0; i < release.size(c); i++) {
+                    final String code = release.get(c, i);
+                    if (size + EmojiNormalizer.SKIN_TONES.length + 1 > baseIds.length) {
+                        dataIndexes = Arrays.copyOf(dataIndexes, dataIndexes.length * 2);
+                        baseIds = Arrays.copyOf(baseIds, baseIds.length * 2);
+                    }
+
+                    final int baseId = size;
+                    dataIndexes[size] = indexOf(data, code);
+                    baseIds[size++] = baseId;
+                    if (EmojiDataIndex.isColoredEmoji(code)) {
+                        for (String color : EmojiNormalizer.SKIN_TONES) {
+                            dataIndexes[size] = indexOf(data, EmojiNormalizer.setSkinTone(code, color));
+                            baseIds[size++] = baseId;
+                        }
+                    }
+                }
+            }
+
+            final EmojiStringPool pool = data.getItems().select(Arrays.copyOf(dataIndexes, size));
+            emojiData = new EmojiUnicodeRegistry(pool.asList(), pool, Arrays.copyOf(baseIds, size));
+        }
+        return emojiData;
+    }
+
+    private static int indexOf(EmojiDataTable data, String code) {
+        final int index = data.indexOf(code);
+        if (index < 0) throw new IllegalStateException("The emoji data has no " + code);
+        return index;
+    }
+
+    /**
+     * @return the number of the unicodes, ids are in [0, size).
+     */
+    public int size() {
+        return baseIds.length;
+    }
+
+    /**
+     * @return the unicode of the id, creates a String if the unicodes are pooled.
+     */
+    @NonNull
+    public String getUnicode(int id) {
+        return unicodes.get(id);
+    }
+
+    /**
+     * @return true if the unicode of the id is equal to the text, without creating a String.
+     */
+    public boolean unicodeEquals(int id, @NonNull CharSequence text) {
+        if (pool != null) return pool.contentEquals(id, text);
+        return unicodes.get(id).contentEquals(text);
+    }
+
+    /**
+     * @return the id of the base of the id, the id itself if it's a base unicode.
+     */
+    public int getBaseId(int id) {
+        return baseIds[id];
+    }
+
+    /**
+     * @return a read-only view of the unicodes, the index of each one is its id.
+     * Each get creates a String if the unicodes are pooled.
+     */
+    @NonNull
+    public List<String> getUnicodes() {
+        return unicodes;
+    }
+
+    @NonNull
+    public EmojiMatcher getMatcher() {
+        return matcher;
+    }
+
+    /**
+     * @return id of the unicode which is exactly equal to the given key, or -1.
+     */
+    public int indexOf(@NonNull CharSequence key) {
+        return matcher.indexOf(key);
+    }
+
+    /**
+     * @return the number of emojis found in the text.
+     */
+    public int count(@Nullable CharSequence text) {
+        if (text == null || text.length() == 0) return 0;
+        return matcher.count(text);
+    }
+
+    /**
+     * Fills the ranges with (start, end, id) triples, see {@link EmojiMatcher#find(CharSequence, int, int, int[])}.
+     *
+     * @return the number of emojis found between start and end.
+     */
+    public int find(@NonNull CharSequence text, int start, int end, @NonNull int[] ranges) {
+        if (start >= end) return 0;
+        return matcher.find(text, start, end, ranges);
+    }
+
+    /**
+     * @return true when the text contains only emojis, whitespace is skipped.
+     */
+    public boolean isOnlyEmojis(@Nullable CharSequence text) {
+        if (text == null) return false;
+        final int length = text.length();
+        boolean hasEmoji = false;
+
+        for (int i = 0; i < length; ) {
+            if (isWhitespace(text.charAt(i))) {
+                i++;
+                continue;
+            }
+
+            final long match = matcher.matchAt(text, i, length);
+            if (match == EmojiMatcher.NO_MATCH) {
+                return false;
+            }
+            hasEmoji = true;
+            i += EmojiMatcher.getLength(match);
+        }
+
+        return hasEmoji;
+    }
+
+    /** same characters as the regex {@code \s} */
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
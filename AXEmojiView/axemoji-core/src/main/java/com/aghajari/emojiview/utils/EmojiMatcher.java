@@ -0,0 +1,254 @@
+package com.aghajari.emojiview.utils;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compiled char-level trie over every emoji unicode (including variants).
+ * Finds the longest emoji starting at a position without backtracking, so a whole
+ * text can be scanned in a single linear pass.
+ *
+ * Every key gets the id of its index in the list passed to {@link #EmojiMatcher(List)}.
+ */
+public final class EmojiMatcher {
+    public static final long NO_MATCH = -1L;
+
+    private static final int NO_VALUE = -1;
+
+    /* flattened trie: edges of node n are at [edgeStart[n], edgeStart[n + 1]), sorted by char */
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] values;
+
+    /* bitset of every char that starts at least one key, to skip plain text quickly */
+    private final long[] firstChars = new long[1024];
+    private final int maxLength;
+    private final int size;
+
+    public EmojiMatcher(@NonNull final List<String> keys) {
+        final Node root = new Node();
+        int longest = 0;
+
+        final int keysSize = keys.size();
+        for (int i = 0; i < keysSize; i++) {
+            final String key = keys.get(i);
+            if (key.length() == 0) continue;
+
+            Node node = root;
+            for (int j = 0; j < key.length(); j++) {
+                final char c = key.charAt(j);
+                Node child = node.children.get(c);
+                if (child == null) {
+                    child = new Node();
+                    node.children.put(c, child);
+                }
+                node = child;
+            }
+            node.value = i;
+            longest = Math.max(longest, key.length());
+            firstChars[key.charAt(0) >>> 6] |= 1L << key.charAt(0);
+        }
+
+        // breadth-first numbering keeps the children of a node next to each other
+        final List<Node> nodes = new ArrayList<>();
+        root.index = 0;
+        nodes.add(root);
+        int edges = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            for (Node child : nodes.get(i).children.values()) {
+                child.index = nodes.size();
+                nodes.add(child);
+                edges++;
+            }
+        }
+
+        edgeStart = new int[nodes.size() + 1];
+        edgeChars = new char[edges];
+        edgeTargets = new int[edges];
+        values = new int[nodes.size()];
+
+        int edge = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            final Node node = nodes.get(i);
+            edgeStart[i] = edge;
+            values[i] = node.value;
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                edgeChars[edge] = entry.getKey();
+                edgeTargets[edge] = entry.getValue().index;
+                edge++;
+            }
+        }
+        edgeStart[nodes.size()] = edge;
+
+        this.maxLength = longest;
+        this.size = keysSize;
+    }
+
+    /**
+     * Finds the longest emoji that starts exactly at {@code index}.
+     *
+     * @return {@link #NO_MATCH}, or the id and length of the emoji packed in a long.
+     * Use {@link #getId(long)} and {@link #getLength(long)} to read them.
+     */
+    public long matchAt(@NonNull final CharSequence text, final int index, final int end) {
+        final char first = text.charAt(index);
+        if ((firstChars[first >>> 6] & (1L << first)) == 0) {
+            return NO_MATCH;
+        }
+
+        int node = 0;
+        int matchedValue = NO_VALUE;
+        int matchedLength = 0;
+
+        for (int i = index; i < end; i++) {
+            node = child(node, text.charAt(i));
+            if (node < 0) break;
+
+            if (values[node] != NO_VALUE) {
+                matchedValue = values[node];
+                matchedLength = i - index + 1;
+            }
+        }
+
+        if (matchedValue == NO_VALUE) return NO_MATCH;
+        return ((long) matchedValue << 32) | matchedLength;
+    }
+
+    /**
+     * @return id of the emoji which is exactly equal to the given key, or -1.
+     */
+    public int indexOf(@NonNull final CharSequence key) {
+        final int length = key.length();
+        if (length == 0 || length > maxLength) return NO_VALUE;
+
+        int node = 0;
+        for (int i = 0; i < length; i++) {
+            node = child(node, key.charAt(i));
+            if (node < 0) return NO_VALUE;
+        }
+        return values[node];
+    }
+
+    /**
+     * Reports every emoji between start and end to the callback, scanning from left to right
+     * and always taking the longest emoji at each position. Doesn't allocate anything.
+     */
+    public void scan(@NonNull final CharSequence text, final int start, final int end, @NonNull final Callback callback) {
+        for (int i = start; i < end; ) {
+            final long match = matchAt(text, i, end);
+            if (match == NO_MATCH) {
+                i++;
+            } else {
+                final int matchEnd = i + getLength(match);
+                callback.onEmojiFound(i, matchEnd, getId(match));
+                i = matchEnd;
+            }
+        }
+    }
+
+    /**
+     * Fills the ranges with (start, end, id) triples of the emojis found between start and end.
+     * Only the first {@code ranges.length / 3} emojis are written, but all of them are counted,
+     * so the caller can grow its buffer and scan again if the result is bigger than the capacity.
+     *
+     * @return the number of emojis found.
+     */
+    public int find(@NonNull final CharSequence text, final int start, final int end, @NonNull final int[] ranges) {
+        final int capacity = ranges.length / 3;
+        int count = 0;
+
+        for (int i = start; i < end; ) {
+            final long match = matchAt(text, i, end);
+            if (match == NO_MATCH) {
+                i++;
+            } else {
+                final int matchEnd = i + getLength(match);
+                if (count < capacity) {
+                    final int index = count * 3;
+                    ranges[index] = i;
+                    ranges[index + 1] = matchEnd;
+                    ranges[index + 2] = getId(match);
+                }
+                count++;
+                i = matchEnd;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of emojis found in the text, scanning from left to right
+     * and always taking the longest emoji at each position.
+     */
+    public int count(@NonNull final CharSequence text) {
+        final int length = text.length();
+        int count = 0;
+
+        for (int i = 0; i < length; ) {
+            final long match = matchAt(text, i, length);
+            if (match == NO_MATCH) {
+                i++;
+            } else {
+                count++;
+                i += getLength(match);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the length of the longest key.
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * @return the number of keys this matcher was built with.
+     */
+    public int size() {
+        return size;
+    }
+
+    public static int getId(final long match) {
+        return (int) (match >>> 32);
+    }
+
+    public static int getLength(final long match) {
+        return (int) match;
+    }
+
+    private int child(final int node, final char c) {
+        int low = edgeStart[node];
+        int high = edgeStart[node + 1] - 1;
+
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final char midChar = edgeChars[mid];
+
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    public interface Callback {
+        void onEmojiFound(int start, int end, int id);
+    }
+
+    private static final class Node {
+        final TreeMap<Character, Node> children = new TreeMap<>();
+        int value = NO_VALUE;
+        int index;
+    }
+}
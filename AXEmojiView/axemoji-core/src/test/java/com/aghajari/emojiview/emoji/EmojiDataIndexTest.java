@@ -0,0 +1,45 @@
+package com.aghajari.emojiview.emoji;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class EmojiDataIndexTest {
+
+    @Test
+    public void findsTheCharsOfTheData() {
+        for (char c = 0; c < Character.MAX_VALUE; c++) {
+            assertEquals(EmojiDataIndex.getEmojiToFE0FMap().containsKey(c), EmojiDataIndex.needsFE0F(c));
+            assertEquals(EmojiDataIndex.getDataCharsMap().containsKey(c), EmojiDataIndex.isDataChar(c));
+        }
+    }
+
+    @Test
+    public void findsTheColoredEmojisAndTheAliases() {
+        assertTrue(EmojiDataIndex.isColoredEmoji("👍"));
+        assertTrue(EmojiDataIndex.isColoredEmoji("👍🏽"));
+        assertFalse(EmojiDataIndex.isColoredEmoji("😀"));
+        assertTrue(EmojiDataIndex.isBigColoredEmoji("👫"));
+        assertEquals("👱‍♂", EmojiDataIndex.getAlias("👱"));
+        assertNull(EmojiDataIndex.getAlias("😀"));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void keepsTheFieldsOfEmojiData() {
+        assertEquals(EmojiData.emojiToFE0FMap, EmojiDataIndex.getEmojiToFE0FMap());
+        assertEquals(EmojiData.dataCharsMap, EmojiDataIndex.getDataCharsMap());
+        assertEquals(EmojiData.emojiColoredMap, EmojiDataIndex.getEmojiColoredMap());
+        assertEquals(EmojiData.emojiBigColoredMap, EmojiDataIndex.getEmojiBigColoredMap());
+        assertEquals(EmojiData.emojiAliasMap, EmojiDataIndex.getEmojiAliasMap());
+        assertEquals(EmojiData.emojiColored.length, EmojiDataIndex.getEmojiColoredMap().size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void sharesTheMapsReadOnly() {
+        EmojiDataIndex.getEmojiAliasMap().put("😀", "😃");
+    }
+}
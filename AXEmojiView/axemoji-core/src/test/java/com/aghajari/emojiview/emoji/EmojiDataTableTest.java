@@ -0,0 +1,80 @@
+package com.aghajari.emojiview.emoji;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class EmojiDataTableTest {
+
+    @Test
+    public void keepsTheCategoriesOfTheTables() {
+        assertSizes(EmojiDataTable.getData(), 1620, 184, 115, 328, 125, 207, 288, 258);
+        assertSizes(EmojiDataTable.getReleaseData(), 435, 184, 115, 113, 125, 207, 288, 258);
+        assertSizes(EmojiDataTable.getDataColored(), 435, 184, 115, 113, 125, 202, 288, 258);
+        assertEquals("Smileys and people", EmojiDataTable.getCategoryTitle(0));
+        assertEquals("Flags", EmojiDataTable.getCategoryTitle(7));
+    }
+
+    @Test
+    public void findsEveryEmojiOfTheData() {
+        final EmojiDataTable data = EmojiDataTable.getData();
+        for (int c = 0; c < data.getCategoryCount(); c++) {
+            for (int i = 0; i < data.size(c); i++) {
+                final int item = data.getItemIndex(c, i);
+                assertEquals(item, data.indexOf(new StringBuilder(data.get(c, i))));
+                assertEquals(c, data.getCategory(item));
+            }
+        }
+        assertEquals(-1, data.indexOf("a"));
+        assertEquals(-1, data.indexOf(""));
+    }
+
+    @Test
+    public void hasTheSkinTonesOfTheReleaseData() {
+        final EmojiDataTable release = EmojiDataTable.getReleaseData();
+        for (int c = 0; c < release.getCategoryCount(); c++) {
+            for (int i = 0; i < release.size(c); i++) {
+                final String code = release.get(c, i);
+                assertTrue(code, EmojiDataTable.getData().indexOf(code) >= 0);
+                if (!EmojiDataIndex.isColoredEmoji(code)) continue;
+                for (String color : EmojiNormalizer.SKIN_TONES) {
+                    assertTrue(code + color, EmojiDataTable.getData().indexOf(EmojiNormalizer.setSkinTone(code, color)) >= 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void sharesTheCharsOfTheBlob() {
+        final EmojiStringPool data = EmojiDataTable.getData().getItems();
+        // every emoji of the other tables is in the data
+        assertEquals(data.getCharCount(), EmojiDataTable.getReleaseData().getItems().getCharCount());
+        assertEquals(data.getCharCount(), EmojiDataTable.getDataColored().getItems().getCharCount());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void keepsTheTablesOfEmojiData() {
+        assertArrayEquals(EmojiData.data, EmojiDataTable.getData().toArrays());
+        assertArrayEquals(EmojiData.releaseData, EmojiDataTable.getReleaseData().toArrays());
+        assertArrayEquals(EmojiData.dataColored, EmojiDataTable.getDataColored().toArrays());
+        assertEquals(EmojiDataTable.getData().getCategoryCount(), EmojiData.titles.length);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void rejectsAnIndexOutOfTheCategory() {
+        EmojiDataTable.getData().get(1, 184);
+    }
+
+    private static void assertSizes(EmojiDataTable table, int... sizes) {
+        assertEquals(sizes.length, table.getCategoryCount());
+        int total = 0;
+        for (int c = 0; c < sizes.length; c++) {
+            assertEquals(sizes[c], table.size(c));
+            total += sizes[c];
+        }
+        assertEquals(total, table.getItems().size());
+    }
+}
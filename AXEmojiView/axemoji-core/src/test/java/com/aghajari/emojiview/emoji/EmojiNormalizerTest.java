@@ -0,0 +1,51 @@
+package com.aghajari.emojiview.emoji;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class EmojiNormalizerTest {
+    private static final String THUMBS_UP = "👍";
+    private static final String MEDIUM = "🏽";
+    private static final String DARK = "🏿";
+
+    @Test
+    public void findsKeyBaseAndSkinTone() {
+        final String manTechnologist = "👨\u200D💻";
+        final String toned = "👨" + DARK + "\u200D💻";
+
+        assertEquals(toned, EmojiNormalizer.toKey(toned + "\uFE0F").toString());
+        assertEquals(manTechnologist, EmojiNormalizer.removeSkinTones(toned));
+        assertEquals(4, EmojiNormalizer.getSkinToneIndex(toned));
+        assertEquals(-1, EmojiNormalizer.getSkinToneIndex("❤\uFE0F"));
+        assertSame(manTechnologist, EmojiNormalizer.removeSkinTones(manTechnologist));
+    }
+
+    @Test
+    public void keepsTheSkinToneHelpers() {
+        final String toned = THUMBS_UP + MEDIUM;
+        assertEquals(MEDIUM, EmojiData.getEmojiColor(toned));
+        assertNull(EmojiData.getEmojiColor(THUMBS_UP));
+        assertEquals(THUMBS_UP, EmojiData.getBaseEmoji(toned));
+        assertSame(THUMBS_UP, EmojiData.getBaseEmoji(THUMBS_UP));
+        assertTrue(EmojiData.isColoredEmoji(toned));
+        assertEquals(toned, EmojiData.addColorToCode(THUMBS_UP + DARK, MEDIUM));
+
+        final String womanRunning = "🏃\u200D♀";
+        assertEquals("🏃" + MEDIUM + "\u200D♀", EmojiData.addColorToCode(womanRunning, MEDIUM));
+        // the lightest one, as the replace chain did
+        assertEquals(MEDIUM, EmojiData.getEmojiColor("🧑" + MEDIUM + "\u200D🤝\u200D🧑" + DARK));
+    }
+
+    @Test
+    public void addsFE0FOnce() {
+        assertEquals("☺\uFE0F", EmojiNormalizer.fixEmoji("☺"));
+        assertEquals("☺\uFE0F", EmojiNormalizer.fixEmoji("☺\uFE0F"));
+        assertSame(THUMBS_UP, EmojiNormalizer.fixEmoji(THUMBS_UP));
+        assertSame(THUMBS_UP, EmojiNormalizer.toKey(THUMBS_UP));
+        assertEquals("☺", EmojiNormalizer.toKey("☺\uFE0F"));
+    }
+}
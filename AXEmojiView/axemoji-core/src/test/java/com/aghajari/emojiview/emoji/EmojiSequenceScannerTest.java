@@ -0,0 +1,105 @@
+package com.aghajari.emojiview.emoji;
+
+import androidx.annotation.NonNull;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class EmojiSequenceScannerTest {
+
+    private static List<String> scan(String text, int[] emojiOnly) {
+        final List<String> result = new ArrayList<>();
+        EmojiSequenceScanner.scan(text, 0, text.length(), emojiOnly, new EmojiSequenceScanner.Callback() {
+            @Override
+            public boolean onSequenceFound(int start, int end, @NonNull CharSequence code) {
+                result.add(start + ":" + end + ":" + code);
+                return true;
+            }
+        });
+        return result;
+    }
+
+    @Test
+    public void findsSequences() {
+        final String face = "😀";
+        final String family = "👨‍👩‍👧";
+        final String flag = "🇮🇷";
+        final String thumb = "👍🏽";
+
+        final String text = "a" + face + " " + family + flag + "#⃣" + thumb;
+        final List<String> found = scan(text, null);
+
+        assertEquals(5, found.size());
+        assertEquals("1:3:" + face, found.get(0));
+        assertEquals("4:12:" + family, found.get(1));
+        assertEquals("12:16:" + flag, found.get(2));
+        assertEquals("16:18:#⃣", found.get(3));
+        assertEquals("18:22:" + thumb, found.get(4));
+    }
+
+    @Test
+    public void countsEmojiOnly() {
+        final int[] emojiOnly = new int[1];
+        scan("😀❤️😀", emojiOnly);
+        assertEquals(3, emojiOnly[0]);
+
+        emojiOnly[0] = 0;
+        scan("😀 ok", emojiOnly);
+        assertEquals(0, emojiOnly[0]);
+    }
+
+    @Test
+    public void stopsWhenAsked() {
+        final String text = "😀😀😀";
+        final int[] calls = new int[1];
+        EmojiSequenceScanner.scan(text, 0, text.length(), null, new EmojiSequenceScanner.Callback() {
+            @Override
+            public boolean onSequenceFound(int start, int end, @NonNull CharSequence code) {
+                return ++calls[0] < 2;
+            }
+        });
+        assertEquals(2, calls[0]);
+    }
+
+    @Test
+    public void scansAgainInACallback() {
+        final String text = "😀a👍🏽";
+        final List<String> nested = new ArrayList<>();
+        final List<String> found = new ArrayList<>();
+        EmojiSequenceScanner.scan(text, 0, text.length(), null, new EmojiSequenceScanner.Callback() {
+            @Override
+            public boolean onSequenceFound(int start, int end, @NonNull CharSequence code) {
+                // the nested scan has its own code, the outer one keeps its own
+                nested.addAll(scan("🇮🇷", null));
+                found.add(start + ":" + end + ":" + code);
+                return true;
+            }
+        });
+
+        assertEquals(2, found.size());
+        assertEquals("0:2:😀", found.get(0));
+        assertEquals("3:7:👍🏽", found.get(1));
+        assertEquals("0:4:🇮🇷", nested.get(1));
+        // the next scan of the thread reuses its scanner from an empty code
+        assertEquals("0:2:😀", scan("😀", null).get(0));
+    }
+
+    @Test
+    public void registryOfEmojiData() {
+        final EmojiUnicodeRegistry registry = EmojiUnicodeRegistry.getEmojiDataRegistry();
+        final int id = registry.indexOf("👍🏽");
+        assertTrue(id >= 0);
+        assertEquals(registry.indexOf("👍"), registry.getBaseId(id));
+
+        assertEquals(2, registry.count("hi 👍🏽 and 😀"));
+        assertTrue(registry.isOnlyEmojis("👍🏽 😀"));
+        assertFalse(registry.isOnlyEmojis("👍🏽 ok"));
+        assertEquals("\uD83C\uDE2F\uFE0F", EmojiNormalizer.fixEmoji("\uD83C\uDE2F"));
+    }
+}
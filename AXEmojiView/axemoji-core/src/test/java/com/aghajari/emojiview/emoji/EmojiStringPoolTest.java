@@ -0,0 +1,56 @@
+package com.aghajari.emojiview.emoji;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class EmojiStringPoolTest {
+
+    @Test
+    public void keepsEveryUnicodeOfTheRegistry() {
+        final EmojiUnicodeRegistry registry = EmojiUnicodeRegistry.getEmojiDataRegistry();
+        final EmojiDataTable release = EmojiDataTable.getReleaseData();
+        int expected = 0;
+        for (int c = 0; c < release.getCategoryCount(); c++) {
+            for (int i = 0; i < release.size(c); i++) {
+                final String code = release.get(c, i);
+                assertEquals(code, registry.getUnicode(registry.indexOf(code)));
+                assertTrue(registry.unicodeEquals(registry.indexOf(code), code));
+                expected += EmojiDataIndex.isColoredEmoji(code) ? 6 : 1;
+            }
+        }
+        assertEquals(expected, registry.size());
+    }
+
+    @Test
+    public void sharesTheCharsOfEqualStrings() {
+        final EmojiStringPool.Builder builder = new EmojiStringPool.Builder(2);
+        assertEquals(0, builder.add("ab"));
+        assertEquals(1, builder.add("c"));
+        assertEquals(2, builder.add("ab"));
+        assertEquals(3, builder.add(""));
+        final EmojiStringPool pool = builder.build();
+
+        assertEquals(4, pool.size());
+        assertEquals(3, pool.getCharCount());
+        assertEquals("ab", pool.get(2));
+        assertEquals('b', pool.charAt(2, 1));
+        assertEquals(0, pool.length(3));
+        assertTrue(pool.contentEquals(0, "ab"));
+        assertFalse(pool.contentEquals(0, "ac"));
+
+        final List<String> list = pool.asList();
+        assertEquals(4, list.size());
+        assertEquals("c", list.get(1));
+        assertEquals(2, list.lastIndexOf("ab"));
+
+        final EmojiStringPool selected = pool.select(new int[]{1, 0});
+        assertEquals(3, selected.getCharCount());
+        assertEquals("c", selected.get(0));
+        assertTrue(selected.contentEquals(1, "ab"));
+    }
+}
@@ -0,0 +1,113 @@
+package com.aghajari.emojiview.emoji;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+public class EmojiTableTest {
+    private static EmojiTable table;
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        EmojiTableWriter.writeEmojiData(out);
+        table = EmojiTable.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    @Test
+    public void findsEveryEmoji() {
+        final Map<String, Integer> expected = new HashMap<>();
+        for (int j = 0; j < EmojiData.data.length; j++) {
+            for (int i = 0; i < EmojiData.data[j].length; i++) {
+                expected.put(EmojiData.data[j][i], (j << 16) | i);
+            }
+        }
+        for (Map.Entry<String, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getKey(), (int) entry.getValue(), table.get(entry.getKey()));
+        }
+    }
+
+    @Test
+    public void findsAliases() {
+        final Set<String> data = new HashSet<>();
+        for (String[] category : EmojiData.data) {
+            Collections.addAll(data, category);
+        }
+        for (int a = 0; a < EmojiData.aliasOld.length; a++) {
+            final int value = table.get(EmojiData.aliasNew[a]);
+            // an old unicode which is in the data keeps its own image
+            if (value != EmojiTable.NO_VALUE && !data.contains(EmojiData.aliasOld[a])) {
+                assertEquals(value, table.get(EmojiData.aliasOld[a]));
+            }
+        }
+    }
+
+    @Test
+    public void missesOtherKeys() {
+        assertEquals(EmojiTable.NO_VALUE, table.get("a"));
+        assertEquals(EmojiTable.NO_VALUE, table.get("😀😀"));
+        assertEquals(EmojiTable.NO_VALUE, table.get(new StringBuilder("x😀").subSequence(0, 1)));
+        assertEquals(table.get("😀"), table.get(new StringBuilder("😀")));
+    }
+
+    @Test
+    public void scansSlots() {
+        final String face = "\uD83D\uDE00";
+        final String text = "a" + face + " " + face + "\uD83C\uDDEE\uD83C\uDDF7";
+        final int[] ranges = new int[3];
+
+        assertEquals(3, EmojiSequenceScanner.findAll(text, 0, text.length(), table, ranges));
+        assertEquals(1, ranges[0]);
+        assertEquals(3, ranges[1]);
+        assertEquals(table.getSlot(face), ranges[2]);
+    }
+
+    @Test
+    public void findsTheRangesTheScanRenders() {
+        // rainbow flag, eye in speech bubble, detective, heart, keycap, flag, tag sequence
+        final String[] samples = {
+                "\uD83C\uDFF3\uFE0F\u200D\uD83C\uDF08",
+                "\uD83D\uDC41\uFE0F\u200D\uD83D\uDDE8\uFE0F",
+                "\uD83D\uDD75\uFE0F\u200D\u2642\uFE0F",
+                "\u2764\uFE0F",
+                "1\uFE0F\u20E3",
+                "\uD83C\uDDEE\uD83C\uDDF7",
+                "\uD83C\uDFF4\uDB40\uDC67\uDB40\uDC62\uDB40\uDC65\uDB40\uDC6E\uDB40\uDC67\uDB40\uDC7F"
+        };
+        final StringBuilder text = new StringBuilder();
+        for (String sample : samples) {
+            final int[] ranges = new int[3];
+            assertEquals(sample, 1, EmojiSequenceScanner.findAll(sample, 0, sample.length(), table, ranges));
+            assertEquals(sample, 0, ranges[0]);
+            assertEquals(sample, sample.length(), ranges[1]);
+            text.append(sample).append(' ');
+        }
+
+        final List<Integer> scanned = new ArrayList<>();
+        EmojiSequenceScanner.scan(text, 0, text.length(), null, table, new EmojiSequenceScanner.SlotCallback() {
+            @Override
+            public boolean onEmojiFound(int start, int end, int slot) {
+                Collections.addAll(scanned, start, end, slot);
+                return true;
+            }
+        });
+        final int[] ranges = new int[samples.length * 3];
+        assertEquals(samples.length, EmojiSequenceScanner.findAll(text, 0, text.length(), table, ranges));
+        assertEquals(scanned.size(), ranges.length);
+        for (int i = 0; i < ranges.length; i++) {
+            assertEquals((int) scanned.get(i), ranges[i]);
+        }
+    }
+}
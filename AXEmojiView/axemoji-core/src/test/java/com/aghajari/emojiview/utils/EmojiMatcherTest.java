@@ -0,0 +1,177 @@
+package com.aghajari.emojiview.utils;
+
+import com.aghajari.emojiview.emoji.EmojiData;
+import com.aghajari.emojiview.emoji.EmojiDataTable;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks {@link EmojiMatcher} against the regex alternation that AXEmojiManager used to compile
+ * (emojiPattern and emojiRepetitivePattern), on the unicodes of the iOS provider.
+ * The timings are measured by EmojiScanBenchmark of axemoji-benchmarks.
+ */
+public class EmojiMatcherTest {
+    private static final String[] SKIN_TONES = {"🏻", "🏼", "🏽", "🏾", "🏿"};
+
+    private static List<String> unicodes;
+    private static EmojiMatcher matcher;
+    private static Pattern emojiPattern;
+    private static Pattern emojiRepetitivePattern;
+
+    @BeforeClass
+    public static void setUp() {
+        unicodes = new ArrayList<>();
+        final EmojiDataTable release = EmojiDataTable.getReleaseData();
+        for (int c = 0; c < release.getCategoryCount(); c++) {
+            for (int i = 0; i < release.size(c); i++) {
+                final String code = release.get(c, i);
+                unicodes.add(code);
+                if (EmojiData.isColoredEmoji(code)) {
+                    for (String color : SKIN_TONES) {
+                        unicodes.add(EmojiData.addColorToCode(code, color));
+                    }
+                }
+            }
+        }
+        matcher = new EmojiMatcher(unicodes);
+
+        final List<String> sorted = new ArrayList<>(unicodes);
+        Collections.sort(sorted, new Comparator<String>() {
+            @Override
+            public int compare(String first, String second) {
+                return second.length() - first.length();
+            }
+        });
+        final StringBuilder builder = new StringBuilder();
+        for (String unicode : sorted) {
+            builder.append(Pattern.quote(unicode)).append('|');
+        }
+        final String regex = builder.deleteCharAt(builder.length() - 1).toString();
+        emojiPattern = Pattern.compile(regex);
+        emojiRepetitivePattern = Pattern.compile('(' + regex + ")+");
+    }
+
+    @Test
+    public void matchesEveryUnicode() {
+        for (String unicode : unicodes) {
+            final long match = matcher.matchAt(unicode, 0, unicode.length());
+            assertEquals(unicode, unicode.length(), EmojiMatcher.getLength(match));
+            assertEquals(unicode, unicodes.get(EmojiMatcher.getId(match)));
+        }
+    }
+
+    @Test
+    public void findsNothingInPlainText() {
+        final String text = corpus(8, 0);
+        assertEquals(findWithRegex(text), findWithMatcher(text));
+        assertEquals(0, matcher.count(text));
+    }
+
+    @Test
+    public void findsTheEmojisOfChatMessages() {
+        final String text = corpus(8, 2);
+        assertEquals(findWithRegex(text), findWithMatcher(text));
+    }
+
+    @Test
+    public void findsTheEmojisOfEmojiHeavyText() {
+        final String text = corpus(1, 6);
+        assertEquals(findWithRegex(text), findWithMatcher(text));
+    }
+
+    @Test
+    public void findsTheLongestEmojiOfBrokenSequences() {
+        // cut sequences, a skin tone or a joiner on its own, a tag without its flag
+        final String text = "👨‍👩‍ 👨‍👩‍👧‍ 🏽 ‍👧 👍🏽🏽 1⃣ #️ 🏴󠁧󠁢 🇮🇷🇮";
+        assertEquals(findWithRegex(text), findWithMatcher(text));
+    }
+
+    @Test
+    public void matchesOnlyEmojis() {
+        final Random random = new Random(7);
+        for (int test = 0; test < 50; test++) {
+            final StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < 40; i++) {
+                builder.append(unicodes.get(random.nextInt(unicodes.size())));
+            }
+            if (test % 2 == 1) {
+                builder.insert(random.nextInt(builder.length()), 'a');
+            }
+            final String text = builder.toString();
+            assertEquals(text, emojiRepetitivePattern.matcher(text).matches(), onlyEmojis(text));
+        }
+        assertTrue(onlyEmojis("😀😀"));
+        assertFalse(onlyEmojis("😀 😀"));
+        assertFalse(onlyEmojis(""));
+    }
+
+    /* start:end:unicode of each emoji, the unicodes have duplicates so their ids aren't compared */
+    private static List<String> findWithRegex(CharSequence text) {
+        final List<String> result = new ArrayList<>();
+        final Matcher m = emojiPattern.matcher(text);
+        while (m.find()) {
+            result.add(m.start() + ":" + m.end() + ":" + m.group());
+        }
+        return result;
+    }
+
+    private static List<String> findWithMatcher(CharSequence text) {
+        final int[] ranges = new int[text.length() * 3];
+        final int count = matcher.find(text, 0, text.length(), ranges);
+        final List<String> result = new ArrayList<>();
+        for (int i = 0; i < count * 3; i += 3) {
+            final String unicode = unicodes.get(ranges[i + 2]);
+            assertEquals(unicode, text.subSequence(ranges[i], ranges[i + 1]).toString());
+            result.add(ranges[i] + ":" + ranges[i + 1] + ":" + unicode);
+        }
+        assertEquals(count, matcher.count(text));
+        return result;
+    }
+
+    private static boolean onlyEmojis(CharSequence text) {
+        final int length = text.length();
+        for (int i = 0; i < length; ) {
+            final long match = matcher.matchAt(text, i, length);
+            if (match == EmojiMatcher.NO_MATCH) return false;
+            i += EmojiMatcher.getLength(match);
+        }
+        return length > 0;
+    }
+
+    /**
+     * Builds a conversation-like text of 200 messages.
+     *
+     * @param words  words per message
+     * @param emojis emojis per message
+     */
+    private static String corpus(int words, int emojis) {
+        final String[] dictionary = {"hey", "what's", "up", "see", "you", "tomorrow", "at", "10",
+                "lol", "ok", "#1", "thanks!", "the", "meeting", "moved", "to", "3pm", "(c)", "great"};
+        final Random random = new Random(42);
+        final StringBuilder builder = new StringBuilder();
+
+        for (int message = 0; message < 200; message++) {
+            for (int i = 0; i < words; i++) {
+                builder.append(dictionary[random.nextInt(dictionary.length)]).append(' ');
+            }
+            for (int i = 0; i < emojis; i++) {
+                builder.append(unicodes.get(random.nextInt(unicodes.size())));
+            }
+            builder.append('\n');
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,159 @@
+package com.aghajari.emojiview.build;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Packs the emoji images named {@code <category>_<index>.png} into a few atlas pages per category
+ * and writes the binary index which AXIOSEmojiLoader reads to find the rect of each emoji.
+ *
+ * Index format (big endian, as written by DataOutputStream):
+ * <pre>
+ * int   MAGIC
+ * short VERSION
+ * byte  categories
+ * for each category:
+ *   short pages
+ *   short emojis
+ *   for each emoji: byte page, short x, short y, short width, short height
+ * </pre>
+ * Pages are written to {@code atlas/<category>_<page>.png}.
+ */
+public final class EmojiAtlasPacker {
+    public static final int MAGIC = 0x41584541; // "AXEA"
+    public static final short VERSION = 1;
+    public static final String INDEX_NAME = "atlas.idx";
+    public static final String PAGES_FOLDER = "atlas";
+
+    private static final Pattern NAME = Pattern.compile("(\\d+)_(\\d+)\\.png");
+
+    private final int maxPageSize;
+
+    public EmojiAtlasPacker(int maxPageSize) {
+        this.maxPageSize = maxPageSize;
+    }
+
+    public void pack(File sourceDir, File outputDir) throws IOException {
+        final TreeMap<Integer, TreeMap<Integer, File>> categories = new TreeMap<>();
+        final File[] files = sourceDir.listFiles();
+        if (files == null) throw new IOException("Can't list " + sourceDir);
+
+        for (File file : files) {
+            final Matcher matcher = NAME.matcher(file.getName());
+            if (!matcher.matches()) continue;
+
+            final int category = Integer.parseInt(matcher.group(1));
+            TreeMap<Integer, File> emojis = categories.get(category);
+            if (emojis == null) {
+                emojis = new TreeMap<>();
+                categories.put(category, emojis);
+            }
+            emojis.put(Integer.parseInt(matcher.group(2)), file);
+        }
+        if (categories.isEmpty()) throw new IOException("No emoji found in " + sourceDir);
+        if (categories.lastKey() != categories.size() - 1) {
+            throw new IOException("Emoji categories must be numbered from 0 without gaps");
+        }
+
+        final File pagesDir = new File(outputDir, PAGES_FOLDER);
+        if (!pagesDir.isDirectory() && !pagesDir.mkdirs()) throw new IOException("Can't create " + pagesDir);
+
+        final DataOutputStream index = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(new File(outputDir, INDEX_NAME))));
+        try {
+            index.writeInt(MAGIC);
+            index.writeShort(VERSION);
+            index.writeByte(categories.size());
+
+            for (int category = 0; category < categories.size(); category++) {
+                packCategory(category, categories.get(category), pagesDir, index);
+            }
+        } finally {
+            index.close();
+        }
+    }
+
+    private void packCategory(int category, TreeMap<Integer, File> emojis, File pagesDir, DataOutputStream index) throws IOException {
+        if (emojis.lastKey() != emojis.size() - 1) {
+            throw new IOException("Emojis of category " + category + " must be numbered from 0 without gaps");
+        }
+
+        final int count = emojis.size();
+        final BufferedImage[] images = new BufferedImage[count];
+        final int[] pages = new int[count];
+        final int[] xs = new int[count];
+        final int[] ys = new int[count];
+
+        // shelf packing: left to right in rows, a new page when the next row doesn't fit
+        final List<int[]> pageSizes = new ArrayList<>();
+        int page = 0, x = 0, y = 0, rowHeight = 0, pageWidth = 0;
+
+        for (int i = 0; i < count; i++) {
+            final File file = emojis.get(i);
+            final BufferedImage image = ImageIO.read(file);
+            if (image == null) throw new IOException("Can't decode " + file);
+            if (image.getWidth() > maxPageSize || image.getHeight() > maxPageSize) {
+                throw new IOException(file + " is bigger than the max page size");
+            }
+
+            if (x + image.getWidth() > maxPageSize) {
+                x = 0;
+                y += rowHeight;
+                rowHeight = 0;
+            }
+            if (y + image.getHeight() > maxPageSize) {
+                // the open row, if any, is the last one of the page
+                pageSizes.add(new int[]{pageWidth, x > 0 ? y + rowHeight : y});
+                page++;
+                x = y = rowHeight = pageWidth = 0;
+            }
+
+            images[i] = image;
+            pages[i] = page;
+            xs[i] = x;
+            ys[i] = y;
+
+            x += image.getWidth();
+            rowHeight = Math.max(rowHeight, image.getHeight());
+            pageWidth = Math.max(pageWidth, x);
+        }
+        pageSizes.add(new int[]{pageWidth, y + rowHeight});
+        if (pageSizes.size() > Byte.MAX_VALUE) throw new IOException("Too many pages for category " + category);
+
+        for (int p = 0; p < pageSizes.size(); p++) {
+            final BufferedImage atlas = new BufferedImage(pageSizes.get(p)[0], pageSizes.get(p)[1], BufferedImage.TYPE_INT_ARGB);
+            final Graphics2D graphics = atlas.createGraphics();
+            for (int i = 0; i < count; i++) {
+                if (pages[i] == p) {
+                    graphics.drawImage(images[i], xs[i], ys[i], null);
+                }
+            }
+            graphics.dispose();
+            final File out = new File(pagesDir, String.format(Locale.US, "%d_%d.png", category, p));
+            if (!ImageIO.write(atlas, "png", out)) throw new IOException("Can't write " + out);
+        }
+
+        index.writeShort(pageSizes.size());
+        index.writeShort(count);
+        for (int i = 0; i < count; i++) {
+            index.writeByte(pages[i]);
+            index.writeShort(xs[i]);
+            index.writeShort(ys[i]);
+            index.writeShort(images[i].getWidth());
+            index.writeShort(images[i].getHeight());
+        }
+    }
+}
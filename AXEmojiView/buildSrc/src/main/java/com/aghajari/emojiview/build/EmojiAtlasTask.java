@@ -0,0 +1,59 @@
+package com.aghajari.emojiview.build;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputDirectory;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.TaskAction;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Packs the emoji PNGs of sourceDir into atlas pages and an index, see {@link EmojiAtlasPacker}.
+ * The output directory is meant to be added to the assets of the library.
+ */
+public class EmojiAtlasTask extends DefaultTask {
+    private File sourceDir;
+    private File outputDir;
+    private int maxPageSize = 1024;
+
+    @InputDirectory
+    public File getSourceDir() {
+        return sourceDir;
+    }
+
+    public void setSourceDir(File sourceDir) {
+        this.sourceDir = sourceDir;
+    }
+
+    /**
+     * Folder of the assets, the atlas is written to its {@code emoji} sub folder.
+     */
+    @OutputDirectory
+    public File getOutputDir() {
+        return outputDir;
+    }
+
+    public void setOutputDir(File outputDir) {
+        this.outputDir = outputDir;
+    }
+
+    @Input
+    public int getMaxPageSize() {
+        return maxPageSize;
+    }
+
+    public void setMaxPageSize(int maxPageSize) {
+        this.maxPageSize = maxPageSize;
+    }
+
+    @TaskAction
+    public void pack() throws IOException {
+        final File emojiDir = new File(outputDir, "emoji");
+        getProject().delete(emojiDir);
+        if (!emojiDir.mkdirs()) throw new IOException("Can't create " + emojiDir);
+
+        new EmojiAtlasPacker(maxPageSize).pack(sourceDir, emojiDir);
+    }
+}
@@ -0,0 +1,44 @@
+package com.aghajari.emojiview.build;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.tasks.InputFile;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.TaskAction;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Generates EmojiDataBlob from the emoji tables of sourceFile, see {@link EmojiDataBlobWriter}.
+ * The output directory is meant to be added to the java sources of axemoji-core.
+ */
+public class EmojiDataBlobTask extends DefaultTask {
+    private File sourceFile;
+    private File outputDir;
+
+    @InputFile
+    public File getSourceFile() {
+        return sourceFile;
+    }
+
+    public void setSourceFile(File sourceFile) {
+        this.sourceFile = sourceFile;
+    }
+
+    @OutputDirectory
+    public File getOutputDir() {
+        return outputDir;
+    }
+
+    public void setOutputDir(File outputDir) {
+        this.outputDir = outputDir;
+    }
+
+    @TaskAction
+    public void generate() throws IOException {
+        getProject().delete(outputDir);
+        if (!outputDir.mkdirs()) throw new IOException("Can't create " + outputDir);
+
+        new EmojiDataBlobWriter().write(sourceFile, outputDir);
+    }
+}
@@ -0,0 +1,179 @@
+package com.aghajari.emojiview.build;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Generates the Java source of {@code EmojiDataBlob} of axemoji-core from the emoji tables of a text file.
+ *
+ * Source format (UTF-8):
+ * <pre>
+ * # comment
+ * [tableName]
+ * 😀 😃 😄        (a category, the emojis are separated by a space)
+ * </pre>
+ * Every emoji is stored once in the blob, whichever tables have it. The tables only keep the index of their emojis
+ * in the blob, each index and length is written as a char of a String constant, so the class has no array initializer
+ * of thousands of elements and nothing is created for them when the class loads.
+ */
+public final class EmojiDataBlobWriter {
+    public static final String PACKAGE = "com.aghajari.emojiview.emoji";
+    public static final String CLASS_NAME = "EmojiDataBlob";
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    /* a char takes up to 3 bytes in the class file and a String constant up to 65535 bytes */
+    private static final int MAX_CONSTANT_LENGTH = 65535 / 3;
+
+    /**
+     * @return the categories of each table by name, in the order of the file.
+     */
+    public static Map<String, List<String[]>> read(File source) throws IOException {
+        final LinkedHashMap<String, List<String[]>> tables = new LinkedHashMap<>();
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(source), UTF_8));
+        try {
+            List<String[]> table = null;
+            String line;
+            int number = 0;
+            while ((line = reader.readLine()) != null) {
+                number++;
+                if (line.isEmpty() || line.startsWith("# ")) continue;
+
+                if (line.startsWith("[") && line.endsWith("]")) {
+                    final String name = line.substring(1, line.length() - 1);
+                    if (!name.matches("[a-z][A-Za-z0-9]*")) throw new IOException(source + ":" + number + ": bad table name " + name);
+                    if (tables.containsKey(name)) throw new IOException(source + ":" + number + ": " + name + " is already defined");
+                    table = new ArrayList<>();
+                    tables.put(name, table);
+                } else if (table == null) {
+                    throw new IOException(source + ":" + number + ": a category must follow a [table]");
+                } else {
+                    final String[] emojis = line.split(" ");
+                    for (String emoji : emojis) {
+                        if (emoji.isEmpty()) throw new IOException(source + ":" + number + ": emojis must be separated by a single space");
+                        if (emoji.length() > Character.MAX_VALUE) throw new IOException(source + ":" + number + ": too long");
+                    }
+                    table.add(emojis);
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        if (tables.isEmpty()) throw new IOException("No table found in " + source);
+        return tables;
+    }
+
+    public void write(File source, File outputDir) throws IOException {
+        final Map<String, List<String[]>> tables = read(source);
+
+        final StringBuilder chars = new StringBuilder();
+        final StringBuilder lengths = new StringBuilder();
+        final HashMap<String, Integer> indexes = new HashMap<>();
+        final List<String> categorySizes = new ArrayList<>();
+        final List<String> items = new ArrayList<>();
+
+        for (List<String[]> table : tables.values()) {
+            final StringBuilder sizes = new StringBuilder();
+            final StringBuilder tableItems = new StringBuilder();
+            for (String[] category : table) {
+                if (category.length > Character.MAX_VALUE) throw new IOException("Too many emojis in a category");
+                sizes.append((char) category.length);
+                for (String emoji : category) {
+                    Integer index = indexes.get(emoji);
+                    if (index == null) {
+                        index = indexes.size();
+                        if (index > Character.MAX_VALUE) throw new IOException("Too many emojis");
+                        indexes.put(emoji, index);
+                        chars.append(emoji);
+                        lengths.append((char) emoji.length());
+                    }
+                    tableItems.append((char) index.intValue());
+                }
+            }
+            categorySizes.add(sizes.toString());
+            items.add(tableItems.toString());
+        }
+
+        final File packageDir = new File(outputDir, PACKAGE.replace('.', File.separatorChar));
+        if (!packageDir.isDirectory() && !packageDir.mkdirs()) throw new IOException("Can't create " + packageDir);
+        final Writer out = new OutputStreamWriter(new FileOutputStream(new File(packageDir, CLASS_NAME + ".java")), UTF_8);
+        try {
+            out.write("package " + PACKAGE + ";\n\n");
+            out.write("// Generated by EmojiDataBlobTask from " + source.getName() + ", don't edit.\n");
+            out.write("final class " + CLASS_NAME + " {\n");
+
+            int table = 0;
+            for (String name : tables.keySet()) {
+                out.write("    static final int " + toConstantName(name) + " = " + table++ + ";\n");
+            }
+
+            out.write("\n    /* the chars of every emoji once, one after another, split in constants which fit a class file */\n");
+            out.write("    static final String[] CHARS = {");
+            for (int start = 0; start < chars.length(); start += MAX_CONSTANT_LENGTH) {
+                if (start > 0) out.write(",");
+                out.write("\n            " + quote(chars.substring(start, Math.min(chars.length(), start + MAX_CONSTANT_LENGTH))));
+            }
+            out.write("\n    };\n\n");
+
+            out.write("    /* the length of each emoji of CHARS */\n");
+            out.write("    static final String LENGTHS = " + quote(lengths) + ";\n\n");
+            out.write("    /* the number of the emojis of each category, by table */\n");
+            writeArray(out, "CATEGORY_SIZES", categorySizes);
+            out.write("    /* the index in LENGTHS of each emoji of the categories, by table */\n");
+            writeArray(out, "ITEMS", items);
+
+            out.write("    private " + CLASS_NAME + "() {\n    }\n}\n");
+        } finally {
+            out.close();
+        }
+    }
+
+    private static void writeArray(Writer out, String name, List<String> values) throws IOException {
+        out.write("    static final String[] " + name + " = {");
+        for (int i = 0; i < values.size(); i++) {
+            if (values.get(i).length() > MAX_CONSTANT_LENGTH) throw new IOException("Too many emojis in a table");
+            out.write((i > 0 ? "," : "") + "\n            " + quote(values.get(i)));
+        }
+        out.write("\n    };\n\n");
+    }
+
+    /* releaseData -> RELEASE_DATA */
+    static String toConstantName(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.US);
+    }
+
+    /*
+     * a Java literal of the chars, everything but printable ASCII is escaped so the source is ASCII.
+     * unicode escapes are translated before the source is parsed, so the line breaks, quotes and backslashes can't use them
+     */
+    static String quote(CharSequence value) {
+        final StringBuilder builder = new StringBuilder(value.length() * 6 + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '\n') {
+                builder.append("\\n");
+            } else if (c == '\r') {
+                builder.append("\\r");
+            } else if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c >= 0x20 && c < 0x7F) {
+                builder.append(c);
+            } else {
+                builder.append(String.format(Locale.US, "\\u%04X", (int) c));
+            }
+        }
+        return builder.append('"').toString();
+    }
+}
@@ -0,0 +1,110 @@
+package com.aghajari.emojiview.build;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class EmojiAtlasPackerTest {
+    private static final int MAX_PAGE_SIZE = 64;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void keepsTheOpenRowOfAClosedPage() throws IOException {
+        // emojis of mixed heights, the 4th fits the open second row but not the page
+        final int[][] sizes = {{30, 20}, {30, 20}, {30, 30}, {20, 50}, {20, 10}, {20, 40}, {30, 20}, {40, 60}, {10, 10}};
+        final int[][] rects = pack(sizes);
+
+        assertTrue(pageCount() > 1);
+        for (int i = 0; i < rects.length; i++) {
+            final BufferedImage page = ImageIO.read(new File(folder.getRoot(), "out/atlas/0_" + rects[i][0] + ".png"));
+            // every emoji is inside its page and keeps its own pixels
+            assertTrue("emoji " + i + " is cut", rects[i][1] + rects[i][3] <= page.getWidth() && rects[i][2] + rects[i][4] <= page.getHeight());
+            assertEquals(sizes[i][0], rects[i][3]);
+            assertEquals(sizes[i][1], rects[i][4]);
+            for (int px = 0; px < rects[i][3]; px++) {
+                for (int py = 0; py < rects[i][4]; py++) {
+                    assertEquals(colorOf(i), page.getRGB(rects[i][1] + px, rects[i][2] + py));
+                }
+            }
+            for (int j = 0; j < i; j++) {
+                assertFalse("emojis " + j + " and " + i + " overlap", rects[i][0] == rects[j][0]
+                        && rects[i][1] < rects[j][1] + rects[j][3] && rects[j][1] < rects[i][1] + rects[i][3]
+                        && rects[i][2] < rects[j][2] + rects[j][4] && rects[j][2] < rects[i][2] + rects[i][4]);
+            }
+        }
+    }
+
+    @Test
+    public void startsANewRowAtTheBottomOfTheTallestEmoji() throws IOException {
+        final int[][] rects = pack(new int[][]{{30, 10}, {30, 25}, {30, 10}});
+
+        assertEquals(1, pageCount());
+        assertEquals(0, rects[2][1]);
+        assertEquals(25, rects[2][2]);
+    }
+
+    /* packs the emojis of the sizes as category 0, returns the {page, x, y, width, height} of each */
+    private int[][] pack(int[][] sizes) throws IOException {
+        final File source = folder.newFolder("source");
+        final File out = folder.newFolder("out");
+        for (int i = 0; i < sizes.length; i++) {
+            final BufferedImage image = new BufferedImage(sizes[i][0], sizes[i][1], BufferedImage.TYPE_INT_ARGB);
+            for (int x = 0; x < image.getWidth(); x++) {
+                for (int y = 0; y < image.getHeight(); y++) {
+                    image.setRGB(x, y, colorOf(i));
+                }
+            }
+            ImageIO.write(image, "png", new File(source, "0_" + i + ".png"));
+        }
+        new EmojiAtlasPacker(MAX_PAGE_SIZE).pack(source, out);
+
+        final DataInputStream index = new DataInputStream(new BufferedInputStream(
+                new FileInputStream(new File(out, EmojiAtlasPacker.INDEX_NAME))));
+        try {
+            assertEquals(EmojiAtlasPacker.MAGIC, index.readInt());
+            assertEquals(EmojiAtlasPacker.VERSION, index.readShort());
+            assertEquals(1, index.readByte());
+            final int pages = index.readShort();
+            assertEquals(sizes.length, index.readShort());
+
+            final int[][] rects = new int[sizes.length][];
+            for (int i = 0; i < sizes.length; i++) {
+                rects[i] = new int[]{index.readByte(), index.readShort(), index.readShort(), index.readShort(), index.readShort()};
+                assertTrue(rects[i][0] < pages);
+            }
+            return rects;
+        } finally {
+            index.close();
+        }
+    }
+
+    private int pageCount() {
+        final List<String> pages = new ArrayList<>();
+        final String[] names = new File(folder.getRoot(), "out/" + EmojiAtlasPacker.PAGES_FOLDER).list();
+        for (String name : names) {
+            if (name.endsWith(".png")) pages.add(name);
+        }
+        return pages.size();
+    }
+
+    private static int colorOf(int emoji) {
+        return 0xFF000000 | (emoji + 1) * 0x1F3D5B;
+    }
+}
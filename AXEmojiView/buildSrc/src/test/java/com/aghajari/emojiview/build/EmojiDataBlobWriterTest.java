@@ -0,0 +1,87 @@
+package com.aghajari.emojiview.build;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class EmojiDataBlobWriterTest {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void readsTheCategoriesOfEachTable() throws IOException {
+        final Map<String, List<String[]>> tables = EmojiDataBlobWriter.read(source("# comment\n[data]\n😀 😃\n☺\n\n[releaseData]\n😃\n"));
+
+        assertArrayEquals(new String[]{"data", "releaseData"}, tables.keySet().toArray());
+        assertEquals(2, tables.get("data").size());
+        assertArrayEquals(new String[]{"😀", "😃"}, tables.get("data").get(0));
+        assertArrayEquals(new String[]{"☺"}, tables.get("data").get(1));
+        assertArrayEquals(new String[]{"😃"}, tables.get("releaseData").get(0));
+    }
+
+    @Test
+    public void writesEveryEmojiOnce() throws IOException {
+        final File output = folder.newFolder("out");
+        new EmojiDataBlobWriter().write(source("[data]\n😀 ☺\n😃\n[releaseData]\n😃 😀\n"), output);
+
+        final String java = new String(Files.readAllBytes(new File(output,
+                "com/aghajari/emojiview/emoji/EmojiDataBlob.java").toPath()), UTF_8);
+        assertTrue(java.contains("static final int DATA = 0;"));
+        assertTrue(java.contains("static final int RELEASE_DATA = 1;"));
+        assertTrue(java.contains(EmojiDataBlobWriter.quote("😀☺😃")));
+        assertTrue(java.contains("LENGTHS = " + EmojiDataBlobWriter.quote("\u0002\u0001\u0002")));
+        assertTrue(java.contains(EmojiDataBlobWriter.quote("\u0002\u0001") + ",\n            " + EmojiDataBlobWriter.quote("\u0002")));
+        assertTrue(java.contains(EmojiDataBlobWriter.quote("\u0002\u0000")));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsACategoryBeforeATable() throws IOException {
+        EmojiDataBlobWriter.read(source("😀\n[data]\n"));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsTwoSpaces() throws IOException {
+        EmojiDataBlobWriter.read(source("[data]\n😀  😃\n"));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsATableDefinedTwice() throws IOException {
+        EmojiDataBlobWriter.read(source("[data]\n😀\n[data]\n😃\n"));
+    }
+
+    @Test
+    public void quotesTheCharsAsAscii() {
+        assertEquals("RELEASE_DATA", EmojiDataBlobWriter.toConstantName("releaseData"));
+        assertEquals("DATA_COLORED", EmojiDataBlobWriter.toConstantName("dataColored"));
+        assertEquals("\"a\\uD83D\\uDE00\\u0001\"", EmojiDataBlobWriter.quote("a😀\u0001"));
+        // a unicode escape of these would break the literal
+        assertEquals("\"\\n\\r\\\"\\\\\"", EmojiDataBlobWriter.quote("\n\r\"\\"));
+    }
+
+    private File source(String text) throws IOException {
+        final File file = folder.newFile();
+        final Writer writer = new OutputStreamWriter(new FileOutputStream(file), UTF_8);
+        try {
+            writer.write(text);
+        } finally {
+            writer.close();
+        }
+        return file;
+    }
+}